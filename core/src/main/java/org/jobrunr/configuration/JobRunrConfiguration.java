@@ -5,6 +5,7 @@ import org.jobrunr.dashboard.JobRunrDashboardWebServerConfiguration;
 import org.jobrunr.jobs.details.CachingJobDetailsGenerator;
 import org.jobrunr.jobs.details.JobDetailsGenerator;
 import org.jobrunr.jobs.filters.JobFilter;
+import org.jobrunr.jobs.mappers.JobJsonCompression;
 import org.jobrunr.jobs.mappers.JobMapper;
 import org.jobrunr.scheduling.JobRequestScheduler;
 import org.jobrunr.scheduling.JobScheduler;
@@ -34,6 +35,7 @@ public class JobRunrConfiguration {
     JobActivator jobActivator;
     JsonMapper jsonMapper;
     JobMapper jobMapper;
+    JobJsonCompression jobJsonCompression;
     final List<JobFilter> jobFilters;
     JobDetailsGenerator jobDetailsGenerator;
     StorageProvider storageProvider;
@@ -51,7 +53,8 @@ public class JobRunrConfiguration {
 
     JobRunrConfiguration() {
         this.jsonMapper = JsonMapperFactory.createJsonMapper();
-        this.jobMapper = this.jsonMapper == null ? null : new JobMapper(jsonMapper);
+        this.jobJsonCompression = JobJsonCompression.NONE;
+        this.jobMapper = this.jsonMapper == null ? null : new JobMapper(jsonMapper, jobJsonCompression);
         this.jobDetailsGenerator = new CachingJobDetailsGenerator();
         this.jobFilters = new ArrayList<>();
     }
@@ -64,7 +67,20 @@ public class JobRunrConfiguration {
      */
     public JobRunrConfiguration useJsonMapper(JsonMapper jsonMapper) {
         this.jsonMapper = validateJsonMapper(jsonMapper);
-        this.jobMapper = new JobMapper(jsonMapper);
+        this.jobMapper = new JobMapper(jsonMapper, jobJsonCompression);
+        return this;
+    }
+
+    /**
+     * The {@link JobJsonCompression} to compress the json of the jobs in the database. Jobs that were stored without compression (or using
+     * another compression) can still be read.
+     *
+     * @param jobJsonCompression the {@link JobJsonCompression} to use
+     * @return the same configuration instance which provides a fluent api
+     */
+    public JobRunrConfiguration useJobJsonCompression(JobJsonCompression jobJsonCompression) {
+        this.jobJsonCompression = jobJsonCompression;
+        this.jobMapper = this.jsonMapper == null ? null : new JobMapper(jsonMapper, jobJsonCompression);
         return this;
     }
 
@@ -364,6 +380,10 @@ public class JobRunrConfiguration {
         ofNullable(microMeterIntegration).ifPresent(meterRegistry -> meterRegistry.initialize(storageProvider, backgroundJobServer));
         final JobScheduler jobScheduler = new JobScheduler(storageProvider, jobDetailsGenerator, jobFilters);
         final JobRequestScheduler jobRequestScheduler = new JobRequestScheduler(storageProvider, jobFilters);
+        if (backgroundJobServer != null) {
+            jobScheduler.setLocalBackgroundJobServer(backgroundJobServer);
+            jobRequestScheduler.setLocalBackgroundJobServer(backgroundJobServer);
+        }
         return new JobRunrConfigurationResult(jobScheduler, jobRequestScheduler, dashboardWebServer, backgroundJobServer);
     }
 
@@ -1,5 +1,6 @@
 package org.jobrunr.dashboard;
 
+import org.jobrunr.dashboard.server.http.HttpRequest;
 import org.jobrunr.dashboard.server.http.RestHttpHandler;
 import org.jobrunr.dashboard.server.http.handlers.HttpRequestHandler;
 import org.jobrunr.dashboard.ui.model.RecurringJobUIModel;
@@ -8,19 +9,23 @@ import org.jobrunr.dashboard.ui.model.problems.ProblemsManager;
 import org.jobrunr.jobs.Job;
 import org.jobrunr.jobs.RecurringJob;
 import org.jobrunr.jobs.states.StateName;
+import org.jobrunr.storage.CountPrecision;
 import org.jobrunr.storage.JobNotFoundException;
 import org.jobrunr.storage.JobRunrMetadata;
 import org.jobrunr.storage.Page;
 import org.jobrunr.storage.RecurringJobsResult;
 import org.jobrunr.storage.StorageProvider;
 import org.jobrunr.storage.ThreadSafeStorageProvider;
+import org.jobrunr.storage.navigation.CursorBasedPageRequest;
 import org.jobrunr.storage.navigation.OffsetBasedPageRequest;
+import org.jobrunr.storage.navigation.PageRequest;
 import org.jobrunr.utils.mapper.JsonMapper;
 
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+import static org.jobrunr.storage.navigation.AmountRequest.DEFAULT_LIMIT;
 import static org.jobrunr.utils.StringUtils.isNullOrEmpty;
 
 public class JobRunrApiHandler extends RestHttpHandler {
@@ -113,12 +118,31 @@ public class JobRunrApiHandler extends RestHttpHandler {
     }
 
     private HttpRequestHandler findJobByState() {
-        return (request, response) ->
-                response.asJson(
-                        storageProvider.getJobs(
-                                request.queryParam("state", StateName.class, StateName.ENQUEUED),
-                                request.fromQueryParams(OffsetBasedPageRequest.class)
-                        ));
+        return (request, response) -> {
+            final PageRequest pageRequest;
+            try {
+                pageRequest = jobsPageRequest(request);
+            } catch (IllegalArgumentException e) {
+                response.statusCode(400);
+                return;
+            }
+            response.asJson(
+                    storageProvider.getJobs(
+                            request.queryParam("state", StateName.class, StateName.ENQUEUED),
+                            pageRequest,
+                            CountPrecision.APPROXIMATE
+                    ));
+        };
+    }
+
+    private static PageRequest jobsPageRequest(HttpRequest request) {
+        // why: without an offset, the jobs are paged using a cursor. The cursor of the nextPageRequest seeks to the next page instead of skipping
+        // all jobs of the previous pages.
+        String cursor = request.queryParam("cursor", String.class, null);
+        if (cursor != null || request.queryParam("offset", Long.class, null) == null) {
+            return new CursorBasedPageRequest(request.queryParam("order", String.class, null), cursor, request.queryParam("limit", Integer.class, DEFAULT_LIMIT));
+        }
+        return request.fromQueryParams(OffsetBasedPageRequest.class);
     }
 
     private HttpRequestHandler getRecurringJobs() {
@@ -196,8 +220,10 @@ public class JobRunrApiHandler extends RestHttpHandler {
     }
 
     private RecurringJobsResult recurringJobResults() {
-        if (recurringJobsResult == null || storageProvider.recurringJobsUpdated(recurringJobsResult.getLastModifiedHash())) {
+        if (recurringJobsResult == null) {
             recurringJobsResult = storageProvider.getRecurringJobs();
+        } else if (storageProvider.recurringJobsUpdated(recurringJobsResult.getLastModifiedHash())) {
+            recurringJobsResult = storageProvider.getRecurringJobsChangedSince(recurringJobsResult);
         }
         return recurringJobsResult;
     }
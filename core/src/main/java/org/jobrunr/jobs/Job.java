@@ -30,6 +30,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
@@ -59,6 +60,8 @@ public class Job extends AbstractJob {
     private final ConcurrentMap<String, Object> metadata;
     private String recurringJobId;
     private final transient AtomicInteger stateIndexBeforeStateChange;
+    private final transient AtomicInteger amountOfStoredJobStates;
+    private final transient AtomicReference<StateName> storedState;
 
     public static UUID newUUID() {
         return UUID_FACTORY.create();
@@ -70,6 +73,8 @@ public class Job extends AbstractJob {
         this.jobHistory = new CopyOnWriteArrayList<>();
         this.metadata = new ConcurrentHashMap<>();
         this.stateIndexBeforeStateChange = new AtomicInteger(-1);
+        this.amountOfStoredJobStates = new AtomicInteger(-1);
+        this.storedState = new AtomicReference<>();
     }
 
     public Job(JobDetails jobDetails) {
@@ -98,6 +103,8 @@ public class Job extends AbstractJob {
         this.id = id != null ? id : newUUID();
         this.jobHistory = jobHistory;
         this.stateIndexBeforeStateChange = new AtomicInteger(version == 0 ? 0 : -1);
+        this.amountOfStoredJobStates = new AtomicInteger(-1);
+        this.storedState = new AtomicReference<>();
         this.metadata = metadata;
     }
 
@@ -147,6 +154,44 @@ public class Job extends AbstractJob {
         return getState().equals(state);
     }
 
+    /**
+     * This method is only to be called by JobRunr itself. Returns the amount of states of the job history that are already stored separately
+     * by the {@link org.jobrunr.storage.StorageProvider}, or -1 if it is not known.
+     *
+     * @return the amount of already stored job states or -1 if unknown
+     */
+    public int getAmountOfStoredJobStates() {
+        return amountOfStoredJobStates.get();
+    }
+
+    /**
+     * This method is only to be called by JobRunr itself.
+     *
+     * @param amountOfStoredJobStates the amount of states of the job history that are stored separately by the {@link org.jobrunr.storage.StorageProvider}
+     */
+    public void setAmountOfStoredJobStates(int amountOfStoredJobStates) {
+        this.amountOfStoredJobStates.set(amountOfStoredJobStates);
+    }
+
+    /**
+     * This method is only to be called by JobRunr itself. Returns the state of the job as it was last read from or saved by the
+     * {@link org.jobrunr.storage.StorageProvider}, or null if it is not known.
+     *
+     * @return the stored state of the job or null if unknown
+     */
+    public StateName getStoredState() {
+        return storedState.get();
+    }
+
+    /**
+     * This method is only to be called by JobRunr itself.
+     *
+     * @param storedState the state of the job as it was last read from or saved by the {@link org.jobrunr.storage.StorageProvider}
+     */
+    public void setStoredState(StateName storedState) {
+        this.storedState.set(storedState);
+    }
+
     public boolean hasStateChange() {
         int actualStateChanges = stateIndexBeforeStateChange.get();
         return actualStateChanges > -1 && jobHistory.size() > actualStateChanges;
@@ -0,0 +1,160 @@
+package org.jobrunr.jobs.mappers;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PushbackReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.Base64;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.jobrunr.JobRunrException.shouldNotHappenException;
+
+/**
+ * The compression that is applied to the json of a job before it is stored by the {@link org.jobrunr.storage.StorageProvider}.
+ * <p>
+ * A compressed job starts with a header identifying its compression (json never starts with it), so jobs that were stored uncompressed or
+ * using another compression can always be read, whatever compression is currently used.
+ */
+public enum JobJsonCompression {
+
+    /**
+     * The job is stored as plain json.
+     */
+    NONE(null) {
+        @Override
+        protected String compressJson(String json) {
+            return json;
+        }
+
+        @Override
+        protected String decompressJson(String compressedJson) {
+            return compressedJson;
+        }
+    },
+
+    /**
+     * The json of the job is compressed using Deflate and stored Base64 encoded, so it still fits in the existing text columns and fields.
+     * Jobs mostly contain repetitive class names and states and are typically compressed to less than a quarter of their size.
+     */
+    DEFLATE("#deflate:") {
+        @Override
+        protected String compressJson(String json) {
+            Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+            try {
+                deflater.setInput(json.getBytes(UTF_8));
+                deflater.finish();
+                ByteArrayOutputStream compressed = new ByteArrayOutputStream(json.length() / 4);
+                byte[] buffer = new byte[4096];
+                while (!deflater.finished()) {
+                    compressed.write(buffer, 0, deflater.deflate(buffer));
+                }
+                return Base64.getEncoder().encodeToString(compressed.toByteArray());
+            } finally {
+                deflater.end();
+            }
+        }
+
+        @Override
+        protected String decompressJson(String compressedJson) {
+            Inflater inflater = new Inflater();
+            try {
+                inflater.setInput(Base64.getDecoder().decode(compressedJson));
+                ByteArrayOutputStream json = new ByteArrayOutputStream(compressedJson.length() * 4);
+                byte[] buffer = new byte[4096];
+                while (!inflater.finished()) {
+                    int amountInflated = inflater.inflate(buffer);
+                    if (amountInflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                        throw shouldNotHappenException("The compressed job is truncated.");
+                    }
+                    json.write(buffer, 0, amountInflated);
+                }
+                return new String(json.toByteArray(), UTF_8);
+            } catch (DataFormatException e) {
+                throw shouldNotHappenException(e);
+            } finally {
+                inflater.end();
+            }
+        }
+    };
+
+    private static final int MAX_HEADER_LENGTH = 16;
+
+    private final String header;
+
+    JobJsonCompression(String header) {
+        this.header = header;
+    }
+
+    /**
+     * Compresses the given json of a job and prefixes it with the header of this compression.
+     *
+     * @param json the json of the job
+     * @return the compressed json as it must be stored
+     */
+    public String compress(String json) {
+        if (header == null) return json;
+        return header + compressJson(json);
+    }
+
+    /**
+     * Returns the json of a stored job, decompressing it using the compression identified by its header. Jobs without a header are returned as is.
+     *
+     * @param storedJson the json of the job as it was stored
+     * @return the json of the job
+     */
+    public static String decompress(String storedJson) {
+        for (JobJsonCompression compression : values()) {
+            if (compression.header != null && storedJson.startsWith(compression.header)) {
+                return compression.decompressJson(storedJson.substring(compression.header.length()));
+            }
+        }
+        return storedJson;
+    }
+
+    /**
+     * Returns a {@link Reader} of the json of a stored job, decompressing it using the compression identified by its header. Only the header
+     * is read ahead: jobs without a header are streamed as is.
+     *
+     * @param storedJson the reader of the json of the job as it was stored
+     * @return the reader of the json of the job
+     */
+    public static Reader decompress(Reader storedJson) {
+        try {
+            PushbackReader pushbackReader = new PushbackReader(storedJson, MAX_HEADER_LENGTH);
+            char[] headerBuffer = new char[MAX_HEADER_LENGTH];
+            int headerLength = 0;
+            int amountRead;
+            while (headerLength < MAX_HEADER_LENGTH && (amountRead = pushbackReader.read(headerBuffer, headerLength, MAX_HEADER_LENGTH - headerLength)) != -1) {
+                headerLength += amountRead;
+            }
+            String header = new String(headerBuffer, 0, headerLength);
+            for (JobJsonCompression compression : values()) {
+                if (compression.header != null && header.startsWith(compression.header)) {
+                    pushbackReader.unread(headerBuffer, compression.header.length(), headerLength - compression.header.length());
+                    return new StringReader(compression.decompressJson(readFully(pushbackReader)));
+                }
+            }
+            pushbackReader.unread(headerBuffer, 0, headerLength);
+            return pushbackReader;
+        } catch (IOException e) {
+            throw shouldNotHappenException(e);
+        }
+    }
+
+    private static String readFully(Reader reader) throws IOException {
+        StringBuilder result = new StringBuilder();
+        char[] buffer = new char[4096];
+        for (int amountRead = reader.read(buffer); amountRead != -1; amountRead = reader.read(buffer)) {
+            result.append(buffer, 0, amountRead);
+        }
+        return result.toString();
+    }
+
+    protected abstract String compressJson(String json);
+
+    protected abstract String decompressJson(String compressedJson);
+}
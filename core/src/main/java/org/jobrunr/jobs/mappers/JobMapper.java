@@ -2,22 +2,128 @@ package org.jobrunr.jobs.mappers;
 
 import org.jobrunr.jobs.Job;
 import org.jobrunr.jobs.RecurringJob;
+import org.jobrunr.jobs.states.DeletedState;
+import org.jobrunr.jobs.states.JobState;
+import org.jobrunr.jobs.states.ProcessingState;
+import org.jobrunr.jobs.states.StateName;
 import org.jobrunr.utils.mapper.JsonMapper;
 
+import java.io.Reader;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Collections.singletonList;
+import static org.jobrunr.utils.reflection.ReflectionUtils.toClass;
+
 public class JobMapper {
 
+    public static final String DELETED_SUCCEEDED_JOB_REASON = "JobRunr maintenance - deleting succeeded job";
+
     private final JsonMapper jsonMapper;
+    private final JobJsonCompression jobJsonCompression;
 
     public JobMapper(JsonMapper jsonMapper) {
+        this(jsonMapper, JobJsonCompression.NONE);
+    }
+
+    /**
+     * Creates a JobMapper that compresses the serialized jobs using the given {@link JobJsonCompression}. Jobs that were serialized without
+     * compression or using another compression can still be deserialized.
+     *
+     * @param jsonMapper         the {@link JsonMapper} to serialize the jobs
+     * @param jobJsonCompression the compression of the serialized jobs
+     */
+    public JobMapper(JsonMapper jsonMapper, JobJsonCompression jobJsonCompression) {
         this.jsonMapper = jsonMapper;
+        this.jobJsonCompression = jobJsonCompression;
     }
 
     public String serializeJob(Job job) {
-        return jsonMapper.serialize(job);
+        return jobJsonCompression.compress(jsonMapper.serialize(job));
     }
 
     public Job deserializeJob(String serializedJobAsString) {
-        return jsonMapper.deserialize(serializedJobAsString, Job.class);
+        return jsonMapper.deserialize(JobJsonCompression.decompress(serializedJobAsString), Job.class);
+    }
+
+    /**
+     * Deserializes the job read from the given {@link Reader} (e.g. the character stream of the jobAsJson column) without first reading it into a String.
+     *
+     * @param serializedJobReader the reader of the serialized job
+     * @return the deserialized job
+     */
+    public Job deserializeJob(Reader serializedJobReader) {
+        return jsonMapper.deserialize(JobJsonCompression.decompress(serializedJobReader), Job.class);
+    }
+
+    /**
+     * Serializes the job with only its current state. The previous states are not part of the result and must be stored separately
+     * (see {@link #serializeJobState(JobState)}).
+     *
+     * @param job the job to serialize
+     * @return the job as json containing only its current state
+     */
+    public String serializeJobWithoutJobHistory(Job job) {
+        return serializeJob(withJobHistory(job, singletonList(job.getJobState())));
+    }
+
+    public String serializeJobState(JobState jobState) {
+        return jsonMapper.serialize(jobState);
+    }
+
+    public JobState deserializeJobState(String jobStateClassName, String serializedJobStateAsString) {
+        return jsonMapper.deserialize(serializedJobStateAsString, toClass(jobStateClassName));
+    }
+
+    /**
+     * Returns a copy of the given job with the given job history.
+     *
+     * @param job        the job to copy
+     * @param jobHistory the full job history of the copy
+     * @return a copy of the job having the given job history
+     */
+    public Job withJobHistory(Job job, List<JobState> jobHistory) {
+        return withJobHistory(job, jobHistory, job.getVersion());
+    }
+
+    private static Job withJobHistory(Job job, List<JobState> jobHistory, int version) {
+        Job jobWithJobHistory = new Job(job.getId(), version, job.getJobDetails(), jobHistory, new ConcurrentHashMap<>(job.getMetadata()));
+        jobWithJobHistory.setJobName(job.getJobName());
+        jobWithJobHistory.setLabels(job.getLabels());
+        jobWithJobHistory.setAmountOfRetries(job.getAmountOfRetries());
+        jobWithJobHistory.setRecurringJobId(job.getRecurringJobId().orElse(null));
+        jobWithJobHistory.setStoredState(job.getStoredState());
+        return jobWithJobHistory;
+    }
+
+    /**
+     * Returns the given job with the state of the stored job, for the parts of that state that StorageProviders update without rewriting its jobAsJson:
+     * <ul>
+     *     <li>To delete succeeded jobs in bulk (see {@link org.jobrunr.storage.StorageProvider#deleteSucceededJobs(Instant, int)}), StorageProviders only
+     *     update the state, version and updatedAt of the stored job: if the stored state is DELETED but the deserialized job is not, the {@link DeletedState} is added here.</li>
+     *     <li>To keep jobs that are being processed alive (see {@link org.jobrunr.storage.StorageProvider#touchProcessingJobs(List, Instant)}), StorageProviders
+     *     only update the updatedAt of the stored job: the {@link ProcessingState} is given the updatedAt of the stored job here.</li>
+     * </ul>
+     *
+     * @param job             the job deserialized from its jobAsJson
+     * @param storedState     the state of the stored job
+     * @param storedVersion   the version of the stored job
+     * @param storedUpdatedAt the updatedAt of the stored job
+     * @return the job itself or a copy of the job having the {@link DeletedState} and version of the stored job
+     */
+    public Job withStateOfStoredJob(Job job, StateName storedState, int storedVersion, Instant storedUpdatedAt) {
+        if (storedState == StateName.PROCESSING && job.getState() == StateName.PROCESSING) {
+            ProcessingState processingState = job.getJobState();
+            if (storedUpdatedAt != null && storedUpdatedAt.isAfter(processingState.getUpdatedAt())) processingState.setUpdatedAt(storedUpdatedAt);
+            return job;
+        }
+        if (storedState != StateName.DELETED || job.getState() == StateName.DELETED) return job;
+
+        List<JobState> jobHistory = new ArrayList<>(job.getJobStates());
+        jobHistory.add(new DeletedState(DELETED_SUCCEEDED_JOB_REASON, storedUpdatedAt));
+        return withJobHistory(job, jobHistory, storedVersion);
     }
 
     public String serializeRecurringJob(RecurringJob job) {
@@ -12,6 +12,7 @@ import org.jobrunr.jobs.mappers.MDCMapper;
 import org.jobrunr.jobs.states.CarbonAwareAwaitingState;
 import org.jobrunr.jobs.states.ScheduledState;
 import org.jobrunr.scheduling.carbonaware.CarbonAwarePeriod;
+import org.jobrunr.server.BackgroundJobServer;
 import org.jobrunr.storage.ConcurrentJobModificationException;
 import org.jobrunr.storage.StorageProvider;
 import org.slf4j.Logger;
@@ -19,12 +20,19 @@ import org.slf4j.LoggerFactory;
 
 import java.time.ZoneId;
 import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
 import static org.jobrunr.jobs.RecurringJob.CreatedBy.API;
+import static java.util.stream.Collectors.toList;
 import static org.jobrunr.storage.StorageProvider.BATCH_SIZE;
 import static org.jobrunr.utils.InstantUtils.toInstant;
 import static org.jobrunr.utils.streams.StreamUtils.batchCollector;
@@ -35,6 +43,8 @@ public abstract class AbstractJobScheduler {
 
     private final StorageProvider storageProvider;
     private final JobFilterUtils jobFilterUtils;
+    private BackgroundJobServer localBackgroundJobServer;
+    private int bulkCreateParallelism = 1;
 
     /**
      * Creates a new AbstractJobScheduler using the provided storageProvider and the list of JobFilters
@@ -140,12 +150,81 @@ public abstract class AbstractJobScheduler {
         JobRunr.destroy();
     }
 
+    /**
+     * Registers the {@link BackgroundJobServer} running in the same JVM. If it is configured to process locally enqueued jobs directly
+     * (see {@link org.jobrunr.server.BackgroundJobServerConfiguration#andProcessLocallyEnqueuedJobsDirectly(boolean)}), jobs enqueued
+     * using this scheduler are handed directly to one of its idle workers.
+     *
+     * @param localBackgroundJobServer the BackgroundJobServer running in the same JVM
+     */
+    public void setLocalBackgroundJobServer(BackgroundJobServer localBackgroundJobServer) {
+        this.localBackgroundJobServer = localBackgroundJobServer;
+    }
+
+    /**
+     * Pipelines the creation of jobs from a stream (e.g. using {@link JobScheduler#enqueue(Stream, org.jobrunr.jobs.lambdas.JobLambdaFromStream)})
+     * if the given parallelism is greater than 1: the jobs of the next batch are created on a {@link ForkJoinPool} with the given parallelism
+     * while the current batch is saved by the {@link StorageProvider}. The order of the jobs is preserved and at most one batch is created ahead
+     * of the batch that is being saved. By default, all jobs are created and saved on the calling thread.
+     *
+     * @param bulkCreateParallelism the amount of threads used to create the jobs of a stream
+     */
+    public void setBulkCreateParallelism(int bulkCreateParallelism) {
+        if (bulkCreateParallelism < 1) throw new IllegalArgumentException("The bulkCreateParallelism must be at least 1.");
+        this.bulkCreateParallelism = bulkCreateParallelism;
+    }
+
     <T> void saveJobsUsingStream(Stream<T> stream, Function<T, Job> toJob) {
+        if (bulkCreateParallelism > 1) {
+            saveJobsUsingStreamPipelined(stream, toJob);
+            return;
+        }
         Long ignored = stream
                 .map(toJob)
                 .collect(batchCollector(BATCH_SIZE, this::saveJobs));
     }
 
+    private <T> void saveJobsUsingStreamPipelined(Stream<T> stream, Function<T, Job> toJob) {
+        ForkJoinPool forkJoinPool = new ForkJoinPool(bulkCreateParallelism, contextClassLoaderPreservingThreadFactory(), null, false);
+        try {
+            Iterator<T> items = stream.iterator();
+            CompletableFuture<List<Job>> jobsToSave = null;
+            while (items.hasNext()) {
+                List<T> batch = new ArrayList<>(BATCH_SIZE);
+                while (items.hasNext() && batch.size() < BATCH_SIZE) {
+                    batch.add(items.next());
+                }
+                // why: a parallel stream started from within a ForkJoinPool runs in that pool, collecting to a list keeps the order of the items
+                CompletableFuture<List<Job>> jobsOfBatch = CompletableFuture.supplyAsync(() -> batch.parallelStream().map(toJob).collect(toList()), forkJoinPool);
+                if (jobsToSave != null) saveJobs(awaitJobs(jobsToSave));
+                jobsToSave = jobsOfBatch;
+            }
+            if (jobsToSave != null) saveJobs(awaitJobs(jobsToSave));
+        } finally {
+            forkJoinPool.shutdownNow();
+        }
+    }
+
+    private static List<Job> awaitJobs(CompletableFuture<List<Job>> jobs) {
+        try {
+            return jobs.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+            throw e;
+        }
+    }
+
+    private static ForkJoinPool.ForkJoinWorkerThreadFactory contextClassLoaderPreservingThreadFactory() {
+        // why: creating the JobDetails loads the classes of the job lambdas, which may only be visible to the context ClassLoader of the calling thread
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        return pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("jobrunr-bulk-create-" + thread.getPoolIndex());
+            thread.setContextClassLoader(contextClassLoader);
+            return thread;
+        };
+    }
+
     JobId enqueue(UUID id, JobDetails jobDetails) {
         return saveJob(new Job(id, jobDetails));
     }
@@ -176,9 +255,15 @@ public abstract class AbstractJobScheduler {
         try {
             MDCMapper.saveMDCContextToJob(job);
             jobFilterUtils.runOnCreatingFilter(job);
-            Job savedJob = this.storageProvider.save(job);
-            jobFilterUtils.runOnCreatedFilter(savedJob);
-            LOGGER.debug("Created Job with id {}", job.getId());
+            if (localBackgroundJobServer != null && localBackgroundJobServer.trySaveJobForLocalProcessing(job)) {
+                jobFilterUtils.runOnCreatedFilter(job);
+                localBackgroundJobServer.processLocallySavedJob(job);
+                LOGGER.debug("Created Job with id {} and handed it to a local worker", job.getId());
+            } else {
+                Job savedJob = this.storageProvider.save(job);
+                jobFilterUtils.runOnCreatedFilter(savedJob);
+                LOGGER.debug("Created Job with id {}", job.getId());
+            }
         } catch (ConcurrentJobModificationException e) {
             LOGGER.info("Skipped Job with id {} as it already exists", job.getId());
         }
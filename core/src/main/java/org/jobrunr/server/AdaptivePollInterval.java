@@ -0,0 +1,55 @@
+package org.jobrunr.server;
+
+import java.time.Duration;
+
+import static org.jobrunr.utils.DurationUtils.max;
+import static org.jobrunr.utils.DurationUtils.min;
+
+/**
+ * Determines the delay until the next claim for new work by the {@link JobSteward} based on the yield of the previous claims: while the
+ * claims return full pages, the delay shrinks towards the given floor; while they return nothing, the delay backs off exponentially towards
+ * the given ceiling.
+ * <p>
+ * Only looking for new work adapts, the jobs in progress are still updated at the pollInterval (otherwise they would be seen as orphaned).
+ */
+public class AdaptivePollInterval {
+
+    private final Duration pollInterval;
+    private final Duration floor;
+    private final Duration ceiling;
+    private Duration currentPollInterval;
+    private long lastAmountOfRequestedJobs;
+    private long lastAmountOfClaimedJobs;
+
+    public AdaptivePollInterval(Duration pollInterval, Duration floor, Duration ceiling) {
+        this.pollInterval = pollInterval;
+        this.floor = floor;
+        this.ceiling = ceiling;
+        this.currentPollInterval = min(max(pollInterval, floor), ceiling);
+    }
+
+    /**
+     * Returns the delay until the next claim for new work.
+     *
+     * @param amountOfRequestedJobs the total amount of jobs requested by all claims for new work so far
+     * @param amountOfClaimedJobs   the total amount of jobs returned by all claims for new work so far
+     * @return the delay until the next claim for new work
+     */
+    public synchronized Duration next(long amountOfRequestedJobs, long amountOfClaimedJobs) {
+        long requestedJobs = amountOfRequestedJobs - lastAmountOfRequestedJobs;
+        long claimedJobs = amountOfClaimedJobs - lastAmountOfClaimedJobs;
+        lastAmountOfRequestedJobs = amountOfRequestedJobs;
+        lastAmountOfClaimedJobs = amountOfClaimedJobs;
+
+        if (requestedJobs > 0) {
+            if (claimedJobs >= requestedJobs) {
+                currentPollInterval = max(currentPollInterval.dividedBy(2), floor);
+            } else if (claimedJobs == 0) {
+                currentPollInterval = min(currentPollInterval.multipliedBy(2), ceiling);
+            } else {
+                currentPollInterval = min(max(pollInterval, floor), ceiling);
+            }
+        }
+        return currentPollInterval;
+    }
+}
@@ -16,6 +16,7 @@ import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.jobrunr.jobs.states.StateName.DELETED;
@@ -41,7 +42,7 @@ public class BackgroundJobPerformer implements Runnable {
     @Override
     public void run() {
         try {
-            backgroundJobServer.getJobSteward().notifyThreadOccupied();
+            backgroundJobServer.getJobSteward().notifyThreadOccupied(job);
             MDCMapper.loadMDCContextFromJob(job);
             performJob();
         } catch (Exception e) {
@@ -142,13 +143,22 @@ public class BackgroundJobPerformer implements Runnable {
 
     protected void saveAndRunStateRelatedJobFilters(Job job) {
         jobPerformingFilters.runOnStateElectionFilter();
-        this.backgroundJobServer.getStorageProvider().save(job);
+        save(job);
         jobPerformingFilters.runOnStateAppliedFilters();
         if (job.getState() == FAILED) {
             jobPerformingFilters.runOnJobFailedAfterRetriesFilters();
         }
     }
 
+    private void save(Job job) {
+        Optional<GroupCommitJobSaver> groupCommitJobSaver = this.backgroundJobServer.getGroupCommitJobSaver();
+        if (groupCommitJobSaver.isPresent()) {
+            groupCommitJobSaver.get().save(job);
+        } else {
+            this.backgroundJobServer.getStorageProvider().save(job);
+        }
+    }
+
     private boolean hasProcessingStateProvidedByStorageProvider() {
         return job.hasState(PROCESSING) && backgroundJobServer.getConfiguration().getId().equals(job.<ProcessingState>getJobState().getServerId());
     }
@@ -3,6 +3,7 @@ package org.jobrunr.server;
 import org.jobrunr.jobs.Job;
 import org.jobrunr.jobs.filters.JobDefaultFilters;
 import org.jobrunr.jobs.filters.JobFilter;
+import org.jobrunr.jobs.filters.JobFilterUtils;
 import org.jobrunr.server.concurrent.ConcurrentJobModificationResolver;
 import org.jobrunr.server.dashboard.DashboardNotificationManager;
 import org.jobrunr.server.jmx.BackgroundJobServerMBean;
@@ -20,12 +21,14 @@ import org.jobrunr.server.tasks.startup.CheckIfAllJobsExistTask;
 import org.jobrunr.server.tasks.startup.CreateClusterIdIfNotExists;
 import org.jobrunr.server.tasks.startup.MigrateFromV5toV6Task;
 import org.jobrunr.server.tasks.startup.StartupTask;
+import org.jobrunr.server.tasks.zookeeper.ArchiveJobsTask;
 import org.jobrunr.server.tasks.zookeeper.DeleteDeletedJobsPermanentlyTask;
 import org.jobrunr.server.tasks.zookeeper.DeleteSucceededJobsTask;
 import org.jobrunr.server.tasks.zookeeper.ProcessCarbonAwareAwaitingJobsTask;
 import org.jobrunr.server.tasks.zookeeper.ProcessOrphanedJobsTask;
 import org.jobrunr.server.tasks.zookeeper.ProcessRecurringJobsTask;
 import org.jobrunr.server.tasks.zookeeper.ProcessScheduledJobsTask;
+import org.jobrunr.server.tasks.zookeeper.ReconcileJobStatsTask;
 import org.jobrunr.server.threadpool.JobRunrExecutor;
 import org.jobrunr.server.threadpool.PlatformThreadPoolJobRunrExecutor;
 import org.jobrunr.storage.BackgroundJobServerStatus;
@@ -42,6 +45,7 @@ import org.slf4j.LoggerFactory;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 import java.util.ServiceLoader;
 import java.util.Spliterator;
 import java.util.UUID;
@@ -54,6 +58,8 @@ import static java.util.Arrays.asList;
 import static java.util.Spliterators.spliteratorUnknownSize;
 import static java.util.stream.StreamSupport.stream;
 import static org.jobrunr.JobRunrException.problematicConfigurationException;
+import static org.jobrunr.jobs.states.StateName.ENQUEUED;
+import static org.jobrunr.jobs.states.StateName.PROCESSING;
 import static org.jobrunr.server.lifecycle.BackgroundJobServerLifecycleEvent.PAUSE;
 import static org.jobrunr.server.lifecycle.BackgroundJobServerLifecycleEvent.RESUME;
 import static org.jobrunr.server.lifecycle.BackgroundJobServerLifecycleEvent.START;
@@ -81,6 +87,7 @@ public class BackgroundJobServer implements BackgroundJobServerMBean {
     private final ConcurrentJobModificationResolver concurrentJobModificationResolver;
     private final BackgroundJobServerLifecycle lifecycle;
     private final BackgroundJobPerformerFactory backgroundJobPerformerFactory;
+    private final GroupCommitJobSaver groupCommitJobSaver;
     private volatile Instant firstHeartbeat;
     private volatile Boolean isMaster;
     private volatile VersionNumber dataVersion;
@@ -108,7 +115,11 @@ public class BackgroundJobServer implements BackgroundJobServerMBean {
         this.serverZooKeeper = createServerZooKeeper();
         this.concurrentJobModificationResolver = createConcurrentJobModificationResolver();
         this.backgroundJobPerformerFactory = loadBackgroundJobPerformerFactory();
+        this.groupCommitJobSaver = createGroupCommitJobSaver();
         this.storageProvider.validatePollInterval(this.configuration.getPollInterval());
+        if (this.configuration.isAdaptivePollIntervalEnabled()) {
+            this.storageProvider.validatePollInterval(this.configuration.getAdaptivePollIntervalFloor());
+        }
         this.lifecycle = new BackgroundJobServerLifecycle();
     }
 
@@ -273,6 +284,10 @@ public class BackgroundJobServer implements BackgroundJobServerMBean {
         return jsonMapper;
     }
 
+    public Optional<GroupCommitJobSaver> getGroupCommitJobSaver() {
+        return Optional.ofNullable(groupCommitJobSaver);
+    }
+
     public WorkDistributionStrategy getWorkDistributionStrategy() {
         return workDistributionStrategy;
     }
@@ -299,6 +314,58 @@ public class BackgroundJobServer implements BackgroundJobServerMBean {
         LOGGER.debug("Submitted BackgroundJobPerformer for job {} to executor service", job.getId());
     }
 
+    /**
+     * Local fast-path for new jobs that are enqueued within the same JVM as this BackgroundJobServer: if enabled and a worker is available,
+     * the job is saved directly in state PROCESSING for this BackgroundJobServer so that it can be handed to the worker using
+     * {@link #processLocallySavedJob(Job)} without a round-trip via the {@link JobSteward}.
+     *
+     * @param job the new job to save
+     * @return true if the job is saved by this BackgroundJobServer, false if no worker is available and the job still needs to be saved
+     */
+    public boolean trySaveJobForLocalProcessing(Job job) {
+        if (!canProcessJobLocally(job) || !jobSteward.tryToReserveWorker(job)) return false;
+
+        try {
+            JobFilterUtils jobFilterUtils = new JobFilterUtils(jobDefaultFilters);
+            job.startProcessingOn(this);
+            jobFilterUtils.runOnStateElectionFilter(job);
+            storageProvider.save(job);
+            jobFilterUtils.runOnStateAppliedFilters(job);
+        } catch (RuntimeException e) {
+            jobSteward.releaseReservedWorker(job);
+            throw e;
+        }
+        if (!job.hasState(PROCESSING)) {
+            jobSteward.releaseReservedWorker(job);
+        }
+        return true;
+    }
+
+    /**
+     * Hands a job that was saved using {@link #trySaveJobForLocalProcessing(Job)} to its reserved worker.
+     *
+     * @param job the job saved for local processing
+     */
+    public void processLocallySavedJob(Job job) {
+        if (!job.hasState(PROCESSING)) return;
+
+        try {
+            processJob(job);
+        } catch (RuntimeException e) {
+            // why: the job is already saved in state PROCESSING and will be picked up again by the ProcessOrphanedJobsTask
+            jobSteward.releaseReservedWorker(job);
+            LOGGER.warn("Could not process job {} locally as the BackgroundJobServer is not running anymore", job.getId(), e);
+        }
+    }
+
+    private boolean canProcessJobLocally(Job job) {
+        return configuration.isProcessLocallyEnqueuedJobsDirectly()
+                && job.getVersion() == 0
+                && job.hasState(ENQUEUED)
+                && isRunning()
+                && !isNotReadyToProcessJobs();
+    }
+
     private void startStewardAndServerZooKeeper() {
         zookeeperThreadPool = new PlatformThreadPoolJobRunrExecutor(BACKGROUND_JOB_SERVER_COMMON_TASKS_THREAD_SIZE, "backgroundjob-zookeeper-pool");
         // why fixedDelay: in case of long stop-the-world garbage collections, the zookeeper tasks will queue up
@@ -306,13 +373,20 @@ public class BackgroundJobServer implements BackgroundJobServerMBean {
         Duration jobStewardInitialDelay = DurationUtils.min(configuration.getPollInterval().dividedBy(5), Duration.ofSeconds(1));
         zookeeperThreadPool.scheduleWithFixedDelay(serverZooKeeper, Duration.ZERO, configuration.getPollInterval());
         zookeeperThreadPool.scheduleWithFixedDelay(jobSteward, jobStewardInitialDelay, configuration.getPollInterval());
+        jobSteward.getAdaptiveOnboardNewWorkHandler().ifPresent(adaptiveOnboardNewWorkHandler -> {
+            zookeeperThreadPool.increasePoolSize(1);
+            zookeeperThreadPool.scheduleWithAdaptiveDelay(adaptiveOnboardNewWorkHandler, jobStewardInitialDelay, jobSteward::getNextPollInterval);
+        });
+        // why: StorageProviders supporting push notifications (e.g. Postgres LISTEN/NOTIFY) wake up the JobSteward immediately, polling remains the safety net
+        storageProvider.addJobStorageOnChangeListener(jobSteward);
+        jobSteward.getOnboardNewWorkDispatcher().ifPresent(OnboardNewWorkDispatcher::start);
     }
 
     private void startMasterTasks() {
         Duration masterTasksInitialDelay = DurationUtils.min(configuration.getPollInterval().dividedBy(5), Duration.ofSeconds(1));
         JobZooKeeper recurringAndCarbonAwareAndScheduledJobsZooKeeper = new JobZooKeeper(this, new ProcessRecurringJobsTask(this), new ProcessCarbonAwareAwaitingJobsTask(this), new ProcessScheduledJobsTask(this));
         JobZooKeeper orphanedJobsZooKeeper = new JobZooKeeper(this, new ProcessOrphanedJobsTask(this));
-        JobZooKeeper janitorZooKeeper = new JobZooKeeper(this, new DeleteSucceededJobsTask(this), new DeleteDeletedJobsPermanentlyTask(this));
+        JobZooKeeper janitorZooKeeper = new JobZooKeeper(this, new DeleteSucceededJobsTask(this), new DeleteDeletedJobsPermanentlyTask(this), new ArchiveJobsTask(this), new ReconcileJobStatsTask(this));
         zookeeperThreadPool.increasePoolSize(BACKGROUND_JOB_SERVER_MASTER_TASKS_THREAD_SIZE);
         zookeeperThreadPool.scheduleWithFixedDelay(recurringAndCarbonAwareAndScheduledJobsZooKeeper, masterTasksInitialDelay, configuration.getPollInterval());
         zookeeperThreadPool.scheduleWithFixedDelay(orphanedJobsZooKeeper, masterTasksInitialDelay, configuration.getPollInterval());
@@ -324,6 +398,8 @@ public class BackgroundJobServer implements BackgroundJobServerMBean {
     }
 
     private void stopZooKeepers() {
+        storageProvider.removeJobStorageOnChangeListener(jobSteward);
+        jobSteward.getOnboardNewWorkDispatcher().ifPresent(OnboardNewWorkDispatcher::stop);
         serverZooKeeper.stop();
         zookeeperThreadPool.stop(Duration.ofSeconds(10));
         this.zookeeperThreadPool = null;
@@ -336,6 +412,7 @@ public class BackgroundJobServer implements BackgroundJobServerMBean {
 
     private void stopWorkers() {
         if (jobExecutor == null) return;
+        jobSteward.releasePrefetchedJobs();
         LOGGER.info("{} BackgroundJobPerformers stopping (waiting at most {} for jobs to finish)", this, configuration.getInterruptJobsAwaitDurationOnStopBackgroundJobServer());
         jobExecutor.stop(configuration.getInterruptJobsAwaitDurationOnStopBackgroundJobServer());
         this.jobExecutor = null;
@@ -379,6 +456,11 @@ public class BackgroundJobServer implements BackgroundJobServerMBean {
                 .toConcurrentJobModificationResolver(this);
     }
 
+    protected GroupCommitJobSaver createGroupCommitJobSaver() {
+        if (!configuration.isJobStateChangesGroupCommitEnabled()) return null;
+        return new GroupCommitJobSaver(storageProvider, configuration.getJobStateChangesGroupCommitMaxBatchSize(), configuration.getJobStateChangesGroupCommitMaxDelay());
+    }
+
     private boolean hasDataVersion(VersionNumber expectedVersion) {
         if (expectedVersion.equals(dataVersion)) return true;
         JobRunrMetadata metadata = storageProvider.getMetadata("database_version", "cluster");
@@ -34,11 +34,19 @@ public class BackgroundJobServerConfiguration {
     UUID id = UUID.randomUUID();
     String name = getHostName();
     Duration deleteSucceededJobsAfter = DEFAULT_DELETE_SUCCEEDED_JOBS_DURATION;
+    boolean deleteSucceededJobsInBulk = false;
     Duration permanentlyDeleteDeletedJobsAfter = DEFAULT_PERMANENTLY_DELETE_JOBS_DURATION;
     Duration interruptJobsAwaitDurationOnStopBackgroundJobServer = DEFAULT_INTERRUPT_JOBS_AWAIT_DURATION_ON_STOP_BACKGROUND_JOB_SERVER;
     BackgroundJobServerWorkerPolicy backgroundJobServerWorkerPolicy = new DefaultBackgroundJobServerWorkerPolicy();
     ConcurrentJobModificationPolicy concurrentJobModificationPolicy = new DefaultConcurrentJobModificationPolicy();
     CarbonAwareJobProcessingConfiguration carbonAwareJobProcessingConfiguration = CarbonAwareJobProcessingConfiguration.usingDisabledCarbonAwareJobProcessingConfiguration();
+    int jobStateChangesGroupCommitMaxBatchSize = 1;
+    Duration jobStateChangesGroupCommitMaxDelay = Duration.ZERO;
+    boolean processLocallyEnqueuedJobsDirectly = false;
+    int coalescedOnboardingMinBatchSize = 1;
+    Duration adaptivePollIntervalFloor = null;
+    Duration adaptivePollIntervalCeiling = null;
+    Duration coalescedOnboardingMaxDelay = Duration.ZERO;
 
     private BackgroundJobServerConfiguration() {
 
@@ -99,6 +107,24 @@ public class BackgroundJobServerConfiguration {
         return this;
     }
 
+    /**
+     * Allows the BackgroundJobServer to adapt the interval at which it looks for new work: while new work is found for all idle workers,
+     * it looks for new work more often (down to the given floor); while no new work is found, it backs off exponentially (up to the given
+     * ceiling). The jobs in progress are still updated and all other tasks still run at the pollInterval. The floor must respect the smallest
+     * pollInterval supported by the StorageProvider.
+     *
+     * @param floor   the smallest interval at which to look for new work
+     * @param ceiling the largest interval at which to look for new work
+     * @return the same configuration instance which provides a fluent api
+     */
+    public BackgroundJobServerConfiguration andAdaptivePollInterval(Duration floor, Duration ceiling) {
+        if (floor == null || floor.isNegative() || floor.isZero()) throw new IllegalArgumentException("The floor of the adaptive pollInterval must be a positive duration");
+        if (ceiling == null || ceiling.compareTo(floor) < 0) throw new IllegalArgumentException("The ceiling of the adaptive pollInterval must be greater than or equal to the floor");
+        this.adaptivePollIntervalFloor = floor;
+        this.adaptivePollIntervalCeiling = ceiling;
+        return this;
+    }
+
     /**
      * Allows to set the pollInterval multiplicand used to determine when a BackgroundJobServer should be seen as timed out (e.g. because it crashed, was stopped, ...)
      * and jobs being processed should be considered orphaned.
@@ -192,6 +218,18 @@ public class BackgroundJobServerConfiguration {
         return this;
     }
 
+    /**
+     * Allows to move succeeded jobs to the DELETED state using a set-based update in the {@link org.jobrunr.storage.StorageProvider} instead of
+     * loading, updating and saving every job. Note that no {@link org.jobrunr.jobs.filters.JobFilter JobFilters} are invoked for these jobs.
+     *
+     * @param deleteSucceededJobsInBulk whether succeeded jobs are deleted in bulk
+     * @return the same configuration instance which provides a fluent api
+     */
+    public BackgroundJobServerConfiguration andDeleteSucceededJobsInBulk(boolean deleteSucceededJobsInBulk) {
+        this.deleteSucceededJobsInBulk = deleteSucceededJobsInBulk;
+        return this;
+    }
+
     /**
      * Allows to set the duration to wait before permanently deleting succeeded jobs
      *
@@ -239,6 +277,53 @@ public class BackgroundJobServerConfiguration {
         return this;
     }
 
+    /**
+     * Allows to save the state changes of jobs done by the different BackgroundJobPerformers together (group commit): instead of one database round-trip
+     * and commit per job, the state changes of all workers are saved in one batch as soon as maxBatchSize jobs are waiting or at most after maxDelay.
+     * <p>
+     * This increases the throughput when processing a lot of short running jobs at the cost of a slightly higher latency per job.
+     *
+     * @param maxBatchSize the maximum amount of jobs to wait for before saving them (must be greater than 1)
+     * @param maxDelay     the maximum duration to wait for other jobs before saving them (typically a few milliseconds)
+     * @return the same configuration instance which provides a fluent api
+     */
+    public BackgroundJobServerConfiguration andJobStateChangesGroupCommit(int maxBatchSize, Duration maxDelay) {
+        if (maxBatchSize < 2) throw new IllegalArgumentException("The maxBatchSize of the group commit must be greater than 1");
+        if (maxDelay == null || maxDelay.isNegative() || maxDelay.isZero()) throw new IllegalArgumentException("The maxDelay of the group commit must be a positive duration");
+        this.jobStateChangesGroupCommitMaxBatchSize = maxBatchSize;
+        this.jobStateChangesGroupCommitMaxDelay = maxDelay;
+        return this;
+    }
+
+    /**
+     * Allows to hand jobs that are enqueued within the same JVM as the {@link BackgroundJobServer} directly to an idle worker of this
+     * BackgroundJobServer: the job is saved immediately in state PROCESSING instead of waiting for the next poll of the {@link JobSteward}.
+     * If no worker is available, the job is enqueued as usual.
+     *
+     * @param processLocallyEnqueuedJobsDirectly whether jobs enqueued within this JVM are processed directly if a worker is available
+     * @return the same configuration instance which provides a fluent api
+     */
+    public BackgroundJobServerConfiguration andProcessLocallyEnqueuedJobsDirectly(boolean processLocallyEnqueuedJobsDirectly) {
+        this.processLocallyEnqueuedJobsDirectly = processLocallyEnqueuedJobsDirectly;
+        return this;
+    }
+
+    /**
+     * Allows to coalesce the onboarding of new work: instead of fetching new work each time a worker becomes idle, a single dispatcher thread
+     * waits until the given minBatchSize workers are idle (or the given maxDelay has passed) and then fetches new work for all of them at once.
+     *
+     * @param minBatchSize the amount of idle workers to wait for before fetching new work
+     * @param maxDelay     the maximum duration to wait before fetching new work (typically a few milliseconds)
+     * @return the same configuration instance which provides a fluent api
+     */
+    public BackgroundJobServerConfiguration andCoalescedOnboarding(int minBatchSize, Duration maxDelay) {
+        if (minBatchSize < 1) throw new IllegalArgumentException("The minBatchSize of the coalesced onboarding must be greater than 0");
+        if (maxDelay == null || maxDelay.isNegative() || maxDelay.isZero()) throw new IllegalArgumentException("The maxDelay of the coalesced onboarding must be a positive duration");
+        this.coalescedOnboardingMinBatchSize = minBatchSize;
+        this.coalescedOnboardingMaxDelay = maxDelay;
+        return this;
+    }
+
     private static String getHostName() {
         try {
             String hostName = InetAddress.getLocalHost().getHostName();
@@ -43,6 +43,18 @@ public class BackgroundJobServerConfigurationReader {
         return configuration.pollInterval;
     }
 
+    public boolean isAdaptivePollIntervalEnabled() {
+        return configuration.adaptivePollIntervalFloor != null;
+    }
+
+    public Duration getAdaptivePollIntervalFloor() {
+        return configuration.adaptivePollIntervalFloor;
+    }
+
+    public Duration getAdaptivePollIntervalCeiling() {
+        return configuration.adaptivePollIntervalCeiling;
+    }
+
     public Integer getServerTimeoutPollIntervalMultiplicand() {
         return configuration.serverTimeoutPollIntervalMultiplicand;
     }
@@ -51,6 +63,10 @@ public class BackgroundJobServerConfigurationReader {
         return configuration.deleteSucceededJobsAfter;
     }
 
+    public boolean isDeleteSucceededJobsInBulk() {
+        return configuration.deleteSucceededJobsInBulk;
+    }
+
     public Duration getPermanentlyDeleteDeletedJobsAfter() {
         return configuration.permanentlyDeleteDeletedJobsAfter;
     }
@@ -67,6 +83,34 @@ public class BackgroundJobServerConfigurationReader {
         return configuration.concurrentJobModificationPolicy;
     }
 
+    public boolean isJobStateChangesGroupCommitEnabled() {
+        return configuration.jobStateChangesGroupCommitMaxBatchSize > 1;
+    }
+
+    public int getJobStateChangesGroupCommitMaxBatchSize() {
+        return configuration.jobStateChangesGroupCommitMaxBatchSize;
+    }
+
+    public Duration getJobStateChangesGroupCommitMaxDelay() {
+        return configuration.jobStateChangesGroupCommitMaxDelay;
+    }
+
+    public boolean isCoalescedOnboardingEnabled() {
+        return !configuration.coalescedOnboardingMaxDelay.isZero();
+    }
+
+    public int getCoalescedOnboardingMinBatchSize() {
+        return configuration.coalescedOnboardingMinBatchSize;
+    }
+
+    public Duration getCoalescedOnboardingMaxDelay() {
+        return configuration.coalescedOnboardingMaxDelay;
+    }
+
+    public boolean isProcessLocallyEnqueuedJobsDirectly() {
+        return configuration.processLocallyEnqueuedJobsDirectly;
+    }
+
     public CarbonAwareJobProcessingConfigurationReader getCarbonAwareJobProcessingConfiguration() {
         return new CarbonAwareJobProcessingConfigurationReader(configuration.carbonAwareJobProcessingConfiguration);
     }
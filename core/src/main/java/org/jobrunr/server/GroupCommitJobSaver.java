@@ -0,0 +1,126 @@
+package org.jobrunr.server;
+
+import org.jobrunr.jobs.Job;
+import org.jobrunr.storage.ConcurrentJobModificationException;
+import org.jobrunr.storage.StorageProvider;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+
+/**
+ * Groups the state changes of jobs saved by the different {@link BackgroundJobPerformer BackgroundJobPerformers} so they are saved together
+ * using {@link StorageProvider#save(List)}: one round-trip and one commit instead of one per job.
+ * <p>
+ * The first thread that saves a job becomes the leader of the group: it waits at most the given maxDelay (or until maxBatchSize jobs are waiting)
+ * and then saves the jobs of all threads in the group. All threads wait until their job is saved and get the {@link ConcurrentJobModificationException}
+ * of their own job if it was concurrently modified.
+ */
+public class GroupCommitJobSaver {
+
+    private final StorageProvider storageProvider;
+    private final int maxBatchSize;
+    private final long maxDelayInNanos;
+    private final Object lock;
+    private List<JobToSave> jobsToSave;
+
+    public GroupCommitJobSaver(StorageProvider storageProvider, int maxBatchSize, Duration maxDelay) {
+        this.storageProvider = storageProvider;
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelayInNanos = maxDelay.toNanos();
+        this.lock = new Object();
+        this.jobsToSave = new ArrayList<>();
+    }
+
+    public Job save(Job job) {
+        JobToSave jobToSave = new JobToSave(job);
+        boolean isLeader;
+        synchronized (lock) {
+            jobsToSave.add(jobToSave);
+            isLeader = jobsToSave.size() == 1;
+            if (jobsToSave.size() >= maxBatchSize) {
+                lock.notifyAll();
+            }
+        }
+        if (isLeader) {
+            save(awaitGroup());
+        }
+        return jobToSave.awaitSaved();
+    }
+
+    private List<JobToSave> awaitGroup() {
+        long deadline = System.nanoTime() + maxDelayInNanos;
+        synchronized (lock) {
+            long remainingNanos = maxDelayInNanos;
+            while (jobsToSave.size() < maxBatchSize && remainingNanos > 0) {
+                try {
+                    NANOSECONDS.timedWait(lock, remainingNanos);
+                } catch (InterruptedException e) {
+                    // why: the jobs of the group still need to be saved, the interrupt is handled by the caller
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                remainingNanos = deadline - System.nanoTime();
+            }
+            List<JobToSave> group = jobsToSave;
+            jobsToSave = new ArrayList<>();
+            return group;
+        }
+    }
+
+    private void save(List<JobToSave> group) {
+        try {
+            storageProvider.save(group.stream().map(JobToSave::getJob).collect(toList()));
+            group.forEach(JobToSave::saved);
+        } catch (ConcurrentJobModificationException e) {
+            Set<UUID> concurrentUpdatedJobIds = e.getConcurrentUpdatedJobs().stream().map(Job::getId).collect(toSet());
+            for (JobToSave jobToSave : group) {
+                if (concurrentUpdatedJobIds.contains(jobToSave.getJob().getId())) {
+                    jobToSave.failed(new ConcurrentJobModificationException(jobToSave.getJob(), e));
+                } else {
+                    jobToSave.saved();
+                }
+            }
+        } catch (RuntimeException e) {
+            group.forEach(jobToSave -> jobToSave.failed(e));
+        }
+    }
+
+    private static class JobToSave {
+        private final Job job;
+        private final CompletableFuture<Job> savedJob;
+
+        private JobToSave(Job job) {
+            this.job = job;
+            this.savedJob = new CompletableFuture<>();
+        }
+
+        Job getJob() {
+            return job;
+        }
+
+        void saved() {
+            savedJob.complete(job);
+        }
+
+        void failed(RuntimeException e) {
+            savedJob.completeExceptionally(e);
+        }
+
+        Job awaitSaved() {
+            try {
+                return savedJob.join();
+            } catch (CompletionException e) {
+                throw (RuntimeException) e.getCause();
+            }
+        }
+    }
+}
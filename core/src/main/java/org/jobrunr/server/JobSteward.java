@@ -1,31 +1,64 @@
 package org.jobrunr.server;
 
 import org.jobrunr.jobs.Job;
+import org.jobrunr.server.tasks.Task;
 import org.jobrunr.server.tasks.steward.OnboardNewWorkTask;
 import org.jobrunr.server.tasks.steward.UpdateJobsInProgressTask;
+import org.jobrunr.storage.StorageException;
+import org.jobrunr.storage.listeners.NewWorkAvailableListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.jobrunr.jobs.states.StateName.PROCESSING;
+
 /**
  * The JobSteward manages everything related to local jobs (e.g. updating them periodically and fetching new work)
  */
-public class JobSteward extends JobHandler implements Runnable {
+public class JobSteward extends JobHandler implements Runnable, NewWorkAvailableListener {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JobSteward.class);
 
+    private final BackgroundJobServer backgroundJobServer;
     private final Map<Job, Thread> jobsCurrentlyInProgress;
     private final AtomicInteger occupiedWorkers;
+    private final Set<UUID> jobsWithReservedWorker;
+    private final Deque<Job> prefetchedJobs;
     private final OnboardNewWorkTask onboardNewWorkTask;
+    private final OnboardNewWorkDispatcher onboardNewWorkDispatcher;
+    private final AdaptivePollInterval adaptivePollInterval;
+    private final AdaptiveOnboardNewWorkHandler adaptiveOnboardNewWorkHandler;
 
     public JobSteward(BackgroundJobServer backgroundJobServer) {
-        super(backgroundJobServer,
-                new UpdateJobsInProgressTask(backgroundJobServer),
-                new OnboardNewWorkTask(backgroundJobServer));
+        this(backgroundJobServer, new UpdateJobsInProgressTask(backgroundJobServer), new OnboardNewWorkTask(backgroundJobServer));
+    }
+
+    private JobSteward(BackgroundJobServer backgroundJobServer, UpdateJobsInProgressTask updateJobsInProgressTask, OnboardNewWorkTask onboardNewWorkTask) {
+        // why: with the adaptive pollInterval, only looking for new work adapts and is run by the AdaptiveOnboardNewWorkHandler
+        super(backgroundJobServer, backgroundJobServer.getConfiguration().isAdaptivePollIntervalEnabled()
+                ? new Task[]{updateJobsInProgressTask}
+                : new Task[]{updateJobsInProgressTask, onboardNewWorkTask});
+        this.backgroundJobServer = backgroundJobServer;
         this.jobsCurrentlyInProgress = new ConcurrentHashMap<>();
         this.occupiedWorkers = new AtomicInteger();
-        this.onboardNewWorkTask = getTaskOfType(OnboardNewWorkTask.class);
+        this.jobsWithReservedWorker = ConcurrentHashMap.newKeySet();
+        this.prefetchedJobs = new ConcurrentLinkedDeque<>();
+        this.onboardNewWorkTask = onboardNewWorkTask;
+        this.onboardNewWorkDispatcher = createOnboardNewWorkDispatcher();
+        this.adaptivePollInterval = createAdaptivePollInterval();
+        this.adaptiveOnboardNewWorkHandler = adaptivePollInterval != null ? new AdaptiveOnboardNewWorkHandler(backgroundJobServer, onboardNewWorkTask) : null;
     }
 
     public void startProcessing(Job job, Thread thread) {
@@ -45,6 +78,61 @@ public class JobSteward extends JobHandler implements Runnable {
         return jobsCurrentlyInProgress.keySet();
     }
 
+    /**
+     * Adds jobs that are already in state PROCESSING for this BackgroundJobServer to the local buffer from which idle workers take their
+     * next job (see {@link org.jobrunr.server.strategy.PrefetchingWorkDistributionStrategy}).
+     *
+     * @param jobs the jobs to add to the local buffer
+     */
+    public void addPrefetchedJobs(List<Job> jobs) {
+        prefetchedJobs.addAll(jobs);
+    }
+
+    public Collection<Job> getPrefetchedJobs() {
+        return prefetchedJobs;
+    }
+
+    public int getPrefetchedJobCount() {
+        return prefetchedJobs.size();
+    }
+
+    /**
+     * Hands the prefetched jobs to the idle workers, as long as there are idle workers.
+     */
+    public void processPrefetchedJobs() {
+        Job job;
+        while ((job = prefetchedJobs.pollFirst()) != null) {
+            // why: the job may have been deleted (e.g. via the dashboard) while it was waiting in the buffer
+            if (!job.hasState(PROCESSING)) continue;
+            if (!tryToReserveWorker(job)) {
+                prefetchedJobs.offerFirst(job);
+                return;
+            }
+            backgroundJobServer.processJob(job);
+        }
+    }
+
+    /**
+     * Enqueues the prefetched jobs again so that they can be processed by other BackgroundJobServers, e.g. when job processing stops.
+     */
+    public void releasePrefetchedJobs() {
+        List<Job> jobsToRelease = new ArrayList<>();
+        Job job;
+        while ((job = prefetchedJobs.pollFirst()) != null) {
+            if (!job.hasState(PROCESSING)) continue;
+            job.enqueue();
+            jobsToRelease.add(job);
+        }
+        if (jobsToRelease.isEmpty()) return;
+
+        try {
+            backgroundJobServer.getStorageProvider().save(jobsToRelease);
+        } catch (StorageException e) {
+            // why: the jobs remain in state PROCESSING and will be picked up again by the ProcessOrphanedJobsTask
+            LOGGER.warn("Could not release {} prefetched jobs", jobsToRelease.size(), e);
+        }
+    }
+
     public Thread getThreadProcessingJob(Job job) {
         return jobsCurrentlyInProgress.get(job);
     }
@@ -53,12 +141,110 @@ public class JobSteward extends JobHandler implements Runnable {
         return occupiedWorkers.get();
     }
 
+    /**
+     * Reserves a worker for the given job if not all workers are occupied. The reserved worker is released again once the job is
+     * processed or via {@link #releaseReservedWorker(Job)} if the job will not be processed after all.
+     *
+     * @param job the job that will be processed by this BackgroundJobServer
+     * @return true if a worker is reserved for the job, false if all workers are occupied
+     */
+    public boolean tryToReserveWorker(Job job) {
+        int workerCount = backgroundJobServer.getWorkDistributionStrategy().getWorkerCount();
+        int occupiedWorkerCount;
+        do {
+            occupiedWorkerCount = occupiedWorkers.get();
+            if (occupiedWorkerCount >= workerCount) return false;
+        } while (!occupiedWorkers.compareAndSet(occupiedWorkerCount, occupiedWorkerCount + 1));
+        jobsWithReservedWorker.add(job.getId());
+        return true;
+    }
+
+    public void releaseReservedWorker(Job job) {
+        if (jobsWithReservedWorker.remove(job.getId())) {
+            occupiedWorkers.decrementAndGet();
+        }
+    }
+
+    public void notifyThreadOccupied(Job job) {
+        // why: the worker is already counted as occupied if it was reserved for the job
+        if (!jobsWithReservedWorker.remove(job.getId())) {
+            notifyThreadOccupied();
+        }
+    }
+
     public void notifyThreadOccupied() {
         occupiedWorkers.incrementAndGet();
     }
 
     public void notifyThreadIdle() {
         this.occupiedWorkers.decrementAndGet();
-        onboardNewWorkTask.runTaskThreadSafe();
+        onboardNewWork();
+    }
+
+    @Override
+    public void onNewWorkAvailable() {
+        onboardNewWork();
+    }
+
+    public Optional<OnboardNewWorkDispatcher> getOnboardNewWorkDispatcher() {
+        return Optional.ofNullable(onboardNewWorkDispatcher);
+    }
+
+    public long getAmountOfOnboardingClaims() {
+        return onboardNewWorkTask.getAmountOfClaims();
+    }
+
+    public long getAmountOfOnboardedJobs() {
+        return onboardNewWorkTask.getAmountOfClaimedJobs();
+    }
+
+    /**
+     * Returns the handler that looks for new work if the adaptive pollInterval is enabled. It must be scheduled using
+     * {@link #getNextPollInterval()}, while the JobSteward itself keeps updating the jobs in progress at the pollInterval.
+     *
+     * @return the handler that looks for new work at the adaptive pollInterval or empty if the adaptive pollInterval is disabled
+     */
+    public Optional<Runnable> getAdaptiveOnboardNewWorkHandler() {
+        return Optional.ofNullable(adaptiveOnboardNewWorkHandler);
+    }
+
+    /**
+     * Returns the delay until the next time new work is looked for: the pollInterval or, if the adaptive pollInterval is enabled, a delay
+     * based on the amount of new work that was found since the previous time.
+     *
+     * @return the delay until the next time new work is looked for
+     */
+    public Duration getNextPollInterval() {
+        if (adaptivePollInterval == null) return backgroundJobServerConfiguration().getPollInterval();
+        return adaptivePollInterval.next(onboardNewWorkTask.getAmountOfRequestedJobs(), onboardNewWorkTask.getAmountOfClaimedJobs());
+    }
+
+    private void onboardNewWork() {
+        if (onboardNewWorkDispatcher == null) {
+            onboardNewWorkTask.runTaskThreadSafe();
+        } else {
+            // why: prefetched jobs can still be handed to the idle workers immediately, only fetching new work is coalesced
+            if (backgroundJobServer.getWorkDistributionStrategy().isPrefetchingWork()) processPrefetchedJobs();
+            onboardNewWorkDispatcher.signal();
+        }
+    }
+
+    private AdaptivePollInterval createAdaptivePollInterval() {
+        BackgroundJobServerConfigurationReader configuration = backgroundJobServerConfiguration();
+        if (!configuration.isAdaptivePollIntervalEnabled()) return null;
+        return new AdaptivePollInterval(configuration.getPollInterval(), configuration.getAdaptivePollIntervalFloor(), configuration.getAdaptivePollIntervalCeiling());
+    }
+
+    private OnboardNewWorkDispatcher createOnboardNewWorkDispatcher() {
+        BackgroundJobServerConfigurationReader configuration = backgroundJobServerConfiguration();
+        if (!configuration.isCoalescedOnboardingEnabled()) return null;
+        return new OnboardNewWorkDispatcher(onboardNewWorkTask::runTaskThreadSafe, configuration.getCoalescedOnboardingMinBatchSize(), configuration.getCoalescedOnboardingMaxDelay());
+    }
+
+    private static class AdaptiveOnboardNewWorkHandler extends JobHandler {
+
+        private AdaptiveOnboardNewWorkHandler(BackgroundJobServer backgroundJobServer, OnboardNewWorkTask onboardNewWorkTask) {
+            super(backgroundJobServer, onboardNewWorkTask);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,97 @@
+package org.jobrunr.server;
+
+import org.jobrunr.utils.threadpool.NamedThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Coalesces the requests to onboard new work (e.g. each time a worker becomes idle) so that a single dispatcher thread fetches new work
+ * for several idle workers at once instead of one small query per finished job.
+ * <p>
+ * After the first signal, the dispatcher waits at most the given maxDelay (or until minBatchSize signals are received) before it onboards
+ * new work. Signals received while onboarding new work result in a next onboarding.
+ */
+public class OnboardNewWorkDispatcher implements Runnable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OnboardNewWorkDispatcher.class);
+
+    private final Runnable onboardNewWork;
+    private final int minBatchSize;
+    private final long maxDelayInNanos;
+    private final Object lock;
+    private int amountOfSignals;
+    private volatile Thread dispatcherThread;
+
+    public OnboardNewWorkDispatcher(Runnable onboardNewWork, int minBatchSize, Duration maxDelay) {
+        this.onboardNewWork = onboardNewWork;
+        this.minBatchSize = minBatchSize;
+        this.maxDelayInNanos = maxDelay.toNanos();
+        this.lock = new Object();
+    }
+
+    public void start() {
+        synchronized (lock) {
+            if (dispatcherThread != null) return;
+            dispatcherThread = new NamedThreadFactory("backgroundjob-onboard-dispatcher", true).newThread(this);
+            dispatcherThread.start();
+        }
+    }
+
+    public void stop() {
+        Thread threadToStop;
+        synchronized (lock) {
+            threadToStop = dispatcherThread;
+            dispatcherThread = null;
+        }
+        if (threadToStop == null) return;
+        threadToStop.interrupt();
+        try {
+            threadToStop.join(Duration.ofSeconds(10).toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public void signal() {
+        synchronized (lock) {
+            amountOfSignals++;
+            if (amountOfSignals == 1 || amountOfSignals >= minBatchSize) {
+                lock.notifyAll();
+            }
+        }
+    }
+
+    @Override
+    public void run() {
+        while (dispatcherThread == Thread.currentThread()) {
+            try {
+                awaitSignals();
+                onboardNewWork.run();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                LOGGER.warn("Could not onboard new work - it will be retried on the next signal or poll interval", e);
+            }
+        }
+    }
+
+    private void awaitSignals() throws InterruptedException {
+        synchronized (lock) {
+            while (amountOfSignals == 0) {
+                lock.wait();
+            }
+            long deadline = System.nanoTime() + maxDelayInNanos;
+            long remainingNanos = maxDelayInNanos;
+            while (amountOfSignals < minBatchSize && remainingNanos > 0) {
+                NANOSECONDS.timedWait(lock, remainingNanos);
+                remainingNanos = deadline - System.nanoTime();
+            }
+            amountOfSignals = 0;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package org.jobrunr.server.configuration;
+
+import org.jobrunr.server.BackgroundJobServer;
+import org.jobrunr.server.strategy.PrefetchingWorkDistributionStrategy;
+import org.jobrunr.server.strategy.WorkDistributionStrategy;
+import org.jobrunr.server.threadpool.JobRunrExecutor;
+
+import java.util.function.Function;
+
+/**
+ * A {@link BackgroundJobServerWorkerPolicy} using the {@link PrefetchingWorkDistributionStrategy}: next to a job for each worker, it keeps
+ * a local buffer of prefetched jobs so that workers do not sit idle while new work is fetched (which is useful for short-running jobs).
+ */
+public class PrefetchingBackgroundJobServerWorkerPolicy implements BackgroundJobServerWorkerPolicy {
+
+    public static final double DEFAULT_PREFETCH_FACTOR = 1.5;
+
+    private final int workerCount;
+    private final double prefetchFactor;
+    private final Function<Integer, JobRunrExecutor> jobRunrExecutorFunction;
+
+    public PrefetchingBackgroundJobServerWorkerPolicy() {
+        this(BackgroundJobServerThreadType.getDefaultThreadType().getDefaultWorkerCount(), DEFAULT_PREFETCH_FACTOR);
+    }
+
+    public PrefetchingBackgroundJobServerWorkerPolicy(int workerCount, double prefetchFactor) {
+        this(workerCount, prefetchFactor, BackgroundJobServerThreadType.getDefaultThreadType().getJobRunrExecutor());
+    }
+
+    public PrefetchingBackgroundJobServerWorkerPolicy(int workerCount, double prefetchFactor, Function<Integer, JobRunrExecutor> jobRunrExecutorFunction) {
+        if (prefetchFactor < 1) throw new IllegalArgumentException("The prefetchFactor must be greater than or equal to 1");
+        this.workerCount = workerCount;
+        this.prefetchFactor = prefetchFactor;
+        this.jobRunrExecutorFunction = jobRunrExecutorFunction;
+    }
+
+    @Override
+    public WorkDistributionStrategy toWorkDistributionStrategy(BackgroundJobServer backgroundJobServer) {
+        return new PrefetchingWorkDistributionStrategy(backgroundJobServer, workerCount, prefetchFactor);
+    }
+
+    @Override
+    public JobRunrExecutor toJobRunrExecutor() {
+        return jobRunrExecutorFunction.apply(workerCount);
+    }
+}
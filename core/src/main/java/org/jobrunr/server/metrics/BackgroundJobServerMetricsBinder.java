@@ -5,6 +5,7 @@ import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.MeterRegistry;
 import org.jobrunr.server.BackgroundJobServer;
+import org.jobrunr.server.JobSteward;
 import org.jobrunr.storage.BackgroundJobServerStatus;
 import org.jobrunr.utils.resilience.CachedValue;
 
@@ -44,6 +45,10 @@ public class BackgroundJobServerMetricsBinder implements AutoCloseable {
         meters.add(registerGauge("last-heartbeat", this::getLastHeartbeatAsEpochSeconds));
         meters.add(registerGauge("system-cpu-load", bgJobServerStatus -> bgJobServerStatus.get().getSystemCpuLoad()));
         meters.add(registerGauge("process-cpu-load", bgJobServerStatus -> bgJobServerStatus.get().getProcessCpuLoad()));
+
+        meters.add(registerJobStewardFunction("onboarding-claims", jobSteward -> (double) jobSteward.getAmountOfOnboardingClaims()));
+        meters.add(registerJobStewardFunction("onboarded-jobs", jobSteward -> (double) jobSteward.getAmountOfOnboardedJobs()));
+        meters.add(registerJobStewardGauge("onboarding-average-batch-size", this::getAverageOnboardingBatchSize));
     }
 
     private FunctionCounter registerFunction(String name, ToDoubleFunction<CachedValue<BackgroundJobServerStatus>> func) {
@@ -54,6 +59,14 @@ public class BackgroundJobServerMetricsBinder implements AutoCloseable {
         return Gauge.builder(toMicroMeterName(name), this.backgroundJobServerStatusCachedValue, func).tag("id", this.backgroundJobServer.getId().toString()).register(meterRegistry);
     }
 
+    private FunctionCounter registerJobStewardFunction(String name, ToDoubleFunction<JobSteward> func) {
+        return FunctionCounter.builder(toMicroMeterName(name), this.backgroundJobServer.getJobSteward(), func).tag("id", this.backgroundJobServer.getId().toString()).register(meterRegistry);
+    }
+
+    private Gauge registerJobStewardGauge(String name, ToDoubleFunction<JobSteward> func) {
+        return Gauge.builder(toMicroMeterName(name), this.backgroundJobServer.getJobSteward(), func).tag("id", this.backgroundJobServer.getId().toString()).register(meterRegistry);
+    }
+
     private String toMicroMeterName(String name) {
         return "jobrunr.background-job-server." + name;
     }
@@ -68,6 +81,11 @@ public class BackgroundJobServerMetricsBinder implements AutoCloseable {
         return status.isRunning() ? status.getLastHeartbeat().getEpochSecond() : -1;
     }
 
+    private double getAverageOnboardingBatchSize(JobSteward jobSteward) {
+        long amountOfOnboardingClaims = jobSteward.getAmountOfOnboardingClaims();
+        return amountOfOnboardingClaims > 0 ? (double) jobSteward.getAmountOfOnboardedJobs() / amountOfOnboardingClaims : 0;
+    }
+
     @Override
     public void close() {
         meters.forEach(meter -> {
@@ -0,0 +1,56 @@
+package org.jobrunr.server.strategy;
+
+import org.jobrunr.server.BackgroundJobServer;
+import org.jobrunr.server.JobSteward;
+import org.jobrunr.storage.navigation.AmountRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.jobrunr.storage.Paging.AmountBasedList.ascOnUpdatedAt;
+
+/**
+ * A {@link WorkDistributionStrategy} that fetches more jobs than there are idle workers and keeps the extra jobs (already claimed and in
+ * state PROCESSING) in a local buffer of the {@link JobSteward}. Workers that become idle take their next job from the buffer instead of
+ * waiting for a round-trip to the StorageProvider. The buffer is only refilled once it is half empty so that jobs are fetched in batches.
+ */
+public class PrefetchingWorkDistributionStrategy implements WorkDistributionStrategy {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PrefetchingWorkDistributionStrategy.class);
+
+    private final BackgroundJobServer backgroundJobServer;
+    private final int workerCount;
+    private final int prefetchBufferSize;
+
+    public PrefetchingWorkDistributionStrategy(BackgroundJobServer backgroundJobServer, int workerCount, double prefetchFactor) {
+        if (prefetchFactor < 1) throw new IllegalArgumentException("The prefetchFactor must be greater than or equal to 1");
+        this.backgroundJobServer = backgroundJobServer;
+        this.workerCount = workerCount;
+        this.prefetchBufferSize = (int) Math.ceil(workerCount * (prefetchFactor - 1));
+    }
+
+    @Override
+    public int getWorkerCount() {
+        return workerCount;
+    }
+
+    @Override
+    public AmountRequest getWorkPageRequest() {
+        final JobSteward jobSteward = backgroundJobServer.getJobSteward();
+        final int occupiedWorkerCount = jobSteward.getOccupiedWorkerCount();
+        final int prefetchedJobCount = jobSteward.getPrefetchedJobCount();
+
+        final int limit = Math.max(0, workerCount + prefetchBufferSize - occupiedWorkerCount - prefetchedJobCount);
+        // why: as long as the buffer is more than half full, idle workers can take their next job from it
+        if (prefetchedJobCount > 0 && limit < Math.max(1, prefetchBufferSize / 2)) {
+            LOGGER.debug("No need to onboard new work yet (occupiedWorkerCount = {}; prefetchedJobCount = {}; workerCount = {}).", occupiedWorkerCount, prefetchedJobCount, workerCount);
+            return ascOnUpdatedAt(0);
+        }
+        LOGGER.debug("Can onboard {} new work (occupiedWorkerCount = {}; prefetchedJobCount = {}; workerCount = {}).", limit, occupiedWorkerCount, prefetchedJobCount, workerCount);
+        return ascOnUpdatedAt(limit);
+    }
+
+    @Override
+    public boolean isPrefetchingWork() {
+        return true;
+    }
+}
@@ -7,4 +7,14 @@ public interface WorkDistributionStrategy {
     int getWorkerCount();
 
     AmountRequest getWorkPageRequest();
+
+    /**
+     * Whether the jobs that are fetched using the {@link #getWorkPageRequest()} are first kept in a local buffer of the
+     * {@link org.jobrunr.server.JobSteward} from which idle workers take their next job.
+     *
+     * @return true if work is prefetched into the local buffer, false if all fetched jobs are handed to the workers directly
+     */
+    default boolean isPrefetchingWork() {
+        return false;
+    }
 }
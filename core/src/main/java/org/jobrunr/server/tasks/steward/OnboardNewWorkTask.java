@@ -8,17 +8,24 @@ import org.jobrunr.server.tasks.TaskRunInfo;
 import org.jobrunr.storage.navigation.AmountRequest;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantLock;
 
 public class OnboardNewWorkTask extends AbstractJobStewardTask {
 
     private final ReentrantLock reentrantLock;
     private final WorkDistributionStrategy workDistributionStrategy;
+    private final AtomicLong amountOfClaims;
+    private final AtomicLong amountOfRequestedJobs;
+    private final AtomicLong amountOfClaimedJobs;
 
     public OnboardNewWorkTask(BackgroundJobServer backgroundJobServer) {
         super(backgroundJobServer);
         this.reentrantLock = new ReentrantLock();
         this.workDistributionStrategy = backgroundJobServer.getWorkDistributionStrategy();
+        this.amountOfClaims = new AtomicLong();
+        this.amountOfRequestedJobs = new AtomicLong();
+        this.amountOfClaimedJobs = new AtomicLong();
     }
 
     /**
@@ -31,13 +38,20 @@ public class OnboardNewWorkTask extends AbstractJobStewardTask {
 
     @Override
     protected void runTask() {
-        if (backgroundJobServer.isRunning() && reentrantLock.tryLock()) {
+        if (!backgroundJobServer.isRunning()) return;
+        if (workDistributionStrategy.isPrefetchingWork()) {
+            backgroundJobServer.getJobSteward().processPrefetchedJobs();
+        }
+        if (reentrantLock.tryLock()) {
             try {
                 LOGGER.trace("Looking for enqueued jobs... ");
                 final AmountRequest workPageRequest = workDistributionStrategy.getWorkPageRequest();
                 if (workPageRequest.getLimit() > 0) {
                     final List<Job> enqueuedJobs = storageProvider.getJobsToProcess(backgroundJobServer, workPageRequest);
-                    enqueuedJobs.forEach(backgroundJobServer::processJob);
+                    amountOfClaims.incrementAndGet();
+                    amountOfRequestedJobs.addAndGet(workPageRequest.getLimit());
+                    amountOfClaimedJobs.addAndGet(enqueuedJobs.size());
+                    processJobs(enqueuedJobs);
                     LOGGER.debug("Found {} enqueued jobs to process.", enqueuedJobs.size());
                 }
             } finally {
@@ -45,4 +59,25 @@ public class OnboardNewWorkTask extends AbstractJobStewardTask {
             }
         }
     }
+
+    public long getAmountOfClaims() {
+        return amountOfClaims.get();
+    }
+
+    public long getAmountOfRequestedJobs() {
+        return amountOfRequestedJobs.get();
+    }
+
+    public long getAmountOfClaimedJobs() {
+        return amountOfClaimedJobs.get();
+    }
+
+    private void processJobs(List<Job> enqueuedJobs) {
+        if (workDistributionStrategy.isPrefetchingWork()) {
+            backgroundJobServer.getJobSteward().addPrefetchedJobs(enqueuedJobs);
+            backgroundJobServer.getJobSteward().processPrefetchedJobs();
+        } else {
+            enqueuedJobs.forEach(backgroundJobServer::processJob);
+        }
+    }
 }
@@ -1,18 +1,56 @@
 package org.jobrunr.server.tasks.steward;
 
 import org.jobrunr.jobs.Job;
+import org.jobrunr.jobs.context.JobDashboardLogger.JobDashboardLogLines;
+import org.jobrunr.jobs.context.JobDashboardProgressBar.JobDashboardProgress;
 import org.jobrunr.server.BackgroundJobServer;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
 public class UpdateJobsInProgressTask extends AbstractJobStewardTask {
 
+    private Map<UUID, Integer> metadataFingerprintsOfLastSave;
+
     public UpdateJobsInProgressTask(BackgroundJobServer backgroundJobServer) {
         super(backgroundJobServer);
+        this.metadataFingerprintsOfLastSave = new HashMap<>();
     }
 
     @Override
     protected void runTask() {
         LOGGER.debug("Updating currently processed jobs... ");
-        convertAndProcessJobs(backgroundJobServer.getJobSteward().getJobsInProgress(), this::updateCurrentlyProcessingJob);
+        Map<UUID, Integer> metadataFingerprints = new HashMap<>();
+        List<Job> jobsToSave = new ArrayList<>();
+        List<Job> jobsToTouch = new ArrayList<>();
+        for (Job job : getJobsInProgressAndPrefetchedJobs()) {
+            if (updateCurrentlyProcessingJob(job) == null) continue;
+
+            Integer metadataFingerprint = getMetadataFingerprint(job);
+            if (metadataFingerprint != null && metadataFingerprint.equals(metadataFingerprintsOfLastSave.get(job.getId()))) {
+                jobsToTouch.add(job);
+            } else {
+                jobsToSave.add(job);
+            }
+            metadataFingerprints.put(job.getId(), metadataFingerprint);
+        }
+        touchProcessingJobs(jobsToTouch, jobsToSave);
+        saveAndRunJobFilters(jobsToSave);
+        this.metadataFingerprintsOfLastSave = metadataFingerprints;
+    }
+
+    private Set<Job> getJobsInProgressAndPrefetchedJobs() {
+        // why: prefetched jobs are already in state PROCESSING and would otherwise be seen as orphaned by the other BackgroundJobServers
+        Set<Job> jobs = new LinkedHashSet<>(backgroundJobServer.getJobSteward().getJobsInProgress());
+        jobs.addAll(backgroundJobServer.getJobSteward().getPrefetchedJobs());
+        return jobs;
     }
 
     private Job updateCurrentlyProcessingJob(Job job) {
@@ -25,4 +63,39 @@ public class UpdateJobsInProgressTask extends AbstractJobStewardTask {
             return null;
         }
     }
+
+    private void touchProcessingJobs(List<Job> jobsToTouch, List<Job> jobsToSave) {
+        if (jobsToTouch.isEmpty()) return;
+
+        int amountTouched = storageProvider.touchProcessingJobs(jobsToTouch, Instant.now());
+        if (amountTouched != jobsToTouch.size()) {
+            // why: some jobs are not in state PROCESSING anymore or were modified concurrently (e.g. deleted via the dashboard), or the StorageProvider
+            // does not support touching jobs. Saving them fully results in a ConcurrentJobModificationException for the concurrently modified jobs
+            // which is then resolved (e.g. by interrupting the job).
+            jobsToSave.addAll(jobsToTouch);
+        }
+    }
+
+    /**
+     * Returns a cheap fingerprint of the metadata (e.g. logs and progress bars) of the job, so that the job only needs to be saved if its
+     * metadata changed since the last save. If the fingerprint cannot be determined (e.g. for custom metadata), null is returned and the job
+     * is always saved.
+     */
+    private static Integer getMetadataFingerprint(Job job) {
+        int metadataFingerprint = job.getMetadata().size();
+        for (Map.Entry<String, Object> metadata : job.getMetadata().entrySet()) {
+            Object value = metadata.getValue();
+            if (value instanceof JobDashboardLogLines) {
+                metadataFingerprint += Objects.hash(metadata.getKey(), ((JobDashboardLogLines) value).getLogLines().size());
+            } else if (value instanceof JobDashboardProgress) {
+                JobDashboardProgress progress = (JobDashboardProgress) value;
+                metadataFingerprint += Objects.hash(metadata.getKey(), progress.getTotalAmount(), progress.getSucceededAmount(), progress.getFailedAmount());
+            } else if (value.getClass().getName().startsWith("java.")) {
+                metadataFingerprint += Objects.hash(metadata.getKey(), value);
+            } else {
+                return null;
+            }
+        }
+        return metadataFingerprint;
+    }
 }
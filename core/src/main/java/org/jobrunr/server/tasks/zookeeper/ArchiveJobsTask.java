@@ -0,0 +1,45 @@
+package org.jobrunr.server.tasks.zookeeper;
+
+import org.jobrunr.jobs.states.StateName;
+import org.jobrunr.server.BackgroundJobServer;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.jobrunr.jobs.states.StateName.DELETED;
+import static org.jobrunr.jobs.states.StateName.FAILED;
+import static org.jobrunr.jobs.states.StateName.SUCCEEDED;
+
+/**
+ * Moves the jobs that are SUCCEEDED, FAILED or DELETED for at least an hour to cold storage for StorageProviders that support it (see
+ * {@link org.jobrunr.storage.StorageProvider#archiveJobs(StateName, Instant, int)}), keeping the storage of the active jobs small.
+ */
+public class ArchiveJobsTask extends AbstractJobZooKeeperTask {
+
+    static final Duration ARCHIVE_JOBS_AFTER = Duration.ofHours(1);
+    private static final List<StateName> ARCHIVABLE_STATES = asList(SUCCEEDED, FAILED, DELETED);
+
+    private final int pageRequestSize;
+
+    public ArchiveJobsTask(BackgroundJobServer backgroundJobServer) {
+        super(backgroundJobServer);
+        this.pageRequestSize = backgroundJobServer.getConfiguration().getSucceededJobsRequestSize();
+    }
+
+    @Override
+    protected void runTask() {
+        LOGGER.trace("Looking for finished jobs to archive...");
+        final Instant updatedBefore = runStartTime().minus(ARCHIVE_JOBS_AFTER);
+        int totalAmountOfArchivedJobs = 0;
+        for (StateName state : ARCHIVABLE_STATES) {
+            int amountOfArchivedJobs;
+            do {
+                amountOfArchivedJobs = storageProvider.archiveJobs(state, updatedBefore, pageRequestSize);
+                totalAmountOfArchivedJobs += amountOfArchivedJobs;
+            } while (amountOfArchivedJobs == pageRequestSize && !pollIntervalInSecondsTimeBoxIsAboutToPass());
+        }
+        LOGGER.debug("Found {} finished jobs that were archived as part of JobRunr maintenance", totalAmountOfArchivedJobs);
+    }
+}
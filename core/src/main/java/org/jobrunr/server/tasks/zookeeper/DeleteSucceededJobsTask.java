@@ -1,6 +1,7 @@
 package org.jobrunr.server.tasks.zookeeper;
 
 import org.jobrunr.jobs.Job;
+import org.jobrunr.jobs.mappers.JobMapper;
 import org.jobrunr.server.BackgroundJobServer;
 
 import java.time.Instant;
@@ -24,9 +25,23 @@ public class DeleteSucceededJobsTask extends AbstractJobZooKeeperTask {
     protected void runTask() {
         LOGGER.trace("Looking for succeeded jobs that can go to the deleted state... ");
         final Instant updatedBefore = now().minus(backgroundJobServerConfiguration().getDeleteSucceededJobsAfter());
-        processManyJobs(previousResults -> getSucceededJobs(updatedBefore, previousResults),
-                job -> job.delete("JobRunr maintenance - deleting succeeded job"),
-                this::handleTotalAmountOfSucceededJobs);
+        if (backgroundJobServerConfiguration().isDeleteSucceededJobsInBulk()) {
+            deleteSucceededJobsInBulk(updatedBefore);
+        } else {
+            processManyJobs(previousResults -> getSucceededJobs(updatedBefore, previousResults),
+                    job -> job.delete(JobMapper.DELETED_SUCCEEDED_JOB_REASON),
+                    this::handleTotalAmountOfSucceededJobs);
+        }
+    }
+
+    private void deleteSucceededJobsInBulk(Instant updatedBefore) {
+        int totalAmountOfSucceededJobs = 0;
+        int amountOfSucceededJobs;
+        do {
+            amountOfSucceededJobs = storageProvider.deleteSucceededJobs(updatedBefore, pageRequestSize);
+            totalAmountOfSucceededJobs += amountOfSucceededJobs;
+        } while (amountOfSucceededJobs == pageRequestSize && !pollIntervalInSecondsTimeBoxIsAboutToPass());
+        handleTotalAmountOfSucceededJobs(totalAmountOfSucceededJobs);
     }
 
     private List<Job> getSucceededJobs(Instant updatedBefore, List<Job> previousResults) {
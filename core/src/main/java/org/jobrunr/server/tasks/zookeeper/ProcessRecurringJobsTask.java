@@ -10,11 +10,18 @@ import org.jobrunr.utils.InstantUtils;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
 
 import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.Comparator.comparing;
+import static java.util.stream.Collectors.toList;
 import static org.jobrunr.jobs.states.StateName.AWAITING;
 import static org.jobrunr.jobs.states.StateName.ENQUEUED;
 import static org.jobrunr.jobs.states.StateName.PROCESSING;
@@ -22,14 +29,21 @@ import static org.jobrunr.jobs.states.StateName.SCHEDULED;
 import static org.jobrunr.utils.CollectionUtils.findLast;
 import static org.jobrunr.utils.InstantUtils.isInstantBeforeOrEqualTo;
 
+/**
+ * Schedules the jobs of all {@link RecurringJob RecurringJobs}. To avoid evaluating the schedule of every recurring job on every run, the
+ * recurring jobs are kept in a min-heap ordered by the instant of their last registered run: only the recurring jobs of which that run is
+ * due are taken from the heap, evaluated and put back with their new run. The heap is rebuilt whenever the recurring jobs are updated.
+ */
 public class ProcessRecurringJobsTask extends AbstractJobZooKeeperTask {
 
     private final Map<String, Instant> recurringJobRuns;
+    private final PriorityQueue<RecurringJobRun> recurringJobRunsQueue;
     private RecurringJobsResult recurringJobs;
 
     public ProcessRecurringJobsTask(BackgroundJobServer backgroundJobServer) {
         super(backgroundJobServer);
         this.recurringJobRuns = new HashMap<>();
+        this.recurringJobRunsQueue = new PriorityQueue<>(comparing(RecurringJobRun::getRun));
         this.recurringJobs = new RecurringJobsResult();
     }
 
@@ -39,23 +53,39 @@ public class ProcessRecurringJobsTask extends AbstractJobZooKeeperTask {
 
         Instant from = runStartTime();
         Instant upUntil = runStartTime().plus(backgroundJobServerConfiguration().getPollInterval());
-        List<RecurringJob> recurringJobsToRun = getRecurringJobsToRun();
+        boolean recurringJobsUpdated = updateRecurringJobs();
 
         if (this.recurringJobRuns.isEmpty()) {
             fillRecurringJobRunsWithLatestScheduledAtForCarbonAware();
+            recurringJobsUpdated = true;
         }
+        if (recurringJobsUpdated) {
+            rebuildRecurringJobRunsQueue();
+        }
+
+        List<RecurringJob> recurringJobsToRun = pollRecurringJobsToRun(from);
+        try {
+            Map<RecurringJob, List<Job>> jobsToSchedulePerRecurringJob = createJobsToSchedule(recurringJobsToRun, from, upUntil);
+            Map<String, Instant> latestScheduledAtOfJobsInStorageProvider = getLatestScheduledAtOfJobsInStorageProvider(jobsToSchedulePerRecurringJob.keySet());
 
-        convertAndProcessManyJobs(recurringJobsToRun,
-                recurringJob -> toJobsToSchedule(recurringJob, from, upUntil),
-                totalAmountOfJobs -> LOGGER.debug("Found {} jobs to schedule from {} recurring jobs", totalAmountOfJobs, recurringJobsToRun.size()));
+            convertAndProcessManyJobs(new ArrayList<>(jobsToSchedulePerRecurringJob.keySet()),
+                    recurringJob -> toJobsToSchedule(recurringJob, jobsToSchedulePerRecurringJob.get(recurringJob), latestScheduledAtOfJobsInStorageProvider.get(recurringJob.getId()), from, upUntil),
+                    totalAmountOfJobs -> LOGGER.debug("Found {} jobs to schedule from {} recurring jobs", totalAmountOfJobs, recurringJobsToRun.size()));
+        } finally {
+            recurringJobsToRun.forEach(this::offerRecurringJobRun);
+        }
     }
 
     private void fillRecurringJobRunsWithLatestScheduledAtForCarbonAware() {
-        for (RecurringJob recurringJob : recurringJobs) {
-            Schedule schedule = recurringJob.getSchedule();
-            if (schedule.isNotCarbonAware()) continue;
+        List<RecurringJob> carbonAwareRecurringJobs = recurringJobs.stream()
+                .filter(recurringJob -> !recurringJob.getSchedule().isNotCarbonAware())
+                .collect(toList());
+        if (carbonAwareRecurringJobs.isEmpty()) return;
 
-            Instant scheduledAt = getLatestScheduledAtOfJobsInStorageProviderForAnyState(recurringJob);
+        Map<String, Instant> latestScheduledAtOfJobsInStorageProvider = getLatestScheduledAtOfJobsInStorageProviderForAnyState(carbonAwareRecurringJobs);
+        for (RecurringJob recurringJob : carbonAwareRecurringJobs) {
+            Schedule schedule = recurringJob.getSchedule();
+            Instant scheduledAt = latestScheduledAtOfJobsInStorageProvider.get(recurringJob.getId());
             if (scheduledAt == null) continue;
 
             Instant nextRun = recurringJob.getNextRun(runStartTime());
@@ -65,22 +95,47 @@ public class ProcessRecurringJobsTask extends AbstractJobZooKeeperTask {
         }
     }
 
-    private List<RecurringJob> getRecurringJobsToRun() {
+    private boolean updateRecurringJobs() {
         if (storageProvider.recurringJobsUpdated(recurringJobs.getLastModifiedHash())) {
-            this.recurringJobs = storageProvider.getRecurringJobs();
+            this.recurringJobs = storageProvider.getRecurringJobsChangedSince(recurringJobs);
+            return true;
+        }
+        return false;
+    }
+
+    private void rebuildRecurringJobRunsQueue() {
+        recurringJobRunsQueue.clear();
+        recurringJobs.forEach(this::offerRecurringJobRun);
+    }
+
+    private List<RecurringJob> pollRecurringJobsToRun(Instant runStartTime) {
+        List<RecurringJob> recurringJobsToRun = new ArrayList<>();
+        while (!recurringJobRunsQueue.isEmpty() && !recurringJobRunsQueue.peek().getRun().isAfter(runStartTime)) {
+            recurringJobsToRun.add(recurringJobRunsQueue.poll().getRecurringJob());
         }
-        return this.recurringJobs;
+        return recurringJobsToRun;
+    }
+
+    private void offerRecurringJobRun(RecurringJob recurringJob) {
+        // why: recurring jobs without a registered run have never been evaluated and are due immediately
+        recurringJobRunsQueue.offer(new RecurringJobRun(recurringJob, recurringJobRuns.getOrDefault(recurringJob.getId(), Instant.MIN)));
     }
 
-    private List<Job> toJobsToSchedule(RecurringJob recurringJob, Instant from, Instant upUntil) {
-        List<Job> jobsToSchedule = createJobsToSchedule(recurringJob, from, upUntil);
-        if (jobsToSchedule.isEmpty()) {
-            LOGGER.trace("Recurring job '{}' resulted in 0 scheduled jobs.", recurringJob.getJobName());
-            return emptyList();
+    private Map<RecurringJob, List<Job>> createJobsToSchedule(List<RecurringJob> recurringJobsToRun, Instant from, Instant upUntil) {
+        Map<RecurringJob, List<Job>> jobsToSchedulePerRecurringJob = new LinkedHashMap<>();
+        for (RecurringJob recurringJob : recurringJobsToRun) {
+            List<Job> jobsToSchedule = createJobsToSchedule(recurringJob, from, upUntil);
+            if (jobsToSchedule.isEmpty()) {
+                LOGGER.trace("Recurring job '{}' resulted in 0 scheduled jobs.", recurringJob.getJobName());
+            } else {
+                jobsToSchedulePerRecurringJob.put(recurringJob, jobsToSchedule);
+            }
         }
+        return jobsToSchedulePerRecurringJob;
+    }
 
+    private List<Job> toJobsToSchedule(RecurringJob recurringJob, List<Job> jobsToSchedule, Instant scheduledAtOfLatestJobInStorageProvider, Instant from, Instant upUntil) {
         Instant scheduledAtOfLastJobToSchedule = getScheduledAtOfLastScheduledJob(jobsToSchedule);
-        Instant scheduledAtOfLatestJobInStorageProvider = getLatestScheduledAtOfJobsInStorageProvider(recurringJob);
 
         if (hasJobInQueueOrProcessing(scheduledAtOfLatestJobInStorageProvider)) {
             if (recurringJobIsTakingTooLong(upUntil, scheduledAtOfLastJobToSchedule)) {
@@ -118,12 +173,17 @@ public class ProcessRecurringJobsTask extends AbstractJobZooKeeperTask {
         return scheduledAtOfLastJobToSchedule.isBefore(upUntil);
     }
 
-    private Instant getLatestScheduledAtOfJobsInStorageProvider(RecurringJob recurringJob) {
-        return storageProvider.getRecurringJobLatestScheduledInstant(recurringJob.getId(), AWAITING, SCHEDULED, ENQUEUED, PROCESSING);
+    private Map<String, Instant> getLatestScheduledAtOfJobsInStorageProvider(Collection<RecurringJob> recurringJobs) {
+        if (recurringJobs.isEmpty()) return emptyMap();
+        return storageProvider.getRecurringJobsLatestScheduledInstants(toRecurringJobIds(recurringJobs), AWAITING, SCHEDULED, ENQUEUED, PROCESSING);
+    }
+
+    private Map<String, Instant> getLatestScheduledAtOfJobsInStorageProviderForAnyState(Collection<RecurringJob> recurringJobs) {
+        return storageProvider.getRecurringJobsLatestScheduledInstants(toRecurringJobIds(recurringJobs));
     }
 
-    private Instant getLatestScheduledAtOfJobsInStorageProviderForAnyState(RecurringJob recurringJob) {
-        return storageProvider.getRecurringJobLatestScheduledInstant(recurringJob.getId());
+    private static List<String> toRecurringJobIds(Collection<RecurringJob> recurringJobs) {
+        return recurringJobs.stream().map(RecurringJob::getId).collect(toList());
     }
 
     private void registerRecurringJobRun(RecurringJob recurringJob, Instant instant) {
@@ -135,4 +195,22 @@ public class ProcessRecurringJobsTask extends AbstractJobZooKeeperTask {
                 .map(x -> ((SchedulableState) x.getJobState()).getScheduledAt())
                 .orElseThrow(() -> new IllegalArgumentException("jobsToSchedule must not be empty."));
     }
+
+    private static class RecurringJobRun {
+        private final RecurringJob recurringJob;
+        private final Instant run;
+
+        private RecurringJobRun(RecurringJob recurringJob, Instant run) {
+            this.recurringJob = recurringJob;
+            this.run = run;
+        }
+
+        RecurringJob getRecurringJob() {
+            return recurringJob;
+        }
+
+        Instant getRun() {
+            return run;
+        }
+    }
 }
@@ -0,0 +1,30 @@
+package org.jobrunr.server.tasks.zookeeper;
+
+import org.jobrunr.server.BackgroundJobServer;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Periodically reconciles the {@link org.jobrunr.storage.JobStats} of StorageProviders that maintain them incrementally (see
+ * {@link org.jobrunr.storage.StorageProvider#reconcileJobStats()}). As this requires counting all jobs, it only runs once every hour.
+ */
+public class ReconcileJobStatsTask extends AbstractJobZooKeeperTask {
+
+    static final Duration RECONCILE_INTERVAL = Duration.ofHours(1);
+
+    private Instant lastReconciliation;
+
+    public ReconcileJobStatsTask(BackgroundJobServer backgroundJobServer) {
+        super(backgroundJobServer);
+    }
+
+    @Override
+    protected void runTask() {
+        if (lastReconciliation != null && runStartTime().isBefore(lastReconciliation.plus(RECONCILE_INTERVAL))) return;
+
+        LOGGER.trace("Reconciling job stats...");
+        storageProvider.reconcileJobStats();
+        lastReconciliation = runStartTime();
+    }
+}
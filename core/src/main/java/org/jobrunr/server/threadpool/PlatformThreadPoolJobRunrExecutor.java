@@ -3,12 +3,14 @@ package org.jobrunr.server.threadpool;
 import org.jobrunr.utils.threadpool.NamedThreadFactory;
 
 import java.time.Duration;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 import static java.util.stream.Collectors.toList;
 
@@ -28,7 +30,7 @@ public class PlatformThreadPoolJobRunrExecutor extends AbstractJobRunrExecutor<S
     public PlatformThreadPoolJobRunrExecutor(int corePoolSize, int maxPoolSize, String threadNamePrefix) {
         super(corePoolSize, createPlatformThreadExecutorService(corePoolSize, maxPoolSize, threadNamePrefix));
         this.corePoolSize = corePoolSize;
-        this.scheduledFutures = new HashMap<>();
+        this.scheduledFutures = new ConcurrentHashMap<>();
     }
 
     public void increasePoolSize(int increment) {
@@ -42,6 +44,19 @@ public class PlatformThreadPoolJobRunrExecutor extends AbstractJobRunrExecutor<S
         scheduledFutures.put(command, scheduledFuture);
     }
 
+    /**
+     * Schedules the given command like {@link #scheduleWithFixedDelay(Runnable, Duration, Duration)} but asks the given supplier for the
+     * delay after each run, so that the delay between runs can adapt (e.g. to the amount of work that is available).
+     *
+     * @param command          the command to run
+     * @param initialDelay     the delay before the first run
+     * @param delayBetweenRuns supplies the delay between the end of a run and the start of the next run
+     */
+    public void scheduleWithAdaptiveDelay(Runnable command, Duration initialDelay, Supplier<Duration> delayBetweenRuns) {
+        // why: compute instead of put as a first run without initial delay may otherwise finish before the command is registered
+        scheduledFutures.compute(command, (runnable, future) -> scheduleAdaptively(command, initialDelay, delayBetweenRuns));
+    }
+
     public <T extends Runnable> void cancelScheduledFuturesOfType(Class<T> type) {
         List<Runnable> toCancel = scheduledFutures.keySet().stream()
                 .filter(x -> type.isAssignableFrom(x.getClass()))
@@ -59,6 +74,26 @@ public class PlatformThreadPoolJobRunrExecutor extends AbstractJobRunrExecutor<S
         executorService.setMaximumPoolSize(newPoolSize);
     }
 
+    private ScheduledFuture<?> scheduleAdaptively(Runnable command, Duration delay, Supplier<Duration> delayBetweenRuns) {
+        return executorService.schedule(() -> {
+            try {
+                command.run();
+            } finally {
+                rescheduleAdaptively(command, delayBetweenRuns);
+            }
+        }, delay.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private void rescheduleAdaptively(Runnable command, Supplier<Duration> delayBetweenRuns) {
+        try {
+            // why: computeIfPresent as the command must not be rescheduled if it was cancelled in the meantime
+            scheduledFutures.computeIfPresent(command, (runnable, future) -> scheduleAdaptively(command, delayBetweenRuns.get(), delayBetweenRuns));
+        } catch (RejectedExecutionException e) {
+            // the executor is shutting down
+            scheduledFutures.remove(command);
+        }
+    }
+
     static ScheduledThreadPoolExecutor createPlatformThreadExecutorService(int corePoolSize, int maxPoolSize, String threadNamePrefix) {
         NamedThreadFactory namedThreadFactory = new NamedThreadFactory(threadNamePrefix, false);
         ScheduledThreadPoolExecutor executorService = new ScheduledThreadPoolExecutor(corePoolSize, namedThreadFactory);
@@ -6,6 +6,7 @@ import org.jobrunr.storage.listeners.BackgroundJobServerStatusChangeListener;
 import org.jobrunr.storage.listeners.JobChangeListener;
 import org.jobrunr.storage.listeners.JobStatsChangeListener;
 import org.jobrunr.storage.listeners.MetadataChangeListener;
+import org.jobrunr.storage.listeners.NewWorkAvailableListener;
 import org.jobrunr.storage.listeners.StorageProviderChangeListener;
 import org.jobrunr.utils.resilience.RateLimiter;
 import org.jobrunr.utils.streams.StreamUtils;
@@ -57,13 +58,16 @@ public abstract class AbstractStorageProvider implements StorageProvider, AutoCl
     @Override
     public void addJobStorageOnChangeListener(StorageProviderChangeListener listener) {
         onChangeListeners.add(listener);
-        startSchedulerToSendUpdates();
+        // why: NewWorkAvailableListeners are pushed to by the StorageProvider itself and do not need the scheduler
+        if (!(listener instanceof NewWorkAvailableListener)) {
+            startSchedulerToSendUpdates();
+        }
     }
 
     @Override
     public void removeJobStorageOnChangeListener(StorageProviderChangeListener listener) {
         onChangeListeners.remove(listener);
-        if (onChangeListeners.isEmpty()) {
+        if (onChangeListeners.stream().allMatch(NewWorkAvailableListener.class::isInstance)) {
             stopSchedulerToSendUpdates();
         }
     }
@@ -116,6 +120,22 @@ public abstract class AbstractStorageProvider implements StorageProvider, AutoCl
         runInBackgroundThread(this::notifyMetadataChangeListenersOnCurrentThread);
     }
 
+    protected boolean hasNewWorkAvailableListeners() {
+        return StreamUtils.ofType(onChangeListeners, NewWorkAvailableListener.class).findAny().isPresent();
+    }
+
+    protected void notifyNewWorkAvailableListeners() {
+        StreamUtils
+                .ofType(onChangeListeners, NewWorkAvailableListener.class)
+                .forEach(listener -> {
+                    try {
+                        listener.onNewWorkAvailable();
+                    } catch (Exception e) {
+                        LOGGER.warn("Error notifying NewWorkAvailableListener", e);
+                    }
+                });
+    }
+
     private void startSchedulerToSendUpdates() {
         schedulerLock.lock();
         try {
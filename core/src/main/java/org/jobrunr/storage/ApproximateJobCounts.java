@@ -0,0 +1,58 @@
+package org.jobrunr.storage;
+
+import org.jobrunr.jobs.states.StateName;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import static org.jobrunr.storage.CountPrecision.APPROXIMATE_COUNT_THRESHOLD;
+
+/**
+ * Keeps the approximate amount of jobs per state for a short time, so that huge states (e.g. millions of SUCCEEDED jobs) are not counted
+ * again for every page of jobs that is shown in the dashboard. Only amounts above the {@link CountPrecision#APPROXIMATE_COUNT_THRESHOLD} are
+ * kept, smaller amounts are cheap to count and are always counted again. A kept amount is returned as an approximation.
+ */
+public class ApproximateJobCounts {
+
+    private final Duration timeToLive;
+    private final Map<StateName, ApproximateJobCount> approximateJobCounts;
+
+    public ApproximateJobCounts(Duration timeToLive) {
+        this.timeToLive = timeToLive;
+        this.approximateJobCounts = new ConcurrentHashMap<>();
+    }
+
+    public JobCount countJobs(StateName state, Function<StateName, JobCount> jobCounter) {
+        ApproximateJobCount approximateJobCount = approximateJobCounts.get(state);
+        if (approximateJobCount != null && approximateJobCount.isValid()) return JobCount.approximately(approximateJobCount.getAmount());
+
+        JobCount jobCount = jobCounter.apply(state);
+        if (jobCount.getAmount() >= APPROXIMATE_COUNT_THRESHOLD) {
+            approximateJobCounts.put(state, new ApproximateJobCount(jobCount.getAmount(), Instant.now().plus(timeToLive)));
+        } else {
+            approximateJobCounts.remove(state);
+        }
+        return jobCount;
+    }
+
+    private static class ApproximateJobCount {
+        private final long amount;
+        private final Instant validUntil;
+
+        private ApproximateJobCount(long amount, Instant validUntil) {
+            this.amount = amount;
+            this.validUntil = validUntil;
+        }
+
+        long getAmount() {
+            return amount;
+        }
+
+        boolean isValid() {
+            return Instant.now().isBefore(validUntil);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package org.jobrunr.storage;
+
+/**
+ * The precision with which the jobs in a state are counted by the {@link StorageProvider}.
+ */
+public enum CountPrecision {
+
+    /**
+     * The jobs are counted exactly.
+     */
+    EXACT,
+
+    /**
+     * The jobs are counted exactly if there are less than {@link #APPROXIMATE_COUNT_THRESHOLD} of them. Above it, the {@link StorageProvider} may
+     * return an estimate (e.g. from the statistics of the database or a recently cached count), as counting millions of jobs exactly takes seconds.
+     */
+    APPROXIMATE;
+
+    public static final long APPROXIMATE_COUNT_THRESHOLD = 100_000L;
+}
@@ -6,16 +6,20 @@ import org.jobrunr.jobs.JobVersioner;
 import org.jobrunr.jobs.RecurringJob;
 import org.jobrunr.jobs.mappers.JobMapper;
 import org.jobrunr.jobs.states.CarbonAwareAwaitingState;
+import org.jobrunr.jobs.states.ProcessingState;
 import org.jobrunr.jobs.states.SchedulableState;
 import org.jobrunr.jobs.states.ScheduledState;
 import org.jobrunr.jobs.states.StateName;
 import org.jobrunr.storage.StorageProviderUtils.DatabaseOptions;
 import org.jobrunr.storage.navigation.AmountRequest;
+import org.jobrunr.storage.navigation.CursorBasedPageRequest;
 import org.jobrunr.storage.navigation.OffsetBasedPageRequest;
+import org.jobrunr.storage.navigation.OrderTerm;
 import org.jobrunr.utils.resilience.RateLimiter;
 
 import java.time.Instant;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -54,6 +58,9 @@ public class InMemoryStorageProvider extends AbstractStorageProvider {
     private final Map<UUID, BackgroundJobServerStatus> backgroundJobServers = new ConcurrentHashMap<>();
     private final List<RecurringJob> recurringJobs = new CopyOnWriteArrayList<>();
     private final Map<String, JobRunrMetadata> metadata = new ConcurrentHashMap<>();
+    private final AtomicLong recurringJobsVersion = new AtomicLong();
+    private final Map<String, Long> recurringJobVersions = new HashMap<>();
+    private final Map<String, Long> recurringJobTombstones = new HashMap<>();
     private JobMapper jobMapper;
 
     public InMemoryStorageProvider() {
@@ -233,6 +240,18 @@ public class InMemoryStorageProvider extends AbstractStorageProvider {
         return job;
     }
 
+    @Override
+    public synchronized int touchProcessingJobs(List<Job> jobs, Instant updatedAt) {
+        int amountTouched = 0;
+        for (Job jobToTouch : jobs) {
+            Job job = jobQueue.get(jobToTouch.getId());
+            if (job == null || !job.hasState(PROCESSING) || job.getVersion() != jobToTouch.getVersion()) continue;
+            job.<ProcessingState>getJobState().setUpdatedAt(updatedAt);
+            amountTouched++;
+        }
+        return amountTouched;
+    }
+
     @Override
     public int deletePermanently(UUID id) {
         Job removedJob = jobQueue.remove(id);
@@ -291,26 +310,55 @@ public class InMemoryStorageProvider extends AbstractStorageProvider {
 
     @Override
     public RecurringJob saveRecurringJob(RecurringJob recurringJob) {
-        deleteRecurringJob(recurringJob.getId());
-        recurringJobs.add(recurringJob);
+        synchronized (recurringJobVersions) {
+            recurringJobs.removeIf(job -> recurringJob.getId().equals(job.getId()));
+            recurringJobs.add(recurringJob);
+            recurringJobVersions.put(recurringJob.getId(), recurringJobsVersion.incrementAndGet());
+            recurringJobTombstones.remove(recurringJob.getId());
+        }
         return recurringJob;
     }
 
     @Override
     public RecurringJobsResult getRecurringJobs() {
-        return new RecurringJobsResult(recurringJobs.stream().map(this::deepClone).collect(toList()));
+        synchronized (recurringJobVersions) {
+            return new RecurringJobsResult(recurringJobs.stream().map(this::deepClone).collect(toList()), recurringJobsVersion.get());
+        }
+    }
+
+    @Override
+    public RecurringJobsResult getRecurringJobsChangedSince(RecurringJobsResult recurringJobsResult) {
+        long since = recurringJobsResult.getLastModifiedHash();
+        if (since < 0) return getRecurringJobs();
+
+        synchronized (recurringJobVersions) {
+            List<RecurringJob> changedRecurringJobs = recurringJobs.stream()
+                    .filter(recurringJob -> recurringJobVersions.getOrDefault(recurringJob.getId(), 0L) > since)
+                    .map(this::deepClone)
+                    .collect(toList());
+            List<String> deletedRecurringJobIds = recurringJobTombstones.entrySet().stream()
+                    .filter(tombstone -> tombstone.getValue() > since)
+                    .map(Map.Entry::getKey)
+                    .collect(toList());
+            return recurringJobsResult.merge(changedRecurringJobs, deletedRecurringJobIds, recurringJobsVersion.get());
+        }
     }
 
     @Override
     public boolean recurringJobsUpdated(Long recurringJobsUpdatedHash) {
-        Long currentResult = recurringJobs.stream().map(rj -> rj.getCreatedAt().toEpochMilli()).reduce(Long::sum).orElse(0L);
-        return !currentResult.equals(recurringJobsUpdatedHash);
+        return recurringJobsUpdatedHash != recurringJobsVersion.get();
     }
 
     @Override
     public int deleteRecurringJob(String id) {
-        boolean removed = recurringJobs.removeIf(job -> id.equals(job.getId()));
-        return removed ? 1 : 0;
+        synchronized (recurringJobVersions) {
+            boolean removed = recurringJobs.removeIf(job -> id.equals(job.getId()));
+            if (removed) {
+                recurringJobVersions.remove(id);
+                recurringJobTombstones.put(id, recurringJobsVersion.incrementAndGet());
+            }
+            return removed ? 1 : 0;
+        }
     }
 
     @Override
@@ -352,6 +400,12 @@ public class InMemoryStorageProvider extends AbstractStorageProvider {
     }
 
     private Stream<Job> getJobsStream(StateName state, AmountRequest amountRequest) {
+        if (amountRequest instanceof CursorBasedPageRequest) {
+            CursorBasedPageRequest cursorBasedPageRequest = (CursorBasedPageRequest) amountRequest;
+            return getJobsStream(state)
+                    .filter(cursorBasedPageRequest::isAfterCursor)
+                    .sorted(getJobComparator(cursorBasedPageRequest));
+        }
         return getJobsStream(state)
                 .sorted(getJobComparator(amountRequest));
     }
@@ -385,6 +439,12 @@ public class InMemoryStorageProvider extends AbstractStorageProvider {
         }
     }
 
+    private Comparator<Job> getJobComparator(CursorBasedPageRequest cursorBasedPageRequest) {
+        Comparator<Job> idComparator = comparing(job -> job.getId().toString());
+        return Job.ALLOWED_SORT_COLUMNS.toComparator(cursorBasedPageRequest.getSeekOrderTerm())
+                .thenComparing(cursorBasedPageRequest.getSeekOrderTerm().getOrder() == OrderTerm.Order.ASC ? idComparator : idComparator.reversed());
+    }
+
     private Comparator<Job> getJobComparator(AmountRequest amountRequest) {
         List<Comparator<Job>> comparators = amountRequest.getAllOrderTerms(Job.ALLOWED_SORT_COLUMNS.keySet()).stream()
                 .map(Job.ALLOWED_SORT_COLUMNS::toComparator)
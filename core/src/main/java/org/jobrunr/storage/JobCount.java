@@ -0,0 +1,32 @@
+package org.jobrunr.storage;
+
+/**
+ * The amount of jobs in a state as counted by the {@link StorageProvider} and whether that amount is exact or an approximation (see
+ * {@link CountPrecision#APPROXIMATE}).
+ */
+public class JobCount {
+
+    private final long amount;
+    private final boolean approximate;
+
+    private JobCount(long amount, boolean approximate) {
+        this.amount = amount;
+        this.approximate = approximate;
+    }
+
+    public static JobCount exactly(long amount) {
+        return new JobCount(amount, false);
+    }
+
+    public static JobCount approximately(long amount) {
+        return new JobCount(amount, true);
+    }
+
+    public long getAmount() {
+        return amount;
+    }
+
+    public boolean isApproximate() {
+        return approximate;
+    }
+}
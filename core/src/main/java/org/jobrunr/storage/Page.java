@@ -19,6 +19,7 @@ public class Page<T> {
     private final String previousPageRequest;
     private final String nextPageRequest;
     private final ArrayList<T> items;
+    private boolean totalApproximate;
 
     public Page(long total, List<T> items, PageRequest currentPage, PageRequest previousPageRequest, PageRequest nextPageRequest) {
         this(total, items, -1, -1, currentPage, previousPageRequest, nextPageRequest);
@@ -41,6 +42,15 @@ public class Page<T> {
         return total;
     }
 
+    /**
+     * Returns whether the total is an approximation, as huge amounts of jobs are not counted exactly (see {@link CountPrecision#APPROXIMATE}).
+     *
+     * @return true if the total is an approximation
+     */
+    public boolean isTotalApproximate() {
+        return totalApproximate;
+    }
+
     public int getCurrentPage() {
         return currentPage;
     }
@@ -81,6 +91,11 @@ public class Page<T> {
         return hasNext;
     }
 
+    Page<T> withApproximateTotal() {
+        this.totalApproximate = true;
+        return this;
+    }
+
     private static int calculateTotalPages(long total, PageRequest currentPageRequest) {
         if (total == 0L) return 0;
         int result = (int) Math.ceil((double) total / currentPageRequest.getLimit());
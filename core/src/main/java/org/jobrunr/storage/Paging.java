@@ -1,6 +1,7 @@
 package org.jobrunr.storage;
 
 import org.jobrunr.storage.navigation.AmountRequest;
+import org.jobrunr.storage.navigation.CursorBasedPageRequest;
 import org.jobrunr.storage.navigation.OffsetBasedPageRequest;
 
 public class Paging {
@@ -70,4 +71,24 @@ public class Paging {
             return new OffsetBasedPageRequest(StorageProviderUtils.Jobs.FIELD_SCHEDULED_AT + ":" + ASC, offset, amount);
         }
     }
-}
\ No newline at end of file
+
+    public static class CursorBasedPage {
+        private CursorBasedPage() {}
+
+        public static CursorBasedPageRequest next(Page<?> page) {
+            return CursorBasedPageRequest.fromString(page.getNextPageRequest());
+        }
+
+        public static CursorBasedPageRequest ascOnUpdatedAt(int amount) {
+            return new CursorBasedPageRequest(StorageProviderUtils.Jobs.FIELD_UPDATED_AT + ":" + ASC, null, amount);
+        }
+
+        public static CursorBasedPageRequest descOnUpdatedAt(int amount) {
+            return new CursorBasedPageRequest(StorageProviderUtils.Jobs.FIELD_UPDATED_AT + ":" + DESC, null, amount);
+        }
+
+        public static CursorBasedPageRequest ascOnScheduledAt(int amount) {
+            return new CursorBasedPageRequest(StorageProviderUtils.Jobs.FIELD_SCHEDULED_AT + ":" + ASC, null, amount);
+        }
+    }
+}
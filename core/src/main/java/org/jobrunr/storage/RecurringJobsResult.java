@@ -4,6 +4,8 @@ import org.jobrunr.jobs.RecurringJob;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 public class RecurringJobsResult extends ArrayList<RecurringJob> {
 
@@ -14,16 +16,42 @@ public class RecurringJobsResult extends ArrayList<RecurringJob> {
     }
 
     public RecurringJobsResult(Collection<RecurringJob> recurringJobs) {
-        super(recurringJobs);
-        this.recurringJobsLastModifiedHash = this.stream()
+        this(recurringJobs, recurringJobs.stream()
                 .map(recurringJob -> recurringJob.getCreatedAt().toEpochMilli()).reduce(Long::sum)
-                .orElse(-1L);
+                .orElse(-1L));
+    }
+
+    /**
+     * Creates a RecurringJobsResult of which the last modified hash is the version of the recurring jobs kept by the {@link StorageProvider}.
+     *
+     * @param recurringJobs                 the recurring jobs
+     * @param recurringJobsLastModifiedHash the version of the recurring jobs which was read before the recurring jobs themselves
+     */
+    public RecurringJobsResult(Collection<RecurringJob> recurringJobs, long recurringJobsLastModifiedHash) {
+        super(recurringJobs);
+        this.recurringJobsLastModifiedHash = recurringJobsLastModifiedHash;
     }
 
     public long getLastModifiedHash() {
         return recurringJobsLastModifiedHash;
     }
 
+    /**
+     * Returns a new RecurringJobsResult containing the recurring jobs of this result with the given changes applied to them.
+     *
+     * @param changedRecurringJobs          the recurring jobs that were created or updated since this result
+     * @param deletedRecurringJobIds        the ids of the recurring jobs that were deleted since this result
+     * @param recurringJobsLastModifiedHash the version of the recurring jobs which was read before the changes themselves
+     * @return a new RecurringJobsResult with the changes applied
+     */
+    public RecurringJobsResult merge(Collection<RecurringJob> changedRecurringJobs, Collection<String> deletedRecurringJobIds, long recurringJobsLastModifiedHash) {
+        Map<String, RecurringJob> recurringJobs = new LinkedHashMap<>();
+        this.forEach(recurringJob -> recurringJobs.put(recurringJob.getId(), recurringJob));
+        deletedRecurringJobIds.forEach(recurringJobs::remove);
+        changedRecurringJobs.forEach(recurringJob -> recurringJobs.put(recurringJob.getId(), recurringJob));
+        return new RecurringJobsResult(recurringJobs.values(), recurringJobsLastModifiedHash);
+    }
+
     @Override
     public boolean add(RecurringJob recurringJob) {
         throw new UnsupportedOperationException("RecurringJobsResult is an unmodifiable list");
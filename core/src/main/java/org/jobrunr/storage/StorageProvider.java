@@ -15,7 +15,10 @@ import org.jobrunr.storage.navigation.PageRequest;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 
@@ -24,6 +27,7 @@ import static java.util.stream.Collectors.toSet;
 import static org.jobrunr.jobs.states.StateName.ENQUEUED;
 import static org.jobrunr.jobs.states.StateName.PROCESSING;
 import static org.jobrunr.jobs.states.StateName.SCHEDULED;
+import static org.jobrunr.storage.Paging.AmountBasedList.ascOnUpdatedAt;
 
 /**
  * The StorageProvider allows to store, retrieve and delete background jobs.
@@ -106,6 +110,23 @@ public interface StorageProvider extends AutoCloseable {
      */
     List<Job> save(List<Job> jobs) throws ConcurrentJobModificationException;
 
+    /**
+     * Updates the updatedAt of the given {@link Job Jobs} that are still in state {@link StateName#PROCESSING} and still have the same version
+     * without rewriting the jobs themselves. This is used as a lightweight heartbeat for jobs that are being processed so that they are not seen as orphaned.
+     * <p>
+     * The version of the jobs is not changed, so the {@link Job Jobs} that are being processed can still be saved afterwards. Jobs that were
+     * modified concurrently (e.g. requeued and picked up by another BackgroundJobServer) are not updated.
+     * <p>
+     * The default implementation does not update any job, so that the {@link Job Jobs} that are being processed are saved using {@link #save(List)} instead.
+     *
+     * @param jobs      the jobs that are being processed
+     * @param updatedAt the new updatedAt of the jobs
+     * @return the amount of jobs that were updated
+     */
+    default int touchProcessingJobs(List<Job> jobs, Instant updatedAt) {
+        return 0;
+    }
+
     /**
      * Returns the {@link Job} with the given id or throws a {@link JobNotFoundException} if the job does not exist
      *
@@ -134,6 +155,18 @@ public interface StorageProvider extends AutoCloseable {
      */
     long countJobs(StateName state);
 
+    /**
+     * Counts all the jobs matching the given {@link StateName} with the given {@link CountPrecision}. Using {@link CountPrecision#APPROXIMATE},
+     * the amount of jobs may be estimated if there are more than {@link CountPrecision#APPROXIMATE_COUNT_THRESHOLD} of them.
+     *
+     * @param state     the StateName to test each {@link Job} against
+     * @param precision the precision with which the jobs must be counted
+     * @return the amount of jobs matching the given {@link StateName} and whether it is an approximation.
+     */
+    default JobCount countJobs(StateName state, CountPrecision precision) {
+        return JobCount.exactly(countJobs(state));
+    }
+
     /**
      * Returns all the jobs matching the given {@link StateName}, {@link Instant} and {@link AmountRequest}.
      *
@@ -154,9 +187,22 @@ public interface StorageProvider extends AutoCloseable {
     List<Job> getJobList(StateName state, AmountRequest amountRequest);
 
     default Page<Job> getJobs(StateName state, PageRequest pageRequest) {
-        long totalJobs = countJobs(state);
-        if (totalJobs == 0) return pageRequest.emptyPage();
-        return pageRequest.mapToNewPage(totalJobs, getJobList(state, pageRequest));
+        return getJobs(state, pageRequest, CountPrecision.EXACT);
+    }
+
+    /**
+     * Returns a page of the jobs matching the given {@link StateName} of which the total is counted with the given {@link CountPrecision}.
+     *
+     * @param state          the StateName to test each {@link Job} against
+     * @param pageRequest    the page of jobs to return
+     * @param countPrecision the precision with which to count the total amount of jobs
+     * @return the page of jobs matching the given {@link StateName}.
+     */
+    default Page<Job> getJobs(StateName state, PageRequest pageRequest, CountPrecision countPrecision) {
+        JobCount totalJobs = countJobs(state, countPrecision);
+        if (totalJobs.getAmount() == 0) return pageRequest.emptyPage();
+        Page<Job> jobPage = pageRequest.mapToNewPage(totalJobs.getAmount(), getJobList(state, pageRequest));
+        return totalJobs.isApproximate() ? jobPage.withApproximateTotal() : jobPage;
     }
 
     default List<Job> getJobsToProcess(BackgroundJobServer backgroundJobServer, AmountRequest amountRequest) {
@@ -204,6 +250,37 @@ public interface StorageProvider extends AutoCloseable {
 
     int deleteJobsPermanently(StateName state, Instant updatedBefore);
 
+    /**
+     * Moves at most the given amount of jobs in the given final state (SUCCEEDED, FAILED or DELETED) that were updated before the given instant to
+     * cold storage, so that the storage of the active jobs stays small. Archived jobs are still returned by all methods that read jobs. By default,
+     * StorageProviders have no cold storage and this does nothing.
+     *
+     * @param state         the final state of the jobs to archive
+     * @param updatedBefore the instant before which the jobs must have been updated
+     * @param limit         the maximum amount of jobs to archive
+     * @return the amount of archived jobs
+     */
+    default int archiveJobs(StateName state, Instant updatedBefore, int limit) {
+        return 0;
+    }
+
+    /**
+     * Moves at most the given amount of SUCCEEDED jobs that were updated before the given instant to the DELETED state, without running any
+     * {@link org.jobrunr.jobs.filters.JobFilter JobFilters}. StorageProviders may do so using a set-based update of only the state, version and
+     * updatedAt of the stored jobs: the {@link org.jobrunr.jobs.states.DeletedState} is then added when the job is read again
+     * (see {@link JobMapper#withStateOfStoredJob(Job, StateName, int, Instant)}).
+     *
+     * @param updatedBefore the instant before which the SUCCEEDED jobs must have been updated
+     * @param limit         the maximum amount of jobs to delete
+     * @return the amount of jobs that were moved to the DELETED state
+     */
+    default int deleteSucceededJobs(Instant updatedBefore, int limit) {
+        List<Job> succeededJobs = getJobList(StateName.SUCCEEDED, updatedBefore, ascOnUpdatedAt(limit));
+        succeededJobs.forEach(job -> job.delete(JobMapper.DELETED_SUCCEEDED_JOB_REASON));
+        save(succeededJobs);
+        return succeededJobs.size();
+    }
+
     Set<String> getDistinctJobSignatures(StateName... states);
 
     /**
@@ -215,6 +292,23 @@ public interface StorageProvider extends AutoCloseable {
      */
     Instant getRecurringJobLatestScheduledInstant(String recurringJobId, StateName... states);
 
+    /**
+     * Returns the scheduled instant of the last {@link Job}, in one of the given states, for each of the {@link RecurringJob RecurringJobs} with the
+     * given recurringJobIds. StorageProviders should override this method to fetch them using a single (grouped) query.
+     *
+     * @param recurringJobIds the ids of the RecurringJobs for which to get the latest scheduled instant
+     * @param states          the possible states for the {@link Job} (can be empty, then match against all possible states)
+     * @return the scheduled instant of the last created {@link Job} per recurringJobId (RecurringJobs without such a {@link Job} are not present)
+     */
+    default Map<String, Instant> getRecurringJobsLatestScheduledInstants(Collection<String> recurringJobIds, StateName... states) {
+        Map<String, Instant> latestScheduledInstants = new HashMap<>();
+        for (String recurringJobId : recurringJobIds) {
+            Instant latestScheduledInstant = getRecurringJobLatestScheduledInstant(recurringJobId, states);
+            if (latestScheduledInstant != null) latestScheduledInstants.put(recurringJobId, latestScheduledInstant);
+        }
+        return latestScheduledInstants;
+    }
+
     /**
      * Saves a {@link RecurringJob} to the database. If a {@link RecurringJob} with the same id exists, it will be overwritten
      *
@@ -230,6 +324,17 @@ public interface StorageProvider extends AutoCloseable {
      */
     RecurringJobsResult getRecurringJobs();
 
+    /**
+     * Returns the given {@link RecurringJobsResult} with all changes (creates, updates and deletes) to the {@link RecurringJob RecurringJobs}
+     * since that result applied to it. StorageProviders that cannot track these changes return all {@link RecurringJob RecurringJobs}.
+     *
+     * @param recurringJobs a RecurringJobsResult previously returned by this StorageProvider
+     * @return a RecurringJobsResult containing all current {@link RecurringJob RecurringJobs}
+     */
+    default RecurringJobsResult getRecurringJobsChangedSince(RecurringJobsResult recurringJobs) {
+        return getRecurringJobs();
+    }
+
     boolean recurringJobsUpdated(Long recurringJobsUpdatedHash);
 
     /**
@@ -252,6 +357,14 @@ public interface StorageProvider extends AutoCloseable {
 
     void publishTotalAmountOfSucceededJobs(int amount);
 
+    /**
+     * Recalculates the {@link JobStats} from the actual jobs for StorageProviders that maintain them incrementally. This is done periodically by
+     * the master {@link BackgroundJobServer} to correct any drift. By default, this does nothing.
+     */
+    default void reconcileJobStats() {
+        // nothing to reconcile by default
+    }
+
     @Override
     void close();
 
@@ -133,6 +133,7 @@ public class StorageProviderUtils {
         public static final String STATS_ID = "succeeded-jobs-counter-cluster";
         public static final String STATS_NAME = "succeeded-jobs-counter";
         public static final String STATS_OWNER = "cluster";
+        public static final String RECURRING_JOBS_VERSION_ID = "recurring-jobs-version-cluster";
         public static final String FIELD_NAME = "name";
         public static final String FIELD_OWNER = "owner";
         public static final String FIELD_VALUE = "value";
@@ -15,7 +15,9 @@ import org.jobrunr.utils.resilience.MultiLock;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 
@@ -123,6 +125,11 @@ public class ThreadSafeStorageProvider implements StorageProvider {
         }
     }
 
+    @Override
+    public int touchProcessingJobs(List<Job> jobs, Instant updatedAt) {
+        return storageProvider.touchProcessingJobs(jobs, updatedAt);
+    }
+
     @Override
     public int deletePermanently(UUID id) {
         return storageProvider.deletePermanently(id);
@@ -138,6 +145,11 @@ public class ThreadSafeStorageProvider implements StorageProvider {
         return storageProvider.countJobs(state);
     }
 
+    @Override
+    public JobCount countJobs(StateName state, CountPrecision precision) {
+        return storageProvider.countJobs(state, precision);
+    }
+
     @Override
     public List<Job> getJobList(StateName state, Instant updatedBefore, AmountRequest amountRequest) {
         return storageProvider.getJobList(state, updatedBefore, amountRequest);
@@ -168,6 +180,16 @@ public class ThreadSafeStorageProvider implements StorageProvider {
         return storageProvider.deleteJobsPermanently(state, updatedBefore);
     }
 
+    @Override
+    public int archiveJobs(StateName state, Instant updatedBefore, int limit) {
+        return storageProvider.archiveJobs(state, updatedBefore, limit);
+    }
+
+    @Override
+    public int deleteSucceededJobs(Instant updatedBefore, int limit) {
+        return storageProvider.deleteSucceededJobs(updatedBefore, limit);
+    }
+
     @Override
     public Set<String> getDistinctJobSignatures(StateName... states) {
         return storageProvider.getDistinctJobSignatures(states);
@@ -178,6 +200,11 @@ public class ThreadSafeStorageProvider implements StorageProvider {
         return storageProvider.getRecurringJobLatestScheduledInstant(recurringJobId, states);
     }
 
+    @Override
+    public Map<String, Instant> getRecurringJobsLatestScheduledInstants(Collection<String> recurringJobIds, StateName... states) {
+        return storageProvider.getRecurringJobsLatestScheduledInstants(recurringJobIds, states);
+    }
+
     @Override
     public RecurringJob saveRecurringJob(RecurringJob recurringJob) {
         return storageProvider.saveRecurringJob(recurringJob);
@@ -188,6 +215,11 @@ public class ThreadSafeStorageProvider implements StorageProvider {
         return storageProvider.getRecurringJobs();
     }
 
+    @Override
+    public RecurringJobsResult getRecurringJobsChangedSince(RecurringJobsResult recurringJobs) {
+        return storageProvider.getRecurringJobsChangedSince(recurringJobs);
+    }
+
     @Override
     public boolean recurringJobsUpdated(Long recurringJobsUpdatedHash) {
         return storageProvider.recurringJobsUpdated(recurringJobsUpdatedHash);
@@ -208,6 +240,11 @@ public class ThreadSafeStorageProvider implements StorageProvider {
         storageProvider.publishTotalAmountOfSucceededJobs(amount);
     }
 
+    @Override
+    public void reconcileJobStats() {
+        storageProvider.reconcileJobStats();
+    }
+
     @Override
     public Job getJobById(JobId jobId) {
         return storageProvider.getJobById(jobId);
@@ -0,0 +1,13 @@
+package org.jobrunr.storage.listeners;
+
+/**
+ * Listener that is notified by a {@link org.jobrunr.storage.StorageProvider} that supports push notifications
+ * (e.g. the PostgresStorageProvider using LISTEN/NOTIFY) as soon as new jobs have been enqueued.
+ * <p>
+ * It allows a {@link org.jobrunr.server.BackgroundJobServer} to onboard new work immediately instead of waiting for the next poll.
+ */
+public interface NewWorkAvailableListener extends StorageProviderChangeListener {
+
+    void onNewWorkAvailable();
+
+}
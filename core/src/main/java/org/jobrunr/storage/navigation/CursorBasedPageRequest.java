@@ -0,0 +1,159 @@
+package org.jobrunr.storage.navigation;
+
+import org.jobrunr.jobs.Job;
+import org.jobrunr.storage.Page;
+import org.jobrunr.utils.reflection.annotations.Constructor;
+import org.jobrunr.utils.reflection.annotations.Field;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.emptyList;
+import static org.jobrunr.jobs.Job.ALLOWED_SORT_COLUMNS;
+import static org.jobrunr.storage.StorageProviderUtils.Jobs.FIELD_UPDATED_AT;
+import static org.jobrunr.utils.StringUtils.isNotNullOrEmpty;
+import static org.jobrunr.utils.StringUtils.isNullOrEmpty;
+import static org.jobrunr.utils.StringUtils.lenientSubstringBetween;
+import static org.jobrunr.utils.StringUtils.substringAfter;
+import static org.jobrunr.utils.StringUtils.substringBefore;
+
+/**
+ * A {@link PageRequest} that seeks to the jobs after the last job of the previous page instead of skipping an offset, so that deep pages
+ * cost the same as the first page.
+ * <p>
+ * The jobs are ordered on the first order term (e.g. updatedAt or scheduledAt) and the id of the job as tie-breaker. The cursor is an opaque
+ * token containing the value of the order term and the id of the last job of the previous page. As a result, only the next page can be requested.
+ * An invalid cursor results in an {@link IllegalArgumentException}.
+ */
+public class CursorBasedPageRequest extends PageRequest {
+
+    private static final String CURSOR_SEPARATOR = "|";
+
+    private final String cursor;
+    private final OrderTerm seekOrderTerm;
+    private final Instant cursorValue;
+    private final UUID cursorId;
+
+    CursorBasedPageRequest() {
+        this(null, null, DEFAULT_LIMIT); // needed for deserialization
+    }
+
+    @Constructor
+    public CursorBasedPageRequest(@Field("order") String order, @Field("cursor") String cursor, @Field("limit") Integer limit) {
+        super(order, limit);
+        this.cursor = isNotNullOrEmpty(cursor) ? cursor : null;
+        this.seekOrderTerm = getAllOrderTerms(ALLOWED_SORT_COLUMNS.keySet()).stream()
+                .findFirst()
+                .orElse(new OrderTerm(FIELD_UPDATED_AT, OrderTerm.Order.ASC));
+        if (this.cursor != null) {
+            String decodedCursor = decodeCursor(this.cursor);
+            try {
+                this.cursorValue = Instant.parse(substringBefore(decodedCursor, CURSOR_SEPARATOR));
+                this.cursorId = UUID.fromString(substringAfter(decodedCursor, CURSOR_SEPARATOR));
+            } catch (IllegalArgumentException | DateTimeParseException e) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+            }
+        } else {
+            this.cursorValue = null;
+            this.cursorId = null;
+        }
+    }
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    public boolean hasCursor() {
+        return cursor != null;
+    }
+
+    /**
+     * Returns the order term on which is seeked. Only the first order term of the request is used, the id of the job is used as tie-breaker.
+     *
+     * @return the order term on which is seeked
+     */
+    public OrderTerm getSeekOrderTerm() {
+        return seekOrderTerm;
+    }
+
+    public Instant getCursorValue() {
+        return cursorValue;
+    }
+
+    public UUID getCursorId() {
+        return cursorId;
+    }
+
+    /**
+     * Returns whether the given job comes after the cursor of this request.
+     *
+     * @param job the job to verify
+     * @return true if there is no cursor or the job comes after the cursor
+     */
+    public boolean isAfterCursor(Job job) {
+        if (!hasCursor()) return true;
+        Instant value = (Instant) ALLOWED_SORT_COLUMNS.get(seekOrderTerm.getFieldName()).getValue(job);
+        if (value == null) return false;
+        int comparison = value.compareTo(cursorValue);
+        // why: ids are compared as text, which is how they are ordered by the databases (UUID#compareTo uses signed longs)
+        if (comparison == 0) comparison = job.getId().toString().compareTo(cursorId.toString());
+        return seekOrderTerm.getOrder() == OrderTerm.Order.ASC ? comparison > 0 : comparison < 0;
+    }
+
+    @Override
+    public String asString() {
+        return "order=" + getOrder() + (hasCursor() ? "&cursor=" + cursor : "") + "&limit=" + getLimit();
+    }
+
+    public static CursorBasedPageRequest fromString(String cursorBasedPageRequestAsString) {
+        if (isNullOrEmpty(cursorBasedPageRequestAsString)) return null;
+
+        String order = lenientSubstringBetween(cursorBasedPageRequestAsString, "order=", "&");
+        String cursor = lenientSubstringBetween(cursorBasedPageRequestAsString, "cursor=", "&");
+        String limit = lenientSubstringBetween(cursorBasedPageRequestAsString, "limit=", "&");
+        return new CursorBasedPageRequest(
+                order,
+                cursor,
+                isNotNullOrEmpty(limit) ? Integer.parseInt(limit) : DEFAULT_LIMIT
+        );
+    }
+
+    @Override
+    public <T> Page<T> mapToNewPage(long total, List<T> items) {
+        return new Page<>(total, items, this, null, nextPageRequest(items));
+    }
+
+    @Override
+    public <T> Page<T> emptyPage() {
+        return new Page<>(0, emptyList(), this, null, null);
+    }
+
+    private <T> CursorBasedPageRequest nextPageRequest(List<T> items) {
+        if (items.size() < getLimit() || !(items.get(items.size() - 1) instanceof Job)) return null;
+
+        Job lastJob = (Job) items.get(items.size() - 1);
+        Instant lastValue = (Instant) ALLOWED_SORT_COLUMNS.get(seekOrderTerm.getFieldName()).getValue(lastJob);
+        // why: jobs without a value for the order term (e.g. the scheduledAt of a succeeded job) cannot be seeked past
+        if (lastValue == null) return null;
+        return new CursorBasedPageRequest(getOrder(), encodeCursor(lastValue, lastJob.getId()), getLimit());
+    }
+
+    private static String encodeCursor(Instant value, UUID id) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString((value + CURSOR_SEPARATOR + id).getBytes(UTF_8));
+    }
+
+    private static String decodeCursor(String cursor) {
+        String decodedCursor;
+        try {
+            decodedCursor = new String(Base64.getUrlDecoder().decode(cursor), UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+        if (!decodedCursor.contains(CURSOR_SEPARATOR)) throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        return decodedCursor;
+    }
+}
@@ -0,0 +1,68 @@
+package org.jobrunr.storage.nosql.mongo;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Accumulators;
+import org.bson.Document;
+import org.jobrunr.jobs.states.StateName;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.mongodb.client.model.Aggregates.group;
+import static com.mongodb.client.model.Aggregates.sample;
+import static java.util.Arrays.asList;
+import static org.jobrunr.storage.StorageProviderUtils.Jobs;
+
+/**
+ * Estimates the amount of jobs in a state without counting them: the estimated amount of all jobs (which MongoDB keeps in the collection
+ * metadata) is multiplied by the ratio of the state in a random sample of the jobs. As these ratios change slowly compared to the amount of
+ * jobs, the sample is only taken again after the given time to live.
+ */
+public class MongoDBJobStateEstimator {
+
+    static final int SAMPLE_SIZE = 10_000;
+
+    private final MongoCollection<Document> jobCollection;
+    private final Duration timeToLive;
+    private volatile Map<StateName, Double> stateRatios;
+    private volatile Instant stateRatiosValidUntil;
+
+    public MongoDBJobStateEstimator(MongoCollection<Document> jobCollection, Duration timeToLive) {
+        this.jobCollection = jobCollection;
+        this.timeToLive = timeToLive;
+    }
+
+    public long estimateAllJobs() {
+        return jobCollection.estimatedDocumentCount();
+    }
+
+    public long estimateJobs(StateName state) {
+        return Math.round(estimateAllJobs() * getStateRatios().getOrDefault(state, 0.0));
+    }
+
+    private Map<StateName, Double> getStateRatios() {
+        if (stateRatios == null || Instant.now().isAfter(stateRatiosValidUntil)) {
+            stateRatios = sampleStateRatios();
+            stateRatiosValidUntil = Instant.now().plus(timeToLive);
+        }
+        return stateRatios;
+    }
+
+    private Map<StateName, Double> sampleStateRatios() {
+        List<Document> amountsPerState = jobCollection.aggregate(asList(
+                        sample(SAMPLE_SIZE),
+                        group("$" + Jobs.FIELD_STATE, Accumulators.sum("amount", 1))))
+                .into(new ArrayList<>());
+
+        long sampledJobs = amountsPerState.stream().mapToLong(amountForState -> amountForState.getInteger("amount")).sum();
+        Map<StateName, Double> result = new EnumMap<>(StateName.class);
+        for (Document amountForState : amountsPerState) {
+            result.put(StateName.valueOf(amountForState.getString("_id")), (double) amountForState.getInteger("amount") / sampledJobs);
+        }
+        return result;
+    }
+}
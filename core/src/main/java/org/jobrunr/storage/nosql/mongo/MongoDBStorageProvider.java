@@ -5,7 +5,6 @@ import com.mongodb.MongoException;
 import com.mongodb.MongoWriteException;
 import com.mongodb.ServerAddress;
 import com.mongodb.bulk.BulkWriteResult;
-import com.mongodb.client.AggregateIterable;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoClients;
 import com.mongodb.client.MongoCollection;
@@ -34,6 +33,8 @@ import org.jobrunr.jobs.states.StateName;
 import org.jobrunr.storage.AbstractStorageProvider;
 import org.jobrunr.storage.BackgroundJobServerStatus;
 import org.jobrunr.storage.ConcurrentJobModificationException;
+import org.jobrunr.storage.CountPrecision;
+import org.jobrunr.storage.JobCount;
 import org.jobrunr.storage.JobNotFoundException;
 import org.jobrunr.storage.JobRunrMetadata;
 import org.jobrunr.storage.JobStats;
@@ -51,8 +52,10 @@ import org.jobrunr.utils.resilience.RateLimiter;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -67,12 +70,12 @@ import static com.mongodb.client.model.Aggregates.group;
 import static com.mongodb.client.model.Aggregates.limit;
 import static com.mongodb.client.model.Aggregates.match;
 import static com.mongodb.client.model.Aggregates.project;
-import static com.mongodb.client.model.Aggregates.sort;
 import static com.mongodb.client.model.Filters.and;
 import static com.mongodb.client.model.Filters.eq;
 import static com.mongodb.client.model.Filters.in;
 import static com.mongodb.client.model.Filters.lt;
 import static com.mongodb.client.model.Filters.ne;
+import static com.mongodb.client.model.Filters.or;
 import static com.mongodb.client.model.Projections.excludeId;
 import static com.mongodb.client.model.Projections.fields;
 import static com.mongodb.client.model.Projections.include;
@@ -93,6 +96,7 @@ import static org.jobrunr.jobs.states.StateName.PROCESSING;
 import static org.jobrunr.jobs.states.StateName.SCHEDULED;
 import static org.jobrunr.jobs.states.StateName.SUCCEEDED;
 import static org.jobrunr.jobs.states.StateName.areAllStateNames;
+import static org.jobrunr.storage.CountPrecision.APPROXIMATE_COUNT_THRESHOLD;
 import static org.jobrunr.storage.JobRunrMetadata.toId;
 import static org.jobrunr.storage.StorageProviderUtils.BackgroundJobServers;
 import static org.jobrunr.storage.StorageProviderUtils.DatabaseOptions;
@@ -123,6 +127,7 @@ public class MongoDBStorageProvider extends AbstractStorageProvider implements N
     private final MongoCollection<Document> backgroundJobServerCollection;
     private final MongoCollection<Document> metadataCollection;
     private final String collectionPrefix;
+    private final MongoDBJobStateEstimator jobStateEstimator;
 
     private JobDocumentMapper jobDocumentMapper;
     private BackgroundJobServerStatusDocumentMapper backgroundJobServerStatusDocumentMapper;
@@ -182,6 +187,7 @@ public class MongoDBStorageProvider extends AbstractStorageProvider implements N
         recurringJobCollection = jobrunrDatabase.getCollection(elementPrefixer(collectionPrefix, RecurringJobs.NAME), Document.class);
         backgroundJobServerCollection = jobrunrDatabase.getCollection(elementPrefixer(collectionPrefix, BackgroundJobServers.NAME), Document.class);
         metadataCollection = jobrunrDatabase.getCollection(elementPrefixer(collectionPrefix, Metadata.NAME), Document.class);
+        jobStateEstimator = new MongoDBJobStateEstimator(jobCollection, Duration.ofMinutes(10));
     }
 
     @Override
@@ -317,6 +323,19 @@ public class MongoDBStorageProvider extends AbstractStorageProvider implements N
         return job;
     }
 
+    @Override
+    public int touchProcessingJobs(List<Job> jobs, Instant updatedAt) {
+        if (jobs.isEmpty()) return 0;
+
+        final List<Bson> idAndVersionFilters = jobs.stream()
+                .map(job -> and(eq(toMongoId(Jobs.FIELD_ID), job.getId()), eq(Jobs.FIELD_VERSION, job.getVersion())))
+                .collect(toList());
+        final UpdateResult updateResult = jobCollection.updateMany(
+                and(eq(Jobs.FIELD_STATE, PROCESSING.name()), or(idAndVersionFilters)),
+                Updates.set(FIELD_UPDATED_AT, toMicroSeconds(updatedAt)));
+        return (int) updateResult.getMatchedCount();
+    }
+
     @Override
     public int deletePermanently(UUID id) {
         final DeleteResult result = jobCollection.deleteOne(eq(toMongoId(Jobs.FIELD_ID), id));
@@ -327,7 +346,7 @@ public class MongoDBStorageProvider extends AbstractStorageProvider implements N
 
     @Override
     public Job getJobById(UUID id) {
-        final Document document = jobCollection.find(eq(toMongoId(Jobs.FIELD_ID), id)).projection(include(Jobs.FIELD_JOB_AS_JSON)).first();
+        final Document document = jobCollection.find(eq(toMongoId(Jobs.FIELD_ID), id)).projection(include(Jobs.FIELD_JOB_AS_JSON, Jobs.FIELD_STATE, Jobs.FIELD_VERSION, FIELD_UPDATED_AT)).first();
         if (document != null) {
             return jobDocumentMapper.toJob(document);
         }
@@ -339,6 +358,16 @@ public class MongoDBStorageProvider extends AbstractStorageProvider implements N
         return jobCollection.countDocuments(eq(Jobs.FIELD_STATE, state.name()));
     }
 
+    @Override
+    public JobCount countJobs(StateName state, CountPrecision precision) {
+        // why: if the estimated amount of all jobs is below the threshold, no state can exceed it and the jobs need not be sampled
+        if (precision == CountPrecision.APPROXIMATE && jobStateEstimator.estimateAllJobs() >= APPROXIMATE_COUNT_THRESHOLD) {
+            long estimatedAmount = jobStateEstimator.estimateJobs(state);
+            if (estimatedAmount >= APPROXIMATE_COUNT_THRESHOLD) return JobCount.approximately(estimatedAmount);
+        }
+        return JobCount.exactly(countJobs(state));
+    }
+
     @Override
     public List<Job> getJobList(StateName state, Instant updatedBefore, AmountRequest amountRequest) {
         return findJobs(and(eq(Jobs.FIELD_STATE, state.name()), lt(Jobs.FIELD_UPDATED_AT, toMicroSeconds(updatedBefore))), amountRequest);
@@ -405,6 +434,28 @@ public class MongoDBStorageProvider extends AbstractStorageProvider implements N
         return (int) deletedCount;
     }
 
+    @Override
+    public int deleteSucceededJobs(Instant updatedBefore, int limit) {
+        final List<UUID> jobIds = jobCollection
+                .find(and(eq(Jobs.FIELD_STATE, SUCCEEDED.name()), lt(FIELD_UPDATED_AT, toMicroSeconds(updatedBefore))))
+                .sort(ascending(FIELD_UPDATED_AT))
+                .limit(limit)
+                .projection(include(Jobs.FIELD_ID))
+                .map(MongoUtils::getIdAsUUID)
+                .into(new ArrayList<>());
+        if (jobIds.isEmpty()) return 0;
+
+        final UpdateResult updateResult = jobCollection.updateMany(
+                and(in(toMongoId(Jobs.FIELD_ID), jobIds), eq(Jobs.FIELD_STATE, SUCCEEDED.name())),
+                Updates.combine(
+                        Updates.set(Jobs.FIELD_STATE, DELETED.name()),
+                        Updates.set(FIELD_UPDATED_AT, toMicroSeconds(Instant.now())),
+                        Updates.inc(Jobs.FIELD_VERSION, 1)));
+        final int deletedCount = (int) updateResult.getModifiedCount();
+        notifyJobStatsOnChangeListenersIf(deletedCount > 0);
+        return deletedCount;
+    }
+
     @Override
     public Set<String> getDistinctJobSignatures(StateName... states) {
         return jobCollection
@@ -428,34 +479,46 @@ public class MongoDBStorageProvider extends AbstractStorageProvider implements N
                 .first();
     }
 
+    @Override
+    public Map<String, Instant> getRecurringJobsLatestScheduledInstants(Collection<String> recurringJobIds, StateName... states) {
+        Bson recurringJobIdsFilter = in(Jobs.FIELD_RECURRING_JOB_ID, recurringJobIds);
+        Bson filter = areAllStateNames(states) ? recurringJobIdsFilter : and(in(Jobs.FIELD_STATE, stream(states).map(Enum::name).collect(toSet())), recurringJobIdsFilter);
+        Map<String, Instant> latestScheduledInstants = new HashMap<>();
+        jobCollection.aggregate(asList(
+                        match(filter),
+                        group("$" + Jobs.FIELD_RECURRING_JOB_ID, Accumulators.max(Jobs.FIELD_SCHEDULED_AT, "$" + Jobs.FIELD_SCHEDULED_AT))))
+                .forEach(document -> {
+                    Long latest = document.getLong(Jobs.FIELD_SCHEDULED_AT);
+                    if (latest != null) latestScheduledInstants.put(document.getString("_id"), fromMicroseconds(latest));
+                });
+        return latestScheduledInstants;
+    }
+
     @Override
     public RecurringJob saveRecurringJob(RecurringJob recurringJob) {
         recurringJobCollection.replaceOne(eq(toMongoId(RecurringJobs.FIELD_ID), recurringJob.getId()), jobDocumentMapper.toInsertDocument(recurringJob), new ReplaceOptions().upsert(true));
+        incrementRecurringJobsVersion();
         return recurringJob;
     }
 
     @Override
     public RecurringJobsResult getRecurringJobs() {
+        long recurringJobsVersion = getRecurringJobsVersion();
         ArrayList<RecurringJob> recurringJobs = recurringJobCollection.find().map(jobDocumentMapper::toRecurringJob).into(new ArrayList<>());
-        return new RecurringJobsResult(recurringJobs);
+        return new RecurringJobsResult(recurringJobs, recurringJobsVersion);
     }
 
     @Override
     public boolean recurringJobsUpdated(Long recurringJobsUpdatedHash) {
-        AggregateIterable<Document> lastModifiedHash = recurringJobCollection.aggregate(asList(
-                sort(ascending(RecurringJobs.FIELD_CREATED_AT)),
-                group("$last_modified_hash", Accumulators.sum(RecurringJobs.FIELD_CREATED_AT, '$' + RecurringJobs.FIELD_CREATED_AT)),
-                limit(1)));
-        if (lastModifiedHash.first() != null) {
-            Long value = lastModifiedHash.first().getLong(RecurringJobs.FIELD_CREATED_AT);
-            return !recurringJobsUpdatedHash.equals(value);
-        }
-        return !recurringJobsUpdatedHash.equals(0L);
+        return recurringJobsUpdatedHash != getRecurringJobsVersion();
     }
 
     @Override
     public int deleteRecurringJob(String id) {
         final DeleteResult deleteResult = recurringJobCollection.deleteOne(eq(toMongoId(RecurringJobs.FIELD_ID), id));
+        if (deleteResult.getDeletedCount() > 0) {
+            incrementRecurringJobsVersion();
+        }
         return (int) deleteResult.getDeletedCount();
     }
 
@@ -506,6 +569,15 @@ public class MongoDBStorageProvider extends AbstractStorageProvider implements N
         metadataCollection.updateOne(eq(toMongoId(Metadata.FIELD_ID), Metadata.STATS_ID), Updates.inc(Metadata.FIELD_VALUE, amount), new UpdateOptions().upsert(true));
     }
 
+    private long getRecurringJobsVersion() {
+        final Document recurringJobsVersion = metadataCollection.find(eq(toMongoId(Metadata.FIELD_ID), Metadata.RECURRING_JOBS_VERSION_ID)).first();
+        return recurringJobsVersion != null ? ((Number) recurringJobsVersion.get(Metadata.FIELD_VALUE)).longValue() : 0L;
+    }
+
+    private void incrementRecurringJobsVersion() {
+        metadataCollection.updateOne(eq(toMongoId(Metadata.FIELD_ID), Metadata.RECURRING_JOBS_VERSION_ID), Updates.inc(Metadata.FIELD_VALUE, 1L), new UpdateOptions().upsert(true));
+    }
+
     private Long getCount(StateName stateName, List<Document> aggregates) {
         Predicate<Document> statePredicate = document -> stateName.name().equals(document.get(toMongoId(Jobs.FIELD_ID)));
         BiFunction<Optional<Document>, Integer, Integer> count = (document, defaultValue) -> document.map(doc -> doc.getInteger(Jobs.FIELD_STATE)).orElse(defaultValue);
@@ -518,11 +590,11 @@ public class MongoDBStorageProvider extends AbstractStorageProvider implements N
 
     private List<Job> findJobs(Bson query, AmountRequest amountRequest) {
         return jobCollection
-                .find(query)
+                .find(pageRequestMapper.mapToQuery(query, amountRequest))
                 .sort(pageRequestMapper.mapToSort(amountRequest))
                 .skip((amountRequest instanceof OffsetBasedPageRequest) ? (int) ((OffsetBasedPageRequest) amountRequest).getOffset() : 0)
                 .limit(amountRequest.getLimit())
-                .projection(include(Jobs.FIELD_JOB_AS_JSON))
+                .projection(include(Jobs.FIELD_JOB_AS_JSON, Jobs.FIELD_STATE, Jobs.FIELD_VERSION, FIELD_UPDATED_AT))
                 .map(jobDocumentMapper::toJob)
                 .into(new ArrayList<>());
     }
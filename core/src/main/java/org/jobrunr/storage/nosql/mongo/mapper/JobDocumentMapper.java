@@ -9,6 +9,7 @@ import org.jobrunr.jobs.Job;
 import org.jobrunr.jobs.RecurringJob;
 import org.jobrunr.jobs.mappers.JobMapper;
 import org.jobrunr.jobs.states.SchedulableState;
+import org.jobrunr.jobs.states.StateName;
 import org.jobrunr.storage.StorageProviderUtils.Jobs;
 import org.jobrunr.storage.StorageProviderUtils.RecurringJobs;
 
@@ -16,6 +17,7 @@ import java.util.List;
 import java.util.UUID;
 
 import static org.jobrunr.storage.nosql.mongo.MongoDBStorageProvider.toMongoId;
+import static org.jobrunr.storage.nosql.mongo.MongoUtils.fromMicroseconds;
 import static org.jobrunr.storage.nosql.mongo.MongoUtils.toMicroSeconds;
 
 public class JobDocumentMapper {
@@ -70,7 +72,9 @@ public class JobDocumentMapper {
     }
 
     public Job toJob(Document document) {
-        return jobMapper.deserializeJob(document.get(Jobs.FIELD_JOB_AS_JSON).toString());
+        Job job = jobMapper.deserializeJob(document.get(Jobs.FIELD_JOB_AS_JSON).toString());
+        if (!document.containsKey(Jobs.FIELD_STATE)) return job;
+        return jobMapper.withStateOfStoredJob(job, StateName.valueOf(document.getString(Jobs.FIELD_STATE)), document.getInteger(Jobs.FIELD_VERSION), fromMicroseconds(document.getLong(Jobs.FIELD_UPDATED_AT)));
     }
 
     public Document toInsertDocument(RecurringJob recurringJob) {
@@ -3,18 +3,46 @@ package org.jobrunr.storage.nosql.mongo.mapper;
 import com.mongodb.client.model.Sorts;
 import org.bson.conversions.Bson;
 import org.jobrunr.jobs.Job;
+import org.jobrunr.storage.StorageProviderUtils.Jobs;
 import org.jobrunr.storage.navigation.AmountRequest;
+import org.jobrunr.storage.navigation.CursorBasedPageRequest;
 import org.jobrunr.storage.navigation.OrderTerm;
 
 import java.util.ArrayList;
 import java.util.List;
 
+import static com.mongodb.client.model.Filters.and;
+import static com.mongodb.client.model.Filters.gt;
+import static com.mongodb.client.model.Filters.gte;
+import static com.mongodb.client.model.Filters.lt;
+import static com.mongodb.client.model.Filters.lte;
+import static com.mongodb.client.model.Filters.or;
 import static com.mongodb.client.model.Sorts.ascending;
 import static com.mongodb.client.model.Sorts.descending;
+import static org.jobrunr.storage.nosql.mongo.MongoDBStorageProvider.toMongoId;
+import static org.jobrunr.storage.nosql.mongo.MongoUtils.toMicroSeconds;
 
 public class MongoDBAmountRequestMapper {
 
+    public Bson mapToQuery(Bson query, AmountRequest amountRequest) {
+        if (!(amountRequest instanceof CursorBasedPageRequest) || !((CursorBasedPageRequest) amountRequest).hasCursor()) return query;
+
+        CursorBasedPageRequest cursorBasedPageRequest = (CursorBasedPageRequest) amountRequest;
+        String fieldName = cursorBasedPageRequest.getSeekOrderTerm().getFieldName();
+        long cursorValue = toMicroSeconds(cursorBasedPageRequest.getCursorValue());
+        if (OrderTerm.Order.ASC == cursorBasedPageRequest.getSeekOrderTerm().getOrder()) {
+            return and(query, gte(fieldName, cursorValue), or(gt(fieldName, cursorValue), gt(toMongoId(Jobs.FIELD_ID), cursorBasedPageRequest.getCursorId())));
+        }
+        return and(query, lte(fieldName, cursorValue), or(lt(fieldName, cursorValue), lt(toMongoId(Jobs.FIELD_ID), cursorBasedPageRequest.getCursorId())));
+    }
+
     public Bson mapToSort(AmountRequest amountRequest) {
+        if (amountRequest instanceof CursorBasedPageRequest) {
+            OrderTerm seekOrderTerm = ((CursorBasedPageRequest) amountRequest).getSeekOrderTerm();
+            return OrderTerm.Order.ASC == seekOrderTerm.getOrder()
+                    ? ascending(seekOrderTerm.getFieldName(), toMongoId(Jobs.FIELD_ID))
+                    : descending(seekOrderTerm.getFieldName(), toMongoId(Jobs.FIELD_ID));
+        }
         List<OrderTerm> orderTerms = amountRequest.getAllOrderTerms(Job.ALLOWED_SORT_COLUMNS.keySet());
         List<Bson> result = new ArrayList<>();
         for (OrderTerm orderTerm : orderTerms) {
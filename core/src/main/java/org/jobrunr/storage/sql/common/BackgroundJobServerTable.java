@@ -120,6 +120,10 @@ public class BackgroundJobServerTable extends Sql<BackgroundJobServerStatus> {
                 .collect(toList());
     }
 
+    public long count() throws SQLException {
+        return selectCount("from jobrunr_backgroundjobservers");
+    }
+
     public UUID getLongestRunningBackgroundJobServerId() {
         return select("id from jobrunr_backgroundjobservers", new AmountRequest(FIELD_FIRST_HEARTBEAT, 1))
                 .map(sqlResultSet -> sqlResultSet.asUUID(FIELD_ID))
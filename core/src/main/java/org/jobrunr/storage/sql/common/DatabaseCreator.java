@@ -115,10 +115,24 @@ public class DatabaseCreator {
     }
 
     public void runMigrations() {
+        runMigrations(getMigrations());
+    }
+
+    /**
+     * Runs the opt-in migrations in the given directory next to the migrations directory (e.g. the native-uuid-migrations) that were not yet
+     * applied. The opt-in migrations are run after the migrations as they change the tables created by them.
+     *
+     * @param migrationsDirectory the name of the directory containing the opt-in migrations
+     */
+    public void runOptInMigrations(String migrationsDirectory) {
+        runMigrations(databaseMigrationsProvider.getMigrations(migrationsDirectory));
+    }
+
+    private void runMigrations(Stream<SqlMigration> migrations) {
         Set<String> appliedMigrations = isMigrationsTableMissing()
                 ? Collections.emptySet()
                 : loadAppliedMigrations();
-        List<SqlMigration> migrationsToRun = getMigrations()
+        List<SqlMigration> migrationsToRun = migrations
                 .filter(migration -> migration.getFileName().endsWith(".sql"))
                 .sorted(comparing(SqlMigration::getFileName))
                 .filter(migration -> !appliedMigrations.contains(migration.getFileName()))
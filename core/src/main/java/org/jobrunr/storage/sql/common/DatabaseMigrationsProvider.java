@@ -26,11 +26,22 @@ public class DatabaseMigrationsProvider {
     }
 
     public Stream<SqlMigration> getMigrations() {
+        return getMigrations("migrations");
+    }
+
+    /**
+     * Returns the migrations in the given directory next to the migrations directory (e.g. the opt-in native-uuid-migrations), where a database
+     * specific migration overwrites the common migration with the same file name.
+     *
+     * @param migrationsDirectory the name of the directory containing the migrations
+     * @return the migrations in the given directory
+     */
+    public Stream<SqlMigration> getMigrations(String migrationsDirectory) {
         SqlMigrationProvider migrationProvider = getMigrationProvider();
 
         try {
-            final Map<String, SqlMigration> commonMigrations = getCommonMigrations(migrationProvider).stream().collect(toMap(SqlMigration::getFileName, m -> m));
-            final Map<String, SqlMigration> databaseSpecificMigrations = getDatabaseSpecificMigrations(migrationProvider).stream().collect(toMap(SqlMigration::getFileName, p -> p));
+            final Map<String, SqlMigration> commonMigrations = getCommonMigrations(migrationProvider, migrationsDirectory).stream().collect(toMap(SqlMigration::getFileName, m -> m));
+            final Map<String, SqlMigration> databaseSpecificMigrations = getDatabaseSpecificMigrations(migrationProvider, migrationsDirectory).stream().collect(toMap(SqlMigration::getFileName, p -> p));
 
             final HashMap<String, SqlMigration> actualMigrations = new HashMap<>(commonMigrations);
             actualMigrations.putAll(databaseSpecificMigrations);
@@ -52,13 +63,13 @@ public class DatabaseMigrationsProvider {
         }
     }
 
-    protected List<SqlMigration> getCommonMigrations(SqlMigrationProvider migrationProvider) {
-        return migrationProvider.getMigrations(DatabaseCreator.class);
+    protected List<SqlMigration> getCommonMigrations(SqlMigrationProvider migrationProvider, String migrationsDirectory) {
+        return migrationProvider.getMigrations(DatabaseCreator.class, migrationsDirectory);
     }
 
-    protected List<SqlMigration> getDatabaseSpecificMigrations(SqlMigrationProvider migrationProvider) {
+    protected List<SqlMigration> getDatabaseSpecificMigrations(SqlMigrationProvider migrationProvider, String migrationsDirectory) {
         if (sqlStorageProviderClass != null) {
-            return migrationProvider.getMigrations(sqlStorageProviderClass);
+            return migrationProvider.getMigrations(sqlStorageProviderClass, migrationsDirectory);
         }
         return emptyList();
     }
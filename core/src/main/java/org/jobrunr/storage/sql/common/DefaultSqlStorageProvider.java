@@ -1,5 +1,6 @@
 package org.jobrunr.storage.sql.common;
 
+import org.jobrunr.JobRunrException;
 import org.jobrunr.jobs.Job;
 import org.jobrunr.jobs.RecurringJob;
 import org.jobrunr.jobs.filters.JobFilterUtils;
@@ -7,15 +8,17 @@ import org.jobrunr.jobs.mappers.JobMapper;
 import org.jobrunr.jobs.states.StateName;
 import org.jobrunr.server.BackgroundJobServer;
 import org.jobrunr.storage.AbstractStorageProvider;
+import org.jobrunr.storage.ApproximateJobCounts;
 import org.jobrunr.storage.BackgroundJobServerStatus;
 import org.jobrunr.storage.ConcurrentJobModificationException;
+import org.jobrunr.storage.CountPrecision;
+import org.jobrunr.storage.JobCount;
 import org.jobrunr.storage.JobNotFoundException;
 import org.jobrunr.storage.JobRunrMetadata;
 import org.jobrunr.storage.JobStats;
 import org.jobrunr.storage.RecurringJobsResult;
 import org.jobrunr.storage.StorageException;
 import org.jobrunr.storage.StorageProviderUtils.DatabaseOptions;
-import org.jobrunr.storage.StorageProviderUtils.RecurringJobs;
 import org.jobrunr.storage.navigation.AmountRequest;
 import org.jobrunr.storage.sql.SqlStorageProvider;
 import org.jobrunr.storage.sql.common.db.Dialect;
@@ -25,27 +28,54 @@ import org.jobrunr.utils.resilience.RateLimiter;
 import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 
+import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
 import static org.jobrunr.jobs.states.StateName.AWAITING;
+import static org.jobrunr.jobs.states.StateName.DELETED;
+import static org.jobrunr.jobs.states.StateName.ENQUEUED;
+import static org.jobrunr.jobs.states.StateName.FAILED;
 import static org.jobrunr.jobs.states.StateName.PROCESSING;
 import static org.jobrunr.jobs.states.StateName.SCHEDULED;
+import static org.jobrunr.jobs.states.StateName.SUCCEEDED;
 import static org.jobrunr.storage.StorageProviderUtils.DatabaseOptions.CREATE;
 import static org.jobrunr.storage.StorageProviderUtils.DatabaseOptions.SKIP_CREATE;
+import static org.jobrunr.storage.StorageProviderUtils.Metadata.RECURRING_JOBS_VERSION_ID;
+import static org.jobrunr.storage.StorageProviderUtils.Metadata.STATS_NAME;
+import static org.jobrunr.storage.StorageProviderUtils.Metadata.STATS_OWNER;
 import static org.jobrunr.utils.resilience.RateLimiter.Builder.rateLimit;
 
 public class DefaultSqlStorageProvider extends AbstractStorageProvider implements SqlStorageProvider {
 
+    // why: some databases (e.g. Oracle) do not support more than 1000 elements in an IN clause
+    private static final int DELETE_JOBS_PERMANENTLY_BATCH_SIZE = 1000;
+    // why: the opt-in features change how jobs are stored, so all applications using the same database must enable the same ones
+    private static final String OPT_IN_FEATURE_ENABLED_METADATA_NAME = "sql-opt-in-feature-enabled";
+    private static final String JOB_STATE_COUNTERS = "job-state-counters";
+    private static final String JOB_STATES_TABLE = "job-states-table";
+    private static final String JOBS_ARCHIVE = "jobs-archive";
+    private static final String NATIVE_UUIDS = "native-uuids";
+
     protected final DataSource dataSource;
-    protected final Dialect dialect;
     protected final String tablePrefix;
-    private JobMapper jobMapper;
+    private final DatabaseOptions databaseOptions;
+    protected Dialect dialect;
+    protected JobMapper jobMapper;
+    private boolean jobStateCountersEnabled;
+    private boolean jobStatesTableEnabled;
+    private boolean jobsArchiveEnabled;
+    private final Set<String> enabledOptInFeatures;
+    private final ApproximateJobCounts approximateJobCounts;
 
     public DefaultSqlStorageProvider(DataSource dataSource, Dialect dialect, DatabaseOptions databaseOptions) {
         this(dataSource, dialect, databaseOptions, rateLimit().at1RequestPerSecond());
@@ -64,12 +94,90 @@ public class DefaultSqlStorageProvider extends AbstractStorageProvider implement
         this.dataSource = dataSource;
         this.dialect = dialect;
         this.tablePrefix = tablePrefix;
+        this.databaseOptions = databaseOptions;
+        this.enabledOptInFeatures = new HashSet<>();
+        this.approximateJobCounts = new ApproximateJobCounts(Duration.ofSeconds(10));
         setUpStorageProvider(databaseOptions);
     }
 
     @Override
     public void setJobMapper(JobMapper jobMapper) {
         this.jobMapper = jobMapper;
+        validateOptInFeaturesOfOtherApplications();
+    }
+
+    /**
+     * Enables incrementally maintained job state counters. Instead of counting all jobs per state for every {@link #getJobStats()} call
+     * (which becomes expensive for tables with millions of jobs), a small counters table is updated in the same transaction as the jobs.
+     * The counters are reconciled with the actual jobs by the master {@link BackgroundJobServer} when it starts and afterwards every hour.
+     * <p>
+     * Once enabled, this must be enabled for all applications (both BackgroundJobServers and dashboards) that use the same database, before the
+     * StorageProvider is passed to JobRunr. Applications that do not enable it are rejected.
+     *
+     * @param jobStateCountersEnabled whether to use the job state counters
+     */
+    public void setJobStateCountersEnabled(boolean jobStateCountersEnabled) {
+        this.jobStateCountersEnabled = jobStateCountersEnabled;
+        setOptInFeatureEnabled(JOB_STATE_COUNTERS, jobStateCountersEnabled);
+    }
+
+    /**
+     * Enables the append-only job states table. Instead of rewriting the complete job history in the jobAsJson column on every state change,
+     * the jobAsJson column only contains the current state of the job and each state change is appended as a small row to the jobrunr_job_states
+     * table. The job history is rebuilt when jobs are read. Jobs saved before enabling it are still read using the job history in their jobAsJson.
+     * <p>
+     * Once enabled, this must be enabled for all applications (both BackgroundJobServers and dashboards) that use the same database, before the
+     * StorageProvider is passed to JobRunr. Applications that do not enable it are rejected.
+     *
+     * @param jobStatesTableEnabled whether to append the job states to the jobrunr_job_states table
+     */
+    public void setJobStatesTableEnabled(boolean jobStatesTableEnabled) {
+        this.jobStatesTableEnabled = jobStatesTableEnabled;
+        setOptInFeatureEnabled(JOB_STATES_TABLE, jobStatesTableEnabled);
+    }
+
+    /**
+     * Enables the jobrunr_jobs_archive table. Jobs that are SUCCEEDED, FAILED or DELETED for a while are moved in batches by the master
+     * {@link BackgroundJobServer} to the jobrunr_jobs_archive table, so that the jobrunr_jobs table and its indexes only contain the active jobs
+     * and the queries to process jobs stay fast. Jobs are read transparently from both tables and an archived job that is saved in a state that
+     * is not final (e.g. when it is requeued via the dashboard) is moved back to the jobrunr_jobs table.
+     * <p>
+     * As the jobrunr_jobs_stats view only counts the jobs in the jobrunr_jobs table, this also enables the job state counters (see
+     * {@link #setJobStateCountersEnabled(boolean)}). Once enabled, this must be enabled for all applications (both BackgroundJobServers
+     * and dashboards) that use the same database, before the StorageProvider is passed to JobRunr. Applications that do not enable it are rejected.
+     *
+     * @param jobsArchiveEnabled whether to move finished jobs to the jobrunr_jobs_archive table
+     */
+    public void setJobsArchiveEnabled(boolean jobsArchiveEnabled) {
+        this.jobsArchiveEnabled = jobsArchiveEnabled;
+        setOptInFeatureEnabled(JOBS_ARCHIVE, jobsArchiveEnabled);
+        if (jobsArchiveEnabled) {
+            setJobStateCountersEnabled(true);
+        }
+    }
+
+    /**
+     * Enables the native UUID column type for the id columns of the jobrunr_jobs, jobrunr_jobs_archive, jobrunr_job_states and
+     * jobrunr_backgroundjobservers tables instead of NCHAR(36): uuid for PostgreSQL, BINARY(16) for MySQL and MariaDB, UNIQUEIDENTIFIER for
+     * SQL Server and RAW(16) for Oracle. This makes the primary keys and the indexes containing them less than half the size. For other databases,
+     * this has no effect.
+     * <p>
+     * If the tables are created by JobRunr ({@link DatabaseOptions#CREATE}), the existing id columns are migrated when enabled. As this rewrites
+     * the tables, this may take a while for huge tables. Otherwise, the SQL scripts in the native-uuid-migrations directory must be applied manually.
+     * Once enabled, this must be enabled for all applications (both BackgroundJobServers and dashboards) that use the same database, before the
+     * StorageProvider is passed to JobRunr. Applications that do not enable it are rejected.
+     *
+     * @param nativeUUIDsEnabled whether to use the native UUID column type for the id columns
+     */
+    public void setNativeUUIDsEnabled(boolean nativeUUIDsEnabled) {
+        setOptInFeatureEnabled(NATIVE_UUIDS, nativeUUIDsEnabled);
+        if (!nativeUUIDsEnabled) return;
+
+        if (databaseOptions == CREATE) {
+            getDatabaseCreator()
+                    .runOptInMigrations("native-uuid-migrations");
+        }
+        this.dialect = dialect.withNativeUUIDs();
     }
 
     @Override
@@ -226,6 +334,19 @@ public class DefaultSqlStorageProvider extends AbstractStorageProvider implement
         }
     }
 
+    @Override
+    public int touchProcessingJobs(List<Job> jobs, Instant updatedAt) {
+        if (jobs.isEmpty()) return 0;
+
+        try (final Connection conn = dataSource.getConnection(); final Transaction transaction = new Transaction(conn)) {
+            final int amountTouched = jobTable(conn).touchProcessingJobs(jobs, updatedAt);
+            transaction.commit();
+            return amountTouched;
+        } catch (SQLException e) {
+            throw new StorageException(e);
+        }
+    }
+
     @Override
     public Job getJobById(UUID id) {
         try (final Connection conn = dataSource.getConnection()) {
@@ -246,6 +367,19 @@ public class DefaultSqlStorageProvider extends AbstractStorageProvider implement
         }
     }
 
+    @Override
+    public JobCount countJobs(StateName state, CountPrecision precision) {
+        if (precision == CountPrecision.EXACT) return JobCount.exactly(countJobs(state));
+
+        return approximateJobCounts.countJobs(state, stateToCount -> {
+            try (final Connection conn = dataSource.getConnection()) {
+                return jobTable(conn).countJobs(stateToCount, precision);
+            } catch (SQLException e) {
+                throw new StorageException(e);
+            }
+        });
+    }
+
     @Override
     public List<Job> getJobList(StateName state, Instant updatedBefore, AmountRequest amountRequest) {
         try (final Connection conn = dataSource.getConnection()) {
@@ -284,29 +418,34 @@ public class DefaultSqlStorageProvider extends AbstractStorageProvider implement
 
     @Override
     public List<Job> getJobsToProcess(BackgroundJobServer backgroundJobServer, AmountRequest amountRequest) {
-        JobFilterUtils jobFilterUtils = new JobFilterUtils(backgroundJobServer.getJobFilters());
         try (final Connection conn = dataSource.getConnection(); final Transaction transaction = new Transaction(conn)) {
+            // why: the jobs are selected and saved in the same transaction, so the row locks of SELECT FOR UPDATE SKIP LOCKED are held until they are saved
             List<Job> jobs = jobTable(conn).selectJobsToProcess(amountRequest);
-            try {
-                jobs.forEach(job -> job.startProcessingOn(backgroundJobServer));
-                jobFilterUtils.runOnStateElectionFilter(jobs);
-                List<Job> jobsToProcess = jobTable(conn).save(jobs);
-                transaction.commit();
-                jobFilterUtils.runOnStateAppliedFilters(jobsToProcess);
-                return jobsToProcess.stream().filter(job -> job.hasState(PROCESSING)).collect(toList());
-            } catch (ConcurrentJobModificationException e) {
-                List<Job> actualSavedJobs = new ArrayList<>(jobs);
-                Set<UUID> concurrentUpdatedJobIds = e.getConcurrentUpdatedJobs().stream().map(Job::getId).collect(toSet());
-                actualSavedJobs.removeIf(j -> concurrentUpdatedJobIds.contains(j.getId()));
-                transaction.commit();
-                jobFilterUtils.runOnStateAppliedFilters(actualSavedJobs);
-                return actualSavedJobs.stream().filter(job -> job.hasState(PROCESSING)).collect(toList());
-            }
+            return startProcessingJobs(conn, transaction, backgroundJobServer, jobs);
         } catch (SQLException e) {
             throw new StorageException(e);
         }
     }
 
+    private List<Job> startProcessingJobs(Connection conn, Transaction transaction, BackgroundJobServer backgroundJobServer, List<Job> jobs) throws SQLException {
+        JobFilterUtils jobFilterUtils = new JobFilterUtils(backgroundJobServer.getJobFilters());
+        try {
+            jobs.forEach(job -> job.startProcessingOn(backgroundJobServer));
+            jobFilterUtils.runOnStateElectionFilter(jobs);
+            List<Job> jobsToProcess = jobTable(conn).save(jobs);
+            transaction.commit();
+            jobFilterUtils.runOnStateAppliedFilters(jobsToProcess);
+            return jobsToProcess.stream().filter(job -> job.hasState(PROCESSING)).collect(toList());
+        } catch (ConcurrentJobModificationException e) {
+            List<Job> actualSavedJobs = new ArrayList<>(jobs);
+            Set<UUID> concurrentUpdatedJobIds = e.getConcurrentUpdatedJobs().stream().map(Job::getId).collect(toSet());
+            actualSavedJobs.removeIf(j -> concurrentUpdatedJobIds.contains(j.getId()));
+            transaction.commit();
+            jobFilterUtils.runOnStateAppliedFilters(actualSavedJobs);
+            return actualSavedJobs.stream().filter(job -> job.hasState(PROCESSING)).collect(toList());
+        }
+    }
+
     @Override
     public int deletePermanently(UUID id) {
         try (final Connection conn = dataSource.getConnection(); final Transaction transaction = new Transaction(conn)) {
@@ -321,8 +460,31 @@ public class DefaultSqlStorageProvider extends AbstractStorageProvider implement
 
     @Override
     public int deleteJobsPermanently(StateName state, Instant updatedBefore) {
+        int totalAmountDeleted = 0;
+        int amountDeleted;
+        do {
+            // why: each batch is deleted in its own transaction to avoid one long-running delete that locks and bloats the jobs table
+            amountDeleted = deleteJobsPermanently(state, updatedBefore, DELETE_JOBS_PERMANENTLY_BATCH_SIZE);
+            totalAmountDeleted += amountDeleted;
+        } while (amountDeleted == DELETE_JOBS_PERMANENTLY_BATCH_SIZE);
+        notifyJobStatsOnChangeListenersIf(totalAmountDeleted > 0);
+        return totalAmountDeleted;
+    }
+
+    private int deleteJobsPermanently(StateName state, Instant updatedBefore, int limit) {
         try (final Connection conn = dataSource.getConnection(); final Transaction transaction = new Transaction(conn)) {
-            final int amountDeleted = jobTable(conn).deleteJobsByStateAndUpdatedBefore(state, updatedBefore);
+            final int amountDeleted = jobTable(conn).deleteJobsByStateAndUpdatedBefore(state, updatedBefore, limit);
+            transaction.commit();
+            return amountDeleted;
+        } catch (SQLException e) {
+            throw new StorageException(e);
+        }
+    }
+
+    @Override
+    public int deleteSucceededJobs(Instant updatedBefore, int limit) {
+        try (final Connection conn = dataSource.getConnection(); final Transaction transaction = new Transaction(conn)) {
+            final int amountDeleted = jobTable(conn).deleteSucceededJobs(updatedBefore, limit);
             transaction.commit();
             notifyJobStatsOnChangeListenersIf(amountDeleted > 0);
             return amountDeleted;
@@ -331,6 +493,19 @@ public class DefaultSqlStorageProvider extends AbstractStorageProvider implement
         }
     }
 
+    @Override
+    public int archiveJobs(StateName state, Instant updatedBefore, int limit) {
+        if (!jobsArchiveEnabled) return 0;
+
+        try (final Connection conn = dataSource.getConnection(); final Transaction transaction = new Transaction(conn)) {
+            final int amountArchived = jobTable(conn).archiveJobs(state, updatedBefore, limit);
+            transaction.commit();
+            return amountArchived;
+        } catch (SQLException e) {
+            throw new StorageException(e);
+        }
+    }
+
     @Override
     public Set<String> getDistinctJobSignatures(StateName... states) {
         try (final Connection conn = dataSource.getConnection()) {
@@ -349,10 +524,21 @@ public class DefaultSqlStorageProvider extends AbstractStorageProvider implement
         }
     }
 
+    @Override
+    public Map<String, Instant> getRecurringJobsLatestScheduledInstants(Collection<String> recurringJobIds, StateName... states) {
+        try (final Connection conn = dataSource.getConnection()) {
+            return jobTable(conn).getRecurringJobsLatestScheduledInstants(new ArrayList<>(recurringJobIds), states);
+        } catch (SQLException e) {
+            throw new StorageException(e);
+        }
+    }
+
     @Override
     public RecurringJob saveRecurringJob(RecurringJob recurringJob) {
         try (final Connection conn = dataSource.getConnection(); final Transaction transaction = new Transaction(conn)) {
-            final RecurringJob savedRecurringJob = recurringJobTable(conn).save(recurringJob);
+            long recurringJobsVersion = metadataTable(conn).incrementAndGetCounter(RECURRING_JOBS_VERSION_ID, 1);
+            final RecurringJob savedRecurringJob = recurringJobTable(conn).save(recurringJob, recurringJobsVersion);
+            recurringJobTombstonesTable(conn).deleteById(recurringJob.getId());
             transaction.commit();
             return savedRecurringJob;
         } catch (SQLException e) {
@@ -363,7 +549,23 @@ public class DefaultSqlStorageProvider extends AbstractStorageProvider implement
     @Override
     public RecurringJobsResult getRecurringJobs() {
         try (final Connection conn = dataSource.getConnection()) {
-            return new RecurringJobsResult(recurringJobTable(conn).selectAll());
+            long recurringJobsVersion = metadataTable(conn).getCounter(RECURRING_JOBS_VERSION_ID);
+            return new RecurringJobsResult(recurringJobTable(conn).selectAll(), recurringJobsVersion);
+        } catch (SQLException e) {
+            throw new StorageException(e);
+        }
+    }
+
+    @Override
+    public RecurringJobsResult getRecurringJobsChangedSince(RecurringJobsResult recurringJobs) {
+        if (recurringJobs.getLastModifiedHash() < 0) return getRecurringJobs();
+
+        try (final Connection conn = dataSource.getConnection()) {
+            long recurringJobsVersion = metadataTable(conn).getCounter(RECURRING_JOBS_VERSION_ID);
+            // why: the tombstones are read before the recurring jobs so a recurring job that is created again in between is not removed
+            List<String> deletedRecurringJobIds = recurringJobTombstonesTable(conn).selectRecurringJobIdsDeletedSince(recurringJobs.getLastModifiedHash());
+            List<RecurringJob> changedRecurringJobs = recurringJobTable(conn).selectAllChangedSince(recurringJobs.getLastModifiedHash());
+            return recurringJobs.merge(changedRecurringJobs, deletedRecurringJobIds, recurringJobsVersion);
         } catch (SQLException e) {
             throw new StorageException(e);
         }
@@ -372,8 +574,7 @@ public class DefaultSqlStorageProvider extends AbstractStorageProvider implement
     @Override
     public boolean recurringJobsUpdated(Long recurringJobsUpdatedHash) {
         try (final Connection conn = dataSource.getConnection()) {
-            Long lastModifiedHash = recurringJobTable(conn).selectSum(RecurringJobs.FIELD_CREATED_AT);
-            return !recurringJobsUpdatedHash.equals(lastModifiedHash);
+            return recurringJobsUpdatedHash != metadataTable(conn).getCounter(RECURRING_JOBS_VERSION_ID);
         } catch (SQLException e) {
             throw new StorageException(e);
         }
@@ -383,6 +584,10 @@ public class DefaultSqlStorageProvider extends AbstractStorageProvider implement
     public int deleteRecurringJob(String id) {
         try (final Connection conn = dataSource.getConnection(); final Transaction transaction = new Transaction(conn)) {
             final int deletedRecurringJobCount = recurringJobTable(conn).deleteById(id);
+            if (deletedRecurringJobCount > 0) {
+                long recurringJobsVersion = metadataTable(conn).incrementAndGetCounter(RECURRING_JOBS_VERSION_ID, 1);
+                recurringJobTombstonesTable(conn).save(id, recurringJobsVersion);
+            }
             transaction.commit();
             return deletedRecurringJobCount;
         } catch (SQLException e) {
@@ -393,12 +598,29 @@ public class DefaultSqlStorageProvider extends AbstractStorageProvider implement
     @Override
     public JobStats getJobStats() {
         try (final Connection conn = dataSource.getConnection()) {
+            if (jobStateCountersEnabled) {
+                return getJobStatsUsingJobStateCounters(conn);
+            }
             return jobStatsView(conn).getJobStats();
         } catch (SQLException e) {
             throw new StorageException(e);
         }
     }
 
+    @Override
+    public void reconcileJobStats() {
+        if (!jobStateCountersEnabled) return;
+
+        try (final Connection conn = dataSource.getConnection(); final Transaction transaction = new Transaction(conn)) {
+            JobStateCountersTable jobStateCountersTable = jobStateCountersTable(conn);
+            jobStateCountersTable.lock();
+            jobStateCountersTable.reconcile(jobTable(conn).countJobsPerState());
+            transaction.commit();
+        } catch (SQLException e) {
+            throw new StorageException(e);
+        }
+    }
+
     @Override
     public void publishTotalAmountOfSucceededJobs(int amount) {
         try (final Connection conn = dataSource.getConnection(); final Transaction transaction = new Transaction(conn)) {
@@ -409,18 +631,106 @@ public class DefaultSqlStorageProvider extends AbstractStorageProvider implement
         }
     }
 
+    private JobStats getJobStatsUsingJobStateCounters(Connection conn) throws SQLException {
+        Instant now = Instant.now();
+        Map<StateName, Long> amountsPerState = jobStateCountersTable(conn).getAmountsPerState();
+        JobRunrMetadata allTimeSucceededJobs = metadataTable(conn).get(STATS_NAME, STATS_OWNER);
+        return new JobStats(
+                now,
+                amountsPerState.values().stream().mapToLong(Long::longValue).sum(),
+                amountsPerState.getOrDefault(AWAITING, 0L),
+                amountsPerState.getOrDefault(SCHEDULED, 0L),
+                amountsPerState.getOrDefault(ENQUEUED, 0L),
+                amountsPerState.getOrDefault(PROCESSING, 0L),
+                amountsPerState.getOrDefault(FAILED, 0L),
+                amountsPerState.getOrDefault(SUCCEEDED, 0L),
+                allTimeSucceededJobs != null ? allTimeSucceededJobs.getValueAsLong() : 0L,
+                amountsPerState.getOrDefault(DELETED, 0L),
+                (int) recurringJobTable(conn).count(),
+                (int) backgroundJobServerTable(conn).count()
+        );
+    }
+
+    /**
+     * Records the opt-in features that are enabled in the jobrunr_metadata table. An application that does not enable a feature that another
+     * application using the same database enabled, is rejected as it would store or read the jobs differently.
+     */
+    private void setOptInFeatureEnabled(String optInFeature, boolean enabled) {
+        if (enabled) {
+            enabledOptInFeatures.add(optInFeature);
+        } else {
+            enabledOptInFeatures.remove(optInFeature);
+        }
+
+        try (final Connection conn = dataSource.getConnection(); final Transaction transaction = new Transaction(conn)) {
+            MetadataTable metadataTable = metadataTable(conn);
+            boolean enabledByOtherApplications = metadataTable.get(OPT_IN_FEATURE_ENABLED_METADATA_NAME, optInFeature) != null;
+            if (!enabled && enabledByOtherApplications) {
+                throw optInFeaturesNotEnabledException(singletonList(optInFeature));
+            } else if (enabled && !enabledByOtherApplications) {
+                metadataTable.save(new JobRunrMetadata(OPT_IN_FEATURE_ENABLED_METADATA_NAME, optInFeature, "true"));
+                transaction.commit();
+            }
+        } catch (SQLException e) {
+            if (dialect.isUniqueConstraintException(e)) return; // why: another application enabled it at the same time
+            throw new StorageException(e);
+        }
+    }
+
+    private void validateOptInFeaturesOfOtherApplications() {
+        try (final Connection conn = dataSource.getConnection()) {
+            List<String> optInFeaturesNotEnabled = metadataTable(conn).getAll(OPT_IN_FEATURE_ENABLED_METADATA_NAME).stream()
+                    .map(JobRunrMetadata::getOwner)
+                    .filter(optInFeature -> !enabledOptInFeatures.contains(optInFeature))
+                    .collect(toList());
+            if (!optInFeaturesNotEnabled.isEmpty()) throw optInFeaturesNotEnabledException(optInFeaturesNotEnabled);
+        } catch (SQLException e) {
+            throw new StorageException(e);
+        }
+    }
+
+    private static JobRunrException optInFeaturesNotEnabledException(List<String> optInFeatures) {
+        return new JobRunrException("The opt-in features " + optInFeatures + " are enabled by other applications using this database but not by this one. " +
+                "They must be enabled for all applications (both BackgroundJobServers and dashboards) that use the same database and before the StorageProvider is passed to JobRunr.");
+    }
+
     protected DatabaseCreator getDatabaseCreator() {
         return new DatabaseCreator(dataSource, tablePrefix, getClass());
     }
 
     protected JobTable jobTable(Connection connection) {
-        return new JobTable(connection, dialect, tablePrefix, jobMapper);
+        return withOptionalJobTables(connection, new JobTable(connection, dialect, tablePrefix, jobMapper));
+    }
+
+    protected JobTable withOptionalJobTables(Connection connection, JobTable jobTable) {
+        if (jobStateCountersEnabled) {
+            jobTable.withJobStateCounters(jobStateCountersTable(connection));
+        }
+        if (jobStatesTableEnabled) {
+            jobTable.withJobStates(jobStatesTable(connection));
+        }
+        if (jobsArchiveEnabled) {
+            jobTable.withJobsArchive();
+        }
+        return jobTable;
+    }
+
+    protected JobStatesTable jobStatesTable(Connection connection) {
+        return new JobStatesTable(connection, dialect, tablePrefix, jobMapper);
+    }
+
+    protected JobStateCountersTable jobStateCountersTable(Connection connection) {
+        return new JobStateCountersTable(connection, dialect, tablePrefix);
     }
 
     protected RecurringJobTable recurringJobTable(Connection connection) {
         return new RecurringJobTable(connection, dialect, tablePrefix, jobMapper);
     }
 
+    protected RecurringJobTombstonesTable recurringJobTombstonesTable(Connection connection) {
+        return new RecurringJobTombstonesTable(connection, dialect, tablePrefix);
+    }
+
     protected BackgroundJobServerTable backgroundJobServerTable(Connection connection) {
         return new BackgroundJobServerTable(connection, dialect, tablePrefix);
     }
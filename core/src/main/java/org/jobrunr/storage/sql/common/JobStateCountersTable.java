@@ -0,0 +1,82 @@
+package org.jobrunr.storage.sql.common;
+
+import org.jobrunr.jobs.states.StateName;
+import org.jobrunr.storage.sql.common.db.Dialect;
+import org.jobrunr.storage.sql.common.db.Sql;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.jobrunr.storage.StorageProviderUtils.Jobs.FIELD_STATE;
+
+/**
+ * Keeps the amount of jobs per state in a small table that is updated in the same transaction as the jobs themselves. This allows to get the
+ * {@link org.jobrunr.storage.JobStats} without having to count all rows in the jobrunr_jobs table.
+ * <p>
+ * Each state has multiple counter rows (stripes) and each transaction only updates the counters of one randomly chosen stripe. This avoids that
+ * all concurrent transactions need to wait on the same row lock.
+ */
+public class JobStateCountersTable extends Sql<Object> {
+
+    static final int STRIPES = 16;
+
+    public JobStateCountersTable(Connection connection, Dialect dialect, String tablePrefix) {
+        this
+                .using(connection, dialect, tablePrefix, "jobrunr_job_state_counters");
+    }
+
+    public void increment(Map<StateName, Long> amountsPerState) throws SQLException {
+        int stripe = ThreadLocalRandom.current().nextInt(STRIPES);
+        // why sorted: concurrent transactions must lock the counter rows in the same order to prevent deadlocks
+        for (Map.Entry<StateName, Long> amountForState : new TreeMap<>(amountsPerState).entrySet()) {
+            if (amountForState.getValue() == 0) continue;
+            increment(amountForState.getKey(), stripe, amountForState.getValue());
+        }
+    }
+
+    public Map<StateName, Long> getAmountsPerState() {
+        Map<StateName, Long> amountsPerState = new EnumMap<>(StateName.class);
+        select("state, sum(amount) as amount from jobrunr_job_state_counters group by state")
+                .forEach(resultSet -> amountsPerState.put(StateName.valueOf(resultSet.asString(FIELD_STATE)), resultSet.asLong("amount")));
+        return amountsPerState;
+    }
+
+    /**
+     * Locks all counter rows until the end of the transaction. The rows are locked per state in the same order as {@link #increment(Map)} locks
+     * them, so that this does not deadlock with concurrent transactions saving jobs.
+     */
+    public void lock() throws SQLException {
+        for (StateName state : StateName.values()) {
+            with(FIELD_STATE, state)
+                    .updateRows("jobrunr_job_state_counters set amount = amount where state = :state");
+        }
+    }
+
+    /**
+     * Corrects the counters so that they match the given amounts by adding the difference between the given and the current amount to the first
+     * stripe of each state. The counter rows must be locked using {@link #lock()} before counting the actual amounts, otherwise the changes of
+     * transactions that commit in between would be lost.
+     *
+     * @param actualAmountsPerState the actual amount of jobs per state
+     */
+    public void reconcile(Map<StateName, Long> actualAmountsPerState) throws SQLException {
+        Map<StateName, Long> currentAmountsPerState = getAmountsPerState();
+        for (StateName state : StateName.values()) {
+            long delta = actualAmountsPerState.getOrDefault(state, 0L) - currentAmountsPerState.getOrDefault(state, 0L);
+            if (delta == 0) continue;
+            increment(state, 0, delta);
+        }
+    }
+
+    private void increment(StateName state, int stripe, long amount) throws SQLException {
+        // why updateRows: the counter rows of all states and stripes are created by the migration
+        with(FIELD_STATE, state)
+                .with("stripe", stripe)
+                .with("amount", amount)
+                .updateRows("jobrunr_job_state_counters set amount = amount + :amount where state = :state and stripe = :stripe");
+    }
+}
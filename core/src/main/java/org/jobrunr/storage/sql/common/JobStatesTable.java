@@ -0,0 +1,153 @@
+package org.jobrunr.storage.sql.common;
+
+import org.jobrunr.jobs.Job;
+import org.jobrunr.jobs.mappers.JobMapper;
+import org.jobrunr.jobs.states.JobState;
+import org.jobrunr.storage.sql.common.db.Dialect;
+import org.jobrunr.storage.sql.common.db.Sql;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static java.util.Collections.emptyMap;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Stores the state history of jobs as small append-only rows. When a job changes state, only the new states are inserted instead of rewriting
+ * the complete job history in the jobAsJson column of the jobrunr_jobs table (which then only contains the current state of the job).
+ */
+public class JobStatesTable extends Sql<JobStatesTable.JobStateRow> {
+
+    private static final String INSERT_STATEMENT = "into jobrunr_job_states (jobId, stateIndex, stateClass, stateAsJson) values (:jobId, :stateIndex, :stateClass, :stateAsJson)";
+    // why: some databases (e.g. Oracle) do not support more than 1000 elements in an IN clause
+    private static final int MAX_IDS_PER_STATEMENT = 1000;
+
+    private final JobMapper jobMapper;
+
+    public JobStatesTable(Connection connection, Dialect dialect, String tablePrefix, JobMapper jobMapper) {
+        this.jobMapper = jobMapper;
+        this
+                .using(connection, dialect, tablePrefix, "jobrunr_job_states")
+                .with("jobId", jobStateRow -> jobStateRow.jobId)
+                .with("stateIndex", jobStateRow -> jobStateRow.stateIndex)
+                .with("stateClass", jobStateRow -> jobStateRow.jobState.getClass().getName())
+                .with("stateAsJson", jobStateRow -> jobMapper.serializeJobState(jobStateRow.jobState));
+    }
+
+    public void insertJobStates(List<Job> newJobs) throws SQLException {
+        insertJobStates(newJobs, emptyMap());
+    }
+
+    /**
+     * Inserts the states of the given jobs that are not stored yet. The amount of stored states is known for all jobs that were loaded or saved
+     * using this table; it is only selected for the other jobs.
+     *
+     * @param jobs the jobs of which to insert the new states
+     * @throws SQLException if the states could not be inserted
+     */
+    public void appendNewJobStates(List<Job> jobs) throws SQLException {
+        List<Job> jobsWithUnknownAmountOfStoredJobStates = jobs.stream().filter(job -> job.getAmountOfStoredJobStates() < 0).collect(toList());
+        Map<UUID, Integer> amountOfStoredJobStates = selectAmountOfStoredJobStates(jobsWithUnknownAmountOfStoredJobStates);
+        for (Job job : jobs) {
+            if (job.getAmountOfStoredJobStates() >= 0) amountOfStoredJobStates.put(job.getId(), job.getAmountOfStoredJobStates());
+        }
+        insertJobStates(jobs, amountOfStoredJobStates);
+    }
+
+    /**
+     * Returns the given jobs with their full job history. Jobs for which no states are stored (e.g. because they were saved before the
+     * job states table was used) are returned as is, as their jobAsJson still contains the complete job history.
+     * <p>
+     * The last stored state is replaced by the current state from jobAsJson, as the current state can be updated without adding a new state
+     * (e.g. the updatedAt of the {@link org.jobrunr.jobs.states.ProcessingState}) and only jobAsJson is then rewritten. States the job has on
+     * top of its current state (e.g. the {@link org.jobrunr.jobs.states.DeletedState} added by {@link JobMapper#withStateOfStoredJob})
+     * are appended to the stored job history.
+     *
+     * @param jobs the jobs containing only their current state
+     * @return the jobs with their full job history
+     */
+    public List<Job> withJobHistories(List<Job> jobs) {
+        if (jobs.isEmpty()) return jobs;
+
+        Map<UUID, List<JobState>> jobHistories = new HashMap<>();
+        forEachChunkOfIds(jobs.stream().map(Job::getId).collect(toList()), ids ->
+                select("jobId, stateClass, stateAsJson from jobrunr_job_states where jobId in (" + ids + ") order by jobId, stateIndex")
+                        .forEach(resultSet -> jobHistories
+                                .computeIfAbsent(resultSet.asUUID("jobId"), id -> new ArrayList<>())
+                                .add(jobMapper.deserializeJobState(resultSet.asString("stateClass"), resultSet.asString("stateAsJson")))));
+        return jobs.stream()
+                .map(job -> withStoredJobHistory(job, jobHistories.get(job.getId())))
+                .collect(toList());
+    }
+
+    public void deleteJobStates(List<UUID> jobIds) throws SQLException {
+        for (int i = 0; i < jobIds.size(); i += MAX_IDS_PER_STATEMENT) {
+            delete("from jobrunr_job_states where jobId in (" + toIdsInClause(jobIds.subList(i, Math.min(i + MAX_IDS_PER_STATEMENT, jobIds.size()))) + ")");
+        }
+    }
+
+    private void insertJobStates(List<Job> jobs, Map<UUID, Integer> amountOfStoredJobStates) throws SQLException {
+        List<JobStateRow> newJobStates = new ArrayList<>();
+        for (Job job : jobs) {
+            List<JobState> jobStates = job.getJobStates();
+            for (int stateIndex = amountOfStoredJobStates.getOrDefault(job.getId(), 0); stateIndex < jobStates.size(); stateIndex++) {
+                newJobStates.add(new JobStateRow(job.getId(), stateIndex, jobStates.get(stateIndex)));
+            }
+        }
+        if (!newJobStates.isEmpty()) {
+            insertAllUsingMultiRowInserts(newJobStates, INSERT_STATEMENT);
+        }
+        jobs.forEach(job -> job.setAmountOfStoredJobStates(job.getJobStates().size()));
+    }
+
+    private Map<UUID, Integer> selectAmountOfStoredJobStates(List<Job> jobs) {
+        Map<UUID, Integer> amountOfStoredJobStates = new HashMap<>();
+        if (jobs.isEmpty()) return amountOfStoredJobStates;
+        forEachChunkOfIds(jobs.stream().map(Job::getId).collect(toList()), ids ->
+                select("jobId, max(stateIndex) as maxStateIndex from jobrunr_job_states where jobId in (" + ids + ") group by jobId")
+                        .forEach(resultSet -> amountOfStoredJobStates.put(resultSet.asUUID("jobId"), resultSet.asInt("maxStateIndex") + 1)));
+        return amountOfStoredJobStates;
+    }
+
+    private Job withStoredJobHistory(Job job, List<JobState> storedJobHistory) {
+        if (storedJobHistory == null) {
+            job.setAmountOfStoredJobStates(0);
+            return job;
+        }
+
+        List<JobState> jobStates = job.getJobStates();
+        List<JobState> jobHistory = new ArrayList<>(storedJobHistory.subList(0, storedJobHistory.size() - 1));
+        jobHistory.addAll(jobStates);
+        Job jobWithJobHistory = jobMapper.withJobHistory(job, jobHistory);
+        jobWithJobHistory.setAmountOfStoredJobStates(storedJobHistory.size());
+        return jobWithJobHistory;
+    }
+
+    private void forEachChunkOfIds(List<UUID> jobIds, Consumer<String> idsInClauseConsumer) {
+        for (int i = 0; i < jobIds.size(); i += MAX_IDS_PER_STATEMENT) {
+            idsInClauseConsumer.accept(toIdsInClause(jobIds.subList(i, Math.min(i + MAX_IDS_PER_STATEMENT, jobIds.size()))));
+        }
+    }
+
+    private String toIdsInClause(List<UUID> jobIds) {
+        return withInClause("jobId", jobIds);
+    }
+
+    static class JobStateRow {
+        private final UUID jobId;
+        private final int stateIndex;
+        private final JobState jobState;
+
+        JobStateRow(UUID jobId, int stateIndex, JobState jobState) {
+            this.jobId = jobId;
+            this.stateIndex = stateIndex;
+            this.jobState = jobState;
+        }
+    }
+}
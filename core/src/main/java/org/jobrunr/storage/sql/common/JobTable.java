@@ -8,6 +8,8 @@ import org.jobrunr.jobs.mappers.JobMapper;
 import org.jobrunr.jobs.states.SchedulableState;
 import org.jobrunr.jobs.states.StateName;
 import org.jobrunr.storage.ConcurrentJobModificationException;
+import org.jobrunr.storage.CountPrecision;
+import org.jobrunr.storage.JobCount;
 import org.jobrunr.storage.navigation.AmountRequest;
 import org.jobrunr.storage.sql.common.db.ConcurrentSqlModificationException;
 import org.jobrunr.storage.sql.common.db.Dialect;
@@ -19,7 +21,13 @@ import org.jobrunr.utils.JobUtils;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -27,11 +35,23 @@ import java.util.UUID;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import static java.util.Arrays.asList;
 import static java.util.Arrays.stream;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+import static java.util.function.Function.identity;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
+import static org.jobrunr.jobs.states.StateName.DELETED;
 import static org.jobrunr.jobs.states.StateName.ENQUEUED;
+import static org.jobrunr.jobs.states.StateName.FAILED;
+import static org.jobrunr.jobs.states.StateName.PROCESSING;
+import static org.jobrunr.jobs.states.StateName.SUCCEEDED;
 import static org.jobrunr.jobs.states.StateName.areAllStateNames;
+import static org.jobrunr.storage.CountPrecision.APPROXIMATE_COUNT_THRESHOLD;
+import static org.jobrunr.storage.Paging.AmountBasedList.ascOnUpdatedAt;
 import static org.jobrunr.storage.StorageProviderUtils.Jobs.FIELD_CREATED_AT;
 import static org.jobrunr.storage.StorageProviderUtils.Jobs.FIELD_ID;
 import static org.jobrunr.storage.StorageProviderUtils.Jobs.FIELD_JOB_AS_JSON;
@@ -40,6 +60,7 @@ import static org.jobrunr.storage.StorageProviderUtils.Jobs.FIELD_RECURRING_JOB_
 import static org.jobrunr.storage.StorageProviderUtils.Jobs.FIELD_SCHEDULED_AT;
 import static org.jobrunr.storage.StorageProviderUtils.Jobs.FIELD_STATE;
 import static org.jobrunr.storage.StorageProviderUtils.Jobs.FIELD_UPDATED_AT;
+import static org.jobrunr.storage.StorageProviderUtils.Jobs.FIELD_VERSION;
 import static org.jobrunr.storage.sql.common.db.ConcurrentSqlModificationException.concurrentDatabaseModificationException;
 import static org.jobrunr.utils.CollectionUtils.asSet;
 import static org.jobrunr.utils.reflection.ReflectionUtils.cast;
@@ -48,10 +69,18 @@ public class JobTable extends Sql<Job> {
 
     protected static final String INSERT_STATEMENT = "into jobrunr_jobs (id, version, jobAsJson, jobSignature, state, createdAt, updatedAt, scheduledAt, recurringJobId) " +
             "values (:id, :version, :jobAsJson, :jobSignature, :state, :createdAt, :updatedAt, :scheduledAt, :recurringJobId)";
+    // why: the state, version and updatedAt are needed to return jobs deleted by deleteSucceededJobs with their DeletedState
+    private static final String SELECT_JOB_COLUMNS = "jobAsJson, state, version, updatedAt";
     private static final String UPDATE_STATEMENT = "jobrunr_jobs SET version = :version, jobAsJson = :jobAsJson, state = :state, updatedAt =:updatedAt, scheduledAt = :scheduledAt WHERE id = :id and version = :previousVersion";
+    private static final String UPDATE_ARCHIVED_JOB_STATEMENT = "jobrunr_jobs_archive SET version = :version, jobAsJson = :jobAsJson, state = :state, updatedAt =:updatedAt, scheduledAt = :scheduledAt WHERE id = :id and version = :previousVersion";
+    protected static final String JOB_COLUMNS = "id, version, jobAsJson, jobSignature, state, createdAt, updatedAt, scheduledAt, recurringJobId";
+    private static final Set<StateName> ARCHIVABLE_STATES = EnumSet.of(SUCCEEDED, FAILED, DELETED);
 
     private final JobMapper jobMapper;
     private final SqlJobPageRequestMapper pageRequestMapper;
+    private JobStateCountersTable jobStateCountersTable;
+    private JobStatesTable jobStatesTable;
+    private boolean jobsArchiveEnabled;
 
     public JobTable(Connection connection, Dialect dialect, String tablePrefix, JobMapper jobMapper) {
         this.pageRequestMapper = new SqlJobPageRequestMapper(this, dialect);
@@ -65,6 +94,42 @@ public class JobTable extends Sql<Job> {
                 .with(FIELD_RECURRING_JOB_ID, job -> job.getRecurringJobId().orElse(null));
     }
 
+    /**
+     * Keeps the given {@link JobStateCountersTable} up-to-date in the same transaction for every job that is saved or deleted.
+     *
+     * @param jobStateCountersTable the counters to update
+     * @return the same JobTable instance
+     */
+    public JobTable withJobStateCounters(JobStateCountersTable jobStateCountersTable) {
+        this.jobStateCountersTable = jobStateCountersTable;
+        return this;
+    }
+
+    /**
+     * Appends the state transitions of every job that is saved to the given {@link JobStatesTable} instead of storing the complete job history
+     * in the jobAsJson column. The jobAsJson column then only contains the current state of the job.
+     *
+     * @param jobStatesTable the table to append the job states to
+     * @return the same JobTable instance
+     */
+    public JobTable withJobStates(JobStatesTable jobStatesTable) {
+        this.jobStatesTable = jobStatesTable;
+        with(FIELD_JOB_AS_JSON, jobMapper::serializeJobWithoutJobHistory);
+        return this;
+    }
+
+    /**
+     * Reads the jobs in a final state (SUCCEEDED, FAILED and DELETED) from both the jobrunr_jobs and the jobrunr_jobs_archive table. Jobs are moved
+     * to the archive table using {@link #archiveJobs(StateName, Instant, int)}; an archived job that is saved in a state that is not final is moved
+     * back to the jobrunr_jobs table.
+     *
+     * @return the same JobTable instance
+     */
+    public JobTable withJobsArchive() {
+        this.jobsArchiveEnabled = true;
+        return this;
+    }
+
     public JobTable withId(UUID id) {
         with(FIELD_ID, id);
         return this;
@@ -98,10 +163,16 @@ public class JobTable extends Sql<Job> {
         try (JobVersioner jobVersioner = new JobVersioner(jobToSave)) {
             if (jobVersioner.isNewJob()) {
                 insertOneJob(jobToSave);
+                insertJobStates(singletonList(jobToSave));
+                updateJobStateCounters(emptyMap(), singletonList(jobToSave));
             } else {
+                Map<UUID, StateName> previousStates = getPreviousStatesForJobStateCounters(singletonList(jobToSave));
                 updateOneJob(jobToSave);
+                appendNewJobStates(singletonList(jobToSave));
+                updateJobStateCounters(previousStates, singletonList(jobToSave));
             }
             jobVersioner.commitVersion();
+            jobToSave.setStoredState(jobToSave.getState());
         } catch (ConcurrentSqlModificationException e) {
             throw new ConcurrentJobModificationException(jobToSave, e);
         }
@@ -112,61 +183,108 @@ public class JobTable extends Sql<Job> {
         if (jobs.isEmpty()) return jobs;
 
         try (JobListVersioner jobListVersioner = new JobListVersioner(jobs)) {
+            Map<UUID, StateName> previousStates = jobListVersioner.areNewJobs() ? emptyMap() : getPreviousStatesForJobStateCounters(jobs);
             try {
                 if (jobListVersioner.areNewJobs()) {
                     insertAllJobs(jobs);
                 } else {
                     updateAllJobs(jobs);
                 }
+                saveJobStates(jobListVersioner.areNewJobs(), jobs);
+                updateJobStateCounters(previousStates, jobs);
                 jobListVersioner.commitVersions();
+                jobs.forEach(job -> job.setStoredState(job.getState()));
                 return jobs;
             } catch (ConcurrentSqlModificationException e) {
                 List<Job> concurrentUpdatedJobs = cast(e.getFailedItems());
+                List<Job> savedJobs = jobs.stream().filter(job -> !concurrentUpdatedJobs.contains(job)).collect(toList());
+                saveJobStates(jobListVersioner.areNewJobs(), savedJobs);
+                updateJobStateCounters(previousStates, savedJobs);
                 jobListVersioner.rollbackVersions(concurrentUpdatedJobs);
+                savedJobs.forEach(job -> job.setStoredState(job.getState()));
                 throw new ConcurrentJobModificationException(concurrentUpdatedJobs, e);
             }
         }
     }
 
+    public int touchProcessingJobs(List<Job> jobs, Instant updatedAt) throws SQLException {
+        int amountTouched = 0;
+        // why: at most 100 jobs per statement, so that the padded conditions (see Sql#paddedSize) stay far below the parameter limits of all databases
+        for (int i = 0; i < jobs.size(); i += 100) {
+            amountTouched += withState(PROCESSING)
+                    .with(FIELD_UPDATED_AT, updatedAt)
+                    .updateRows("jobrunr_jobs set updatedAt = :updatedAt where state = :state and (" + withIdAndVersionConditions(jobs.subList(i, Math.min(i + 100, jobs.size()))) + ")");
+        }
+        return amountTouched;
+    }
+
     public Optional<Job> selectJobById(UUID id) {
+        Optional<Job> job = withId(id)
+                .selectJobs(SELECT_JOB_COLUMNS + " from jobrunr_jobs where id = :id")
+                .findFirst();
+        if (job.isPresent() || !jobsArchiveEnabled) return job;
         return withId(id)
-                .selectJobs("jobAsJson from jobrunr_jobs where id = :id")
+                .selectJobs(SELECT_JOB_COLUMNS + " from jobrunr_jobs_archive where id = :id")
                 .findFirst();
     }
 
     public long countJobs(StateName state) throws SQLException {
         return withState(state)
-                .selectCount("from jobrunr_jobs where state = :state");
+                .selectCount(fromJobs(" where state = :state", state));
+    }
+
+    /**
+     * Counts the jobs in the given state. Using {@link CountPrecision#APPROXIMATE}, the job state counters or the estimate of the database
+     * are used if they exceed the {@link CountPrecision#APPROXIMATE_COUNT_THRESHOLD}. Otherwise, the jobs are counted exactly.
+     *
+     * @param state     the state of the jobs to count
+     * @param precision the precision with which to count the jobs
+     * @return the amount of jobs in the given state and whether it is an approximation
+     * @throws SQLException if the jobs could not be counted
+     */
+    public JobCount countJobs(StateName state, CountPrecision precision) throws SQLException {
+        if (precision == CountPrecision.APPROXIMATE) {
+            long estimatedAmount = estimateJobs(state);
+            if (estimatedAmount >= APPROXIMATE_COUNT_THRESHOLD) return JobCount.approximately(estimatedAmount);
+        }
+        return JobCount.exactly(countJobs(state));
     }
 
     public List<Job> selectJobsByState(StateName state, AmountRequest amountRequest) {
         return withState(state)
-                .selectJobs("jobAsJson from jobrunr_jobs where state = :state", pageRequestMapper.map(amountRequest))
+                .selectJobs(SELECT_JOB_COLUMNS + " " + fromJobs(" where state = :state" + pageRequestMapper.mapToWhereClause(amountRequest), state), pageRequestMapper.map(amountRequest))
                 .collect(toList());
     }
 
     public List<Job> selectJobsToProcess(AmountRequest amountRequest) {
         return withState(ENQUEUED)
-                .selectJobs("jobAsJson from jobrunr_jobs where state = :state", pageRequestMapper.map(amountRequest) + dialect.selectForUpdateSkipLocked())
+                .selectJobs(SELECT_JOB_COLUMNS + " from jobrunr_jobs where state = :state", pageRequestMapper.map(amountRequest) + dialect.selectForUpdateSkipLocked())
                 .collect(toList());
     }
 
+    public Map<StateName, Long> countJobsPerState() {
+        Map<StateName, Long> amountsPerState = new EnumMap<>(StateName.class);
+        select("state, count(*) as amount " + fromJobs("") + " group by state")
+                .forEach(resultSet -> amountsPerState.put(StateName.valueOf(resultSet.asString(FIELD_STATE)), resultSet.asLong("amount")));
+        return amountsPerState;
+    }
+
     public List<Job> selectJobsByState(StateName state, Instant updatedBefore, AmountRequest amountRequest) {
         return withState(state)
                 .withUpdatedBefore(updatedBefore)
-                .selectJobs("jobAsJson from jobrunr_jobs where state = :state AND updatedAt <= :updatedBefore", pageRequestMapper.map(amountRequest))
+                .selectJobs(SELECT_JOB_COLUMNS + " " + fromJobs(" where state = :state AND updatedAt <= :updatedBefore" + pageRequestMapper.mapToWhereClause(amountRequest), state), pageRequestMapper.map(amountRequest))
                 .collect(toList());
     }
 
     public List<Job> selectJobsWithStateBefore(StateName state, Instant scheduledBefore, AmountRequest amountRequest) {
         return withState(state)
                 .withScheduledAt(scheduledBefore)
-                .selectJobs("jobAsJson from jobrunr_jobs where state = :state and scheduledAt <= :scheduledAt", pageRequestMapper.map(amountRequest))
+                .selectJobs(SELECT_JOB_COLUMNS + " from jobrunr_jobs where state = :state and scheduledAt <= :scheduledAt", pageRequestMapper.map(amountRequest))
                 .collect(toList());
     }
 
     public Set<String> getDistinctJobSignatures(StateName[] states) {
-        return select("distinct jobSignature from jobrunr_jobs where state in (" + stream(states).map(stateName -> "'" + stateName.name() + "'").collect(joining(",")) + ")")
+        return select("distinct jobSignature " + fromJobs(" where state in (" + stream(states).map(stateName -> "'" + stateName.name() + "'").collect(joining(",")) + ")", states))
                 .map(resultSet -> resultSet.asString(FIELD_JOB_SIGNATURE))
                 .collect(Collectors.toSet());
     }
@@ -174,26 +292,135 @@ public class JobTable extends Sql<Job> {
     public Instant getRecurringJobLatestScheduledInstant(String recurringJobId, StateName... states) throws SQLException {
         if (areAllStateNames(states)) {
             return with(FIELD_RECURRING_JOB_ID, recurringJobId)
-                    .select("MAX(scheduledAt) as latest from jobrunr_jobs where recurringJobId = :recurringJobId AND scheduledAt IS NOT NULL")
+                    .select("MAX(scheduledAt) as latest " + fromJobs(" where recurringJobId = :recurringJobId AND scheduledAt IS NOT NULL"))
                     .map(rs -> rs.asInstant("latest"))
                     .filter(Objects::nonNull)
                     .findFirst().orElse(null);
         }
         return with(FIELD_RECURRING_JOB_ID, recurringJobId)
-                .select("MAX(scheduledAt) as latest from jobrunr_jobs where recurringJobId = :recurringJobId AND scheduledAt IS NOT NULL AND state IN (" + stream(states).map(stateName -> "'" + stateName.name() + "'").collect(joining(",")) + ")")
+                .select("MAX(scheduledAt) as latest " + fromJobs(" where recurringJobId = :recurringJobId AND scheduledAt IS NOT NULL AND state IN (" + stream(states).map(stateName -> "'" + stateName.name() + "'").collect(joining(",")) + ")", states))
                 .map(rs -> rs.asInstant("latest"))
                 .filter(Objects::nonNull)
                 .findFirst().orElse(null);
     }
 
+    public Map<String, Instant> getRecurringJobsLatestScheduledInstants(List<String> recurringJobIds, StateName... states) {
+        String statesClause = areAllStateNames(states) ? "" : " AND state IN (" + stream(states).map(stateName -> "'" + stateName.name() + "'").collect(joining(",")) + ")";
+        Map<String, Instant> latestScheduledInstants = new HashMap<>();
+        // why: some databases (e.g. Oracle) do not support more than 1000 elements in an IN clause
+        for (int i = 0; i < recurringJobIds.size(); i += 1000) {
+            List<String> recurringJobIdsChunk = recurringJobIds.subList(i, Math.min(i + 1000, recurringJobIds.size()));
+            select("recurringJobId, MAX(scheduledAt) as latest " + fromJobs(" where recurringJobId IN (" + withInClause(FIELD_RECURRING_JOB_ID, recurringJobIdsChunk) + ") AND scheduledAt IS NOT NULL" + statesClause, states) + " group by recurringJobId")
+                    .forEach(rs -> {
+                        Instant latest = rs.asInstant("latest");
+                        if (latest != null) latestScheduledInstants.put(rs.asString(FIELD_RECURRING_JOB_ID), latest);
+                    });
+        }
+        return latestScheduledInstants;
+    }
+
     public int deletePermanently(UUID... ids) throws SQLException {
-        return delete("from jobrunr_jobs where id in (" + stream(ids).map(uuid -> "'" + uuid.toString() + "'").collect(joining(",")) + ")");
+        Map<UUID, StateName> previousStates = selectPreviousStatesForJobStateCounters(asList(ids));
+        int amountDeleted = delete("from jobrunr_jobs where id in (" + withInClause(FIELD_ID, asList(ids)) + ")");
+        if (jobsArchiveEnabled) {
+            amountDeleted += delete("from jobrunr_jobs_archive where id in (" + withInClause(FIELD_ID, asList(ids)) + ")");
+        }
+        deleteJobStates(asList(ids));
+        updateJobStateCounters(previousStates.values().stream().collect(toMap(identity(), state -> -1L, Long::sum)));
+        return amountDeleted;
     }
 
-    public int deleteJobsByStateAndUpdatedBefore(StateName state, Instant updatedBefore) throws SQLException {
-        return withState(state)
+    /**
+     * Deletes at most the given amount of jobs with the given state that were updated before the given instant, oldest first. The jobs are deleted
+     * by their primary key so that each statement only touches a bounded amount of rows and index entries, keeping the locks short.
+     *
+     * @param state         the state of the jobs to delete
+     * @param updatedBefore the instant before which the jobs must have been updated
+     * @param limit         the maximum amount of jobs to delete, at most 1000 as some databases (e.g. Oracle) do not support more elements in an IN clause
+     * @return the amount of deleted jobs
+     */
+    public int deleteJobsByStateAndUpdatedBefore(StateName state, Instant updatedBefore, int limit) throws SQLException {
+        List<UUID> jobIds = withState(state)
                 .withUpdatedBefore(updatedBefore)
-                .delete("from jobrunr_jobs where state = :state AND updatedAt <= :updatedBefore");
+                .select("id " + fromJobs(" where state = :state AND updatedAt <= :updatedBefore", state), pageRequestMapper.map(ascOnUpdatedAt(limit)))
+                .map(resultSet -> resultSet.asUUID(FIELD_ID))
+                .collect(toList());
+        if (jobIds.isEmpty()) return 0;
+
+        deleteJobStates(jobIds);
+        int amountDeleted = withState(state)
+                .delete("from jobrunr_jobs where state = :state and id in (" + withInClause(FIELD_ID, jobIds) + ")");
+        if (jobsArchiveEnabled && ARCHIVABLE_STATES.contains(state)) {
+            amountDeleted += withState(state)
+                    .delete("from jobrunr_jobs_archive where state = :state and id in (" + withInClause(FIELD_ID, jobIds) + ")");
+        }
+        updateJobStateCounters(singletonMap(state, (long) -amountDeleted));
+        return amountDeleted;
+    }
+
+    /**
+     * Moves at most the given amount of SUCCEEDED jobs to the DELETED state using a set-based update of only the state, version and updatedAt
+     * columns: the jobAsJson is left untouched and the {@link org.jobrunr.jobs.states.DeletedState} is added when the job is read again.
+     *
+     * @param updatedBefore the instant before which the SUCCEEDED jobs must have been updated
+     * @param limit         the maximum amount of jobs to delete
+     * @return the amount of jobs that were moved to the DELETED state
+     */
+    public int deleteSucceededJobs(Instant updatedBefore, int limit) throws SQLException {
+        List<UUID> jobIds = withState(SUCCEEDED)
+                .withUpdatedBefore(updatedBefore)
+                .select("id " + fromJobs(" where state = :state AND updatedAt <= :updatedBefore", SUCCEEDED), pageRequestMapper.map(ascOnUpdatedAt(limit)))
+                .map(resultSet -> resultSet.asUUID(FIELD_ID))
+                .collect(toList());
+
+        int amountDeleted = 0;
+        Instant updatedAt = Instant.now();
+        // why: some databases (e.g. Oracle) do not support more than 1000 elements in an IN clause
+        for (int i = 0; i < jobIds.size(); i += 1000) {
+            List<UUID> jobIdsChunk = jobIds.subList(i, Math.min(i + 1000, jobIds.size()));
+            amountDeleted += moveSucceededJobsToDeletedState("jobrunr_jobs", jobIdsChunk, updatedAt);
+            if (jobsArchiveEnabled) {
+                amountDeleted += moveSucceededJobsToDeletedState("jobrunr_jobs_archive", jobIdsChunk, updatedAt);
+            }
+        }
+        updateJobStateCounters(SUCCEEDED, DELETED, amountDeleted);
+        return amountDeleted;
+    }
+
+    /**
+     * Moves at most the given amount of jobs in the given final state that were updated before the given instant, oldest first, from the jobrunr_jobs
+     * table to the jobrunr_jobs_archive table, keeping the jobrunr_jobs table and its indexes small.
+     *
+     * @param state         the final state (SUCCEEDED, FAILED or DELETED) of the jobs to archive
+     * @param updatedBefore the instant before which the jobs must have been updated
+     * @param limit         the maximum amount of jobs to archive
+     * @return the amount of archived jobs
+     */
+    public int archiveJobs(StateName state, Instant updatedBefore, int limit) throws SQLException {
+        if (!ARCHIVABLE_STATES.contains(state)) throw new IllegalArgumentException("Only jobs in a final state (SUCCEEDED, FAILED or DELETED) can be archived.");
+
+        List<UUID> jobIds = withState(state)
+                .withUpdatedBefore(updatedBefore)
+                .select("id from jobrunr_jobs where state = :state AND updatedAt <= :updatedBefore", pageRequestMapper.map(ascOnUpdatedAt(limit)) + dialect.selectForUpdateSkipLocked())
+                .map(resultSet -> resultSet.asUUID(FIELD_ID))
+                .collect(toList());
+        if (jobIds.isEmpty()) return 0;
+
+        int amountArchived = 0;
+        int amountDeleted = 0;
+        // why: some databases (e.g. Oracle) do not support more than 1000 elements in an IN clause
+        for (int i = 0; i < jobIds.size(); i += 1000) {
+            List<UUID> jobIdsChunk = jobIds.subList(i, Math.min(i + 1000, jobIds.size()));
+            amountArchived += withState(state)
+                    .insertRows("into jobrunr_jobs_archive (" + JOB_COLUMNS + ") select " + JOB_COLUMNS + " from jobrunr_jobs where state = :state and id in (" + withInClause(FIELD_ID, jobIdsChunk) + ")");
+            amountDeleted += withState(state)
+                    .delete("from jobrunr_jobs where state = :state and id in (" + withInClause(FIELD_ID, jobIdsChunk) + ")");
+        }
+        if (amountArchived != amountDeleted) {
+            // why: a job was updated concurrently between copying and deleting it, the transaction must be rolled back to not archive a stale copy
+            throw concurrentDatabaseModificationException(jobIds, amountDeleted);
+        }
+        return amountArchived;
     }
 
     void insertOneJob(Job jobToSave) throws SQLException {
@@ -210,6 +437,8 @@ public class JobTable extends Sql<Job> {
     void updateOneJob(Job jobToSave) throws SQLException {
         try {
             update(jobToSave, UPDATE_STATEMENT);
+        } catch (ConcurrentSqlModificationException e) {
+            if (!jobsArchiveEnabled || !updateArchivedJob(jobToSave)) throw e;
         } catch (SQLException e) {
             if (dialect.isUniqueConstraintException(e)) {
                 throw concurrentDatabaseModificationException(jobToSave, 0);
@@ -218,12 +447,197 @@ public class JobTable extends Sql<Job> {
         }
     }
 
-    void insertAllJobs(List<Job> jobs) throws SQLException {
-        insertAll(jobs, INSERT_STATEMENT);
+    protected void insertAllJobs(List<Job> jobs) throws SQLException {
+        insertAllUsingMultiRowInserts(jobs, INSERT_STATEMENT);
     }
 
     void updateAllJobs(List<Job> jobs) throws SQLException {
-        updateAll(jobs, UPDATE_STATEMENT);
+        if (!jobsArchiveEnabled) {
+            updateAll(jobs, UPDATE_STATEMENT);
+            return;
+        }
+
+        Set<UUID> archivedJobIds = selectArchivedJobIds(jobs);
+        List<Job> notUpdatedJobs = new ArrayList<>();
+        List<Job> notArchivedJobs = new ArrayList<>();
+        for (Job job : jobs) {
+            if (!archivedJobIds.contains(job.getId())) notArchivedJobs.add(job);
+            else if (!updateArchivedJob(job)) notUpdatedJobs.add(job);
+        }
+        try {
+            if (!notArchivedJobs.isEmpty()) updateAll(notArchivedJobs, UPDATE_STATEMENT);
+        } catch (ConcurrentSqlModificationException e) {
+            // why: the jobs may have been archived concurrently
+            List<Job> archivedOrConcurrentUpdatedJobs = cast(e.getFailedItems());
+            for (Job job : archivedOrConcurrentUpdatedJobs) {
+                if (!updateArchivedJob(job)) notUpdatedJobs.add(job);
+            }
+        }
+        if (!notUpdatedJobs.isEmpty()) throw concurrentDatabaseModificationException(notUpdatedJobs, new int[notUpdatedJobs.size()]);
+    }
+
+    /**
+     * Returns the ids of the given jobs that are stored in the jobrunr_jobs_archive table. Only jobs that were in a final state before
+     * their latest state change can be archived, so only those are looked up.
+     */
+    private Set<UUID> selectArchivedJobIds(List<Job> jobs) {
+        List<UUID> candidateIds = jobs.stream()
+                .filter(job -> job.getJobState(-2) != null && ARCHIVABLE_STATES.contains(job.getJobState(-2).getName()))
+                .map(Job::getId)
+                .collect(toList());
+
+        Set<UUID> archivedJobIds = new HashSet<>();
+        // why: some databases (e.g. Oracle) do not support more than 1000 elements in an IN clause
+        for (int i = 0; i < candidateIds.size(); i += 1000) {
+            List<UUID> ids = candidateIds.subList(i, Math.min(i + 1000, candidateIds.size()));
+            select("id from jobrunr_jobs_archive where id in (" + withInClause(FIELD_ID, ids) + ")")
+                    .forEach(resultSet -> archivedJobIds.add(resultSet.asUUID(FIELD_ID)));
+        }
+        return archivedJobIds;
+    }
+
+    /**
+     * Updates the given job in the jobrunr_jobs_archive table if it is still in a final state. Otherwise (e.g. the job is requeued via the dashboard),
+     * the archived job is moved back to the jobrunr_jobs table.
+     *
+     * @param job the job to update
+     * @return false if the job was not archived or was concurrently modified
+     */
+    private boolean updateArchivedJob(Job job) throws SQLException {
+        if (ARCHIVABLE_STATES.contains(job.getState())) {
+            try {
+                update(job, UPDATE_ARCHIVED_JOB_STATEMENT);
+                return true;
+            } catch (ConcurrentSqlModificationException e) {
+                return false;
+            }
+        }
+        int amountDeleted = withId(job.getId())
+                .with("previousVersion", job.getVersion() - 1)
+                .delete("from jobrunr_jobs_archive where id = :id and version = :previousVersion");
+        if (amountDeleted == 0) return false;
+        insert(job, INSERT_STATEMENT);
+        return true;
+    }
+
+    private String withIdAndVersionConditions(List<Job> jobs) {
+        StringBuilder conditions = new StringBuilder();
+        for (int i = 0; i < paddedSize(jobs.size()); i++) {
+            if (i > 0) conditions.append(" or ");
+            Job job = jobs.get(Math.min(i, jobs.size() - 1));
+            with(FIELD_ID + i, job.getId());
+            with(FIELD_VERSION + i, job.getVersion());
+            conditions.append("(id = :").append(FIELD_ID).append(i).append(" and version = :").append(FIELD_VERSION).append(i).append(')');
+        }
+        return conditions.toString();
+    }
+
+    private int moveSucceededJobsToDeletedState(String tableName, List<UUID> jobIds, Instant updatedAt) throws SQLException {
+        return withState(SUCCEEDED)
+                .with("deletedState", DELETED)
+                .with(FIELD_UPDATED_AT, updatedAt)
+                .updateRows(tableName + " set state = :deletedState, version = version + 1, updatedAt = :updatedAt where state = :state and id in (" + withInClause(FIELD_ID, jobIds) + ")");
+    }
+
+    /**
+     * Returns the from clause to select the jobs matching the given where clause. If the jobs archive is enabled and any of the given states
+     * (or all states if none are given) is a final state, the jobs are selected from both the jobrunr_jobs and the jobrunr_jobs_archive table.
+     */
+    private String fromJobs(String whereClause, StateName... states) {
+        if (!jobsArchiveEnabled || (states.length > 0 && stream(states).noneMatch(ARCHIVABLE_STATES::contains))) {
+            return "from jobrunr_jobs" + whereClause;
+        }
+        return "from (select " + JOB_COLUMNS + " from jobrunr_jobs" + whereClause + " union all select " + JOB_COLUMNS + " from jobrunr_jobs_archive" + whereClause + ") j";
+    }
+
+    private long estimateJobs(StateName state) throws SQLException {
+        if (jobStateCountersTable != null) return jobStateCountersTable.getAmountsPerState().getOrDefault(state, 0L);
+        // why: the state is inlined so the database can use its statistics for that specific state
+        return selectEstimatedCount(fromJobs(" where state = '" + state.name() + "'", state));
+    }
+
+    /**
+     * Returns the state of the given jobs before they are saved. For jobs that were read or saved by this table, the stored state is already
+     * known. It is only selected for the other jobs.
+     */
+    private Map<UUID, StateName> getPreviousStatesForJobStateCounters(List<Job> jobs) {
+        if (jobStateCountersTable == null) return emptyMap();
+
+        Map<UUID, StateName> previousStates = new HashMap<>();
+        List<Job> jobsWithUnknownStoredState = new ArrayList<>();
+        for (Job job : jobs) {
+            if (job.getStoredState() != null) previousStates.put(job.getId(), job.getStoredState());
+            else jobsWithUnknownStoredState.add(job);
+        }
+        previousStates.putAll(selectPreviousStatesForJobStateCounters(jobsWithUnknownStoredState));
+        return previousStates;
+    }
+
+    private Map<UUID, StateName> selectPreviousStatesForJobStateCounters(List<?> jobsOrIds) {
+        if (jobStateCountersTable == null) return emptyMap();
+
+        Map<UUID, StateName> previousStates = new HashMap<>();
+        // why: some databases (e.g. Oracle) do not support more than 1000 elements in an IN clause
+        for (int i = 0; i < jobsOrIds.size(); i += 1000) {
+            List<Object> ids = jobsOrIds.subList(i, Math.min(i + 1000, jobsOrIds.size())).stream()
+                    .map(jobOrId -> jobOrId instanceof Job ? ((Job) jobOrId).getId() : jobOrId)
+                    .collect(toList());
+            select("id, state " + fromJobs(" where id in (" + withInClause(FIELD_ID, ids) + ")"))
+                    .forEach(resultSet -> previousStates.put(resultSet.asUUID(FIELD_ID), StateName.valueOf(resultSet.asString(FIELD_STATE))));
+        }
+        return previousStates;
+    }
+
+    private void updateJobStateCounters(Map<UUID, StateName> previousStates, List<Job> savedJobs) throws SQLException {
+        if (jobStateCountersTable == null) return;
+
+        Map<StateName, Long> amountsPerState = new EnumMap<>(StateName.class);
+        Set<UUID> savedJobIds = savedJobs.stream().map(Job::getId).collect(Collectors.toSet());
+        previousStates.entrySet().stream()
+                .filter(previousState -> savedJobIds.contains(previousState.getKey()))
+                .forEach(previousState -> amountsPerState.merge(previousState.getValue(), -1L, Long::sum));
+        savedJobs.forEach(job -> amountsPerState.merge(job.getState(), 1L, Long::sum));
+        updateJobStateCounters(amountsPerState);
+    }
+
+    private void updateJobStateCounters(StateName fromState, StateName toState, long amount) throws SQLException {
+        Map<StateName, Long> amountsPerState = new EnumMap<>(StateName.class);
+        amountsPerState.put(fromState, -amount);
+        amountsPerState.put(toState, amount);
+        updateJobStateCounters(amountsPerState);
+    }
+
+    private void updateJobStateCounters(Map<StateName, Long> amountsPerState) throws SQLException {
+        if (jobStateCountersTable == null || amountsPerState.isEmpty()) return;
+        jobStateCountersTable.increment(amountsPerState);
+    }
+
+    private void saveJobStates(boolean areNewJobs, List<Job> savedJobs) throws SQLException {
+        if (areNewJobs) {
+            insertJobStates(savedJobs);
+        } else {
+            appendNewJobStates(savedJobs);
+        }
+    }
+
+    private void insertJobStates(List<Job> newJobs) throws SQLException {
+        if (jobStatesTable == null) return;
+        jobStatesTable.insertJobStates(newJobs);
+    }
+
+    private void appendNewJobStates(List<Job> jobs) throws SQLException {
+        if (jobStatesTable == null) return;
+        jobStatesTable.appendNewJobStates(jobs);
+    }
+
+    private void deleteJobStates(List<UUID> jobIds) throws SQLException {
+        if (jobStatesTable == null) return;
+        jobStatesTable.deleteJobStates(jobIds);
+    }
+
+    private List<Job> withJobHistories(List<Job> jobs) {
+        if (jobStatesTable == null) return jobs;
+        return jobStatesTable.withJobHistories(jobs);
     }
 
     private Stream<Job> selectJobs(String statement) {
@@ -232,10 +646,17 @@ public class JobTable extends Sql<Job> {
 
     private Stream<Job> selectJobs(String statement, String filter) {
         final Stream<SqlResultSet> select = super.select(statement, filter);
-        return select.map(this::toJob);
+        if (jobStatesTable == null) return select.map(this::toJob);
+        // why: the job histories of all selected jobs are loaded in one round-trip once the jobs themselves are read
+        return withJobHistories(select.map(this::toJob).collect(toList())).stream();
     }
 
     private Job toJob(SqlResultSet resultSet) {
-        return jobMapper.deserializeJob(resultSet.asString("jobAsJson"));
+        Job job = jobMapper.deserializeJob(resultSet.asReader("jobAsJson"));
+        if (!resultSet.hasColumn(FIELD_STATE)) return job;
+        StateName storedState = StateName.valueOf(resultSet.asString(FIELD_STATE));
+        Job jobWithStateOfStoredJob = jobMapper.withStateOfStoredJob(job, storedState, resultSet.asInt(FIELD_VERSION), resultSet.asInstant(FIELD_UPDATED_AT));
+        jobWithStateOfStoredJob.setStoredState(storedState);
+        return jobWithStateOfStoredJob;
     }
 }
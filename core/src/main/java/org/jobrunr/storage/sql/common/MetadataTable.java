@@ -83,6 +83,19 @@ public class MetadataTable extends Sql<JobRunrMetadata> {
                 .update("jobrunr_metadata set value = cast(round((cast(cast( value as char(10) ) as decimal(10, 0)) + :amount), 0) as char(10)) where id = :id");
     }
 
+    public long incrementAndGetCounter(String id, int amount) throws SQLException {
+        incrementCounter(id, amount);
+        return getCounter(id);
+    }
+
+    public long getCounter(String id) {
+        return withId(id)
+                .select("* from jobrunr_metadata where id = :id")
+                .map(resultSet -> Long.parseLong(resultSet.asString(FIELD_VALUE).trim()))
+                .findFirst()
+                .orElse(0L);
+    }
+
     public int deleteByName(String name) throws SQLException {
         return with(FIELD_NAME, name)
                 .delete("from jobrunr_metadata where name = :name");
@@ -14,6 +14,7 @@ import static java.util.stream.Collectors.toList;
 import static org.jobrunr.storage.StorageProviderUtils.RecurringJobs.FIELD_CREATED_AT;
 import static org.jobrunr.storage.StorageProviderUtils.RecurringJobs.FIELD_ID;
 import static org.jobrunr.storage.StorageProviderUtils.RecurringJobs.FIELD_JOB_AS_JSON;
+import static org.jobrunr.storage.StorageProviderUtils.RecurringJobs.FIELD_VERSION;
 
 public class RecurringJobTable extends Sql<RecurringJob> {
 
@@ -32,13 +33,15 @@ public class RecurringJobTable extends Sql<RecurringJob> {
         return this;
     }
 
-    public RecurringJob save(RecurringJob recurringJob) throws SQLException {
+    public RecurringJob save(RecurringJob recurringJob, long recurringJobsVersion) throws SQLException {
         withId(recurringJob.getId());
 
         if (selectExists("from jobrunr_recurring_jobs where id = :id")) {
-            update(recurringJob, "jobrunr_recurring_jobs SET jobAsJson = :jobAsJson, createdAt = :createdAt WHERE id = :id");
+            with(FIELD_VERSION, recurringJobsVersion)
+                    .update(recurringJob, "jobrunr_recurring_jobs SET version = :version, jobAsJson = :jobAsJson, createdAt = :createdAt WHERE id = :id");
         } else {
-            insert(recurringJob, "into jobrunr_recurring_jobs values(:id, 1, :jobAsJson, :createdAt)");
+            with(FIELD_VERSION, recurringJobsVersion)
+                    .insert(recurringJob, "into jobrunr_recurring_jobs values(:id, :version, :jobAsJson, :createdAt)");
         }
         return recurringJob;
     }
@@ -49,6 +52,13 @@ public class RecurringJobTable extends Sql<RecurringJob> {
                 .collect(toList());
     }
 
+    public List<RecurringJob> selectAllChangedSince(long recurringJobsVersion) {
+        return with(FIELD_VERSION, recurringJobsVersion)
+                .select("jobAsJson from jobrunr_recurring_jobs where version > :version")
+                .map(this::toRecurringJob)
+                .collect(toList());
+    }
+
     public long count() throws SQLException {
         return selectCount("from jobrunr_recurring_jobs");
     }
@@ -0,0 +1,46 @@
+package org.jobrunr.storage.sql.common;
+
+import org.jobrunr.storage.sql.common.db.Dialect;
+import org.jobrunr.storage.sql.common.db.Sql;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+import static org.jobrunr.storage.StorageProviderUtils.RecurringJobs.FIELD_ID;
+import static org.jobrunr.storage.StorageProviderUtils.RecurringJobs.FIELD_VERSION;
+
+/**
+ * Keeps a tombstone with the recurring jobs version for each deleted {@link org.jobrunr.jobs.RecurringJob} so that the deletes can be found
+ * by {@link DefaultSqlStorageProvider#getRecurringJobsChangedSince(org.jobrunr.storage.RecurringJobsResult)}.
+ */
+public class RecurringJobTombstonesTable extends Sql<Object> {
+
+    public RecurringJobTombstonesTable(Connection connection, Dialect dialect, String tablePrefix) {
+        this
+                .using(connection, dialect, tablePrefix, "jobrunr_recurring_job_tombstones");
+    }
+
+    public void save(String recurringJobId, long version) throws SQLException {
+        deleteById(recurringJobId);
+        this
+                .with(FIELD_ID, recurringJobId)
+                .with(FIELD_VERSION, version)
+                .insert("into jobrunr_recurring_job_tombstones values(:id, :version)");
+    }
+
+    public void deleteById(String recurringJobId) throws SQLException {
+        this
+                .with(FIELD_ID, recurringJobId)
+                .delete("from jobrunr_recurring_job_tombstones where id = :id");
+    }
+
+    public List<String> selectRecurringJobIdsDeletedSince(long version) {
+        return with(FIELD_VERSION, version)
+                .select("id from jobrunr_recurring_job_tombstones where version > :version")
+                // why: the id column is an NCHAR column which is padded with spaces by some databases
+                .map(resultSet -> resultSet.asString(FIELD_ID).trim())
+                .collect(toList());
+    }
+}
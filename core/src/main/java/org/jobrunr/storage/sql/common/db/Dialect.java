@@ -1,6 +1,7 @@
 package org.jobrunr.storage.sql.common.db;
 
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.sql.Types;
@@ -12,6 +13,7 @@ import java.util.List;
 import java.util.UUID;
 
 import static java.util.TimeZone.getTimeZone;
+import static org.jobrunr.utils.reflection.ReflectionUtils.autobox;
 
 public interface Dialect {
 
@@ -23,6 +25,69 @@ public interface Dialect {
         return "";
     }
 
+    /**
+     * Whether the database supports inserting multiple rows in a single statement (INSERT ... VALUES (...), (...)).
+     *
+     * @return true if multi-row inserts are supported
+     */
+    default boolean supportsMultiRowInsert() {
+        return true;
+    }
+
+    /**
+     * Whether a failing statement aborts the complete transaction (e.g. PostgreSQL) instead of only the statement itself. If so, statements
+     * that may fail within a transaction that is committed afterwards (e.g. multi-row inserts of jobs that may already exist) are executed
+     * within a savepoint.
+     *
+     * @return true if a failing statement aborts the transaction
+     */
+    default boolean abortsTransactionOnError() {
+        return false;
+    }
+
+    /**
+     * The maximum amount of parameters to use in a single statement, which determines the amount of rows per multi-row insert. The default fits
+     * all supported databases (e.g. SQLite supports at most 999 parameters and SQL Server at most 2100).
+     *
+     * @return the maximum amount of parameters in a single statement
+     */
+    default int maxParametersPerStatement() {
+        return 900;
+    }
+
+    /**
+     * Creates a statement that makes the database estimate the amount of rows returned by the given select statement without executing it
+     * (e.g. using EXPLAIN).
+     *
+     * @param selectStatement the complete select statement
+     * @return the statement of which the result is read by {@link #getEstimatedRowCount(ResultSet)} or null if the database cannot estimate
+     * the amount of rows
+     */
+    default String estimateRowCount(String selectStatement) {
+        return null;
+    }
+
+    /**
+     * Returns the estimated amount of rows from the result of the statement created by {@link #estimateRowCount(String)}.
+     *
+     * @param resultSet the result of the statement created by {@link #estimateRowCount(String)}
+     * @return the estimated amount of rows or -1 if the database cannot estimate the amount of rows
+     * @throws SQLException if the result cannot be read
+     */
+    default long getEstimatedRowCount(ResultSet resultSet) throws SQLException {
+        return -1;
+    }
+
+    /**
+     * Returns the Dialect to use once the id columns are migrated to the native UUID column type of the database (see
+     * {@link org.jobrunr.storage.sql.common.DefaultSqlStorageProvider#setNativeUUIDsEnabled(boolean)}).
+     *
+     * @return the Dialect using the native UUID column type or this Dialect if the database has no native UUID column type
+     */
+    default Dialect withNativeUUIDs() {
+        return this;
+    }
+
     default String escape(String toEscape) {
         return toEscape;
     }
@@ -96,6 +161,10 @@ public interface Dialect {
         ps.setNull(i, Types.NULL);
     }
 
+    default UUID getUUID(ResultSet rs, int columnIndex) throws SQLException {
+        return autobox(rs.getObject(columnIndex), UUID.class);
+    }
+
     default boolean isUniqueConstraintException(SQLException e) {
         String lowerCaseMessage = e.getMessage().toLowerCase();
         return e.getErrorCode() == -803 || lowerCaseMessage.contains("duplicate") || lowerCaseMessage.contains("primary key") || lowerCaseMessage.contains("unique constraint");
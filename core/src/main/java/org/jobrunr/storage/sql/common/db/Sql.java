@@ -2,24 +2,35 @@ package org.jobrunr.storage.sql.common.db;
 
 import org.jobrunr.utils.annotations.VisibleFor;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Savepoint;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import static java.util.Arrays.stream;
+import static java.util.Collections.nCopies;
+import static java.util.Collections.singletonList;
 import static org.jobrunr.JobRunrException.shouldNotHappenException;
 import static org.jobrunr.storage.sql.common.db.ConcurrentSqlModificationException.concurrentDatabaseModificationException;
-import static org.jobrunr.utils.reflection.ReflectionUtils.getValueFromFieldOrProperty;
+import static org.jobrunr.utils.StringUtils.capitalize;
+import static org.jobrunr.utils.reflection.ReflectionUtils.findField;
+import static org.jobrunr.utils.reflection.ReflectionUtils.findMethod;
+import static org.jobrunr.utils.reflection.ReflectionUtils.getValueFromField;
+import static org.jobrunr.utils.reflection.ReflectionUtils.getValueFromGetMethod;
 import static org.jobrunr.utils.reflection.ReflectionUtils.objectContainsFieldOrProperty;
 
 public class Sql<T> {
@@ -33,7 +44,7 @@ public class Sql<T> {
     protected Dialect dialect;
     private String tablePrefix;
 
-    private static final Map<Integer, SqlStatement> parsedStatementCache = new ConcurrentHashMap<>();
+    private static final Map<String, SqlStatement> parsedStatementCache = new ConcurrentHashMap<>();
     private String tableName;
     private Connection connection;
 
@@ -69,12 +80,45 @@ public class Sql<T> {
         return this;
     }
 
+    /**
+     * Binds each of the given values as a separate parameter of the next statement and returns their placeholders, to be used in an IN clause.
+     * Contrary to inlining the values, they are bound by the {@link Dialect} (e.g. as native UUIDs) and the parsed statement can be reused.
+     * The amount of placeholders is padded (see {@link #paddedSize(int)}) by repeating the last value, so that only a few statements are
+     * parsed and cached whatever the amount of values.
+     *
+     * @param name   the prefix of the names of the parameters
+     * @param values the values to bind
+     * @return the comma separated placeholders of the parameters (e.g. <code>:id0,:id1,:id2</code>)
+     */
+    public String withInClause(String name, List<?> values) {
+        StringBuilder placeholders = new StringBuilder();
+        for (int i = 0; i < paddedSize(values.size()); i++) {
+            if (i > 0) placeholders.append(',');
+            params.put(name + i, values.get(Math.min(i, values.size() - 1)));
+            placeholders.append(':').append(name).append(i);
+        }
+        return placeholders.toString();
+    }
+
+    /**
+     * Returns the amount of parameters to use for the given amount of values: 1, 10, 100 or a multiple of 1000.
+     *
+     * @param size the amount of values
+     * @return the padded amount of values
+     */
+    protected static int paddedSize(int size) {
+        if (size <= 1) return size;
+        if (size <= 10) return 10;
+        if (size <= 100) return 100;
+        return (size + 999) / 1000 * 1000;
+    }
+
     public Stream<SqlResultSet> select(String statement) {
         return select(statement, "");
     }
 
     public Stream<SqlResultSet> select(String statement, String suffix) {
-        SqlSpliterator sqlSpliterator = new SqlSpliterator(() -> prepareStatementWithParams("select " + statement + suffix));
+        SqlSpliterator sqlSpliterator = new SqlSpliterator(dialect, () -> prepareStatementWithParams("select " + statement + suffix));
         return StreamSupport.stream(sqlSpliterator, false);
     }
 
@@ -85,6 +129,22 @@ public class Sql<T> {
         }
     }
 
+    /**
+     * Returns the amount of rows the database estimates the given statement selects, without executing it.
+     *
+     * @param statement the statement (without SELECT) of which to estimate the amount of rows
+     * @return the estimated amount of rows or -1 if the {@link Dialect#estimateRowCount(String) Dialect cannot estimate the amount of rows}
+     * @throws SQLException if the estimate cannot be retrieved
+     */
+    public long selectEstimatedCount(String statement) throws SQLException {
+        String estimateStatement = dialect.estimateRowCount("select 1 " + statement);
+        if (estimateStatement == null) return -1;
+
+        try (PreparedStatement ps = prepareStatementWithParams(estimateStatement); ResultSet estimateResultSet = ps.executeQuery()) {
+            return dialect.getEstimatedRowCount(estimateResultSet);
+        }
+    }
+
     public long selectSum(String column) throws SQLException {
         try (PreparedStatement ps = prepareStatementWithParams("select sum(" + column + ") from " + tableName); ResultSet sumResultSet = ps.executeQuery()) {
             sumResultSet.next();
@@ -112,6 +172,31 @@ public class Sql<T> {
         insertOrUpdate(item, UPDATE + statement);
     }
 
+    /**
+     * Updates all rows matching the given statement. Contrary to {@link #update(String)}, it is not seen as a concurrent modification if no rows were updated.
+     *
+     * @param statement the update statement without the update keyword
+     * @return the amount of updated rows
+     */
+    public int updateRows(String statement) throws SQLException {
+        try (PreparedStatement ps = prepareStatementWithParams(UPDATE + statement)) {
+            return ps.executeUpdate();
+        }
+    }
+
+    /**
+     * Inserts all rows selected by the given statement (e.g. an INSERT ... SELECT). Contrary to {@link #insert(String)}, it is not seen as a
+     * concurrent modification if no rows were inserted.
+     *
+     * @param statement the insert statement without the insert keyword
+     * @return the amount of inserted rows
+     */
+    public int insertRows(String statement) throws SQLException {
+        try (PreparedStatement ps = prepareStatementWithParams(INSERT + statement)) {
+            return ps.executeUpdate();
+        }
+    }
+
     public int delete(String statement) throws SQLException {
         try (PreparedStatement ps = prepareStatementWithParams(DELETE + statement)) {
             return ps.executeUpdate();
@@ -142,6 +227,85 @@ public class Sql<T> {
         }
     }
 
+    /**
+     * Inserts all items using multi-row inserts (INSERT ... VALUES (...), (...)) of as many rows as the {@link Dialect} allows, which is much
+     * faster than a batch of single row inserts on most databases. Falls back to {@link #insertAll(List, String)} if the {@link Dialect}
+     * does not support multi-row inserts.
+     * <p>
+     * Only full multi-row inserts and multi-row inserts of a power of two rows are used for the remaining rows, so that only a few statements
+     * are parsed and cached whatever the amount of items.
+     * <p>
+     * If a multi-row insert fails because one of its rows already exists, its rows are inserted one by one so that only the rows that already
+     * exist are reported in the resulting {@link ConcurrentSqlModificationException}. All other rows are inserted and the transaction can
+     * still be committed.
+     *
+     * @param batchCollection the items to insert
+     * @param statement       the insert statement for a single row without the insert keyword, ending with its VALUES clause
+     */
+    public void insertAllUsingMultiRowInserts(List<T> batchCollection, String statement) throws SQLException {
+        if (batchCollection.isEmpty()) return;
+        if (!dialect.supportsMultiRowInsert()) {
+            insertAll(batchCollection, statement);
+            return;
+        }
+
+        try {
+            int valuesIndex = statement.toLowerCase().lastIndexOf(" values ");
+            String intoClause = statement.substring(0, valuesIndex) + " values ";
+            String rowValues = statement.substring(valuesIndex + " values ".length()).trim();
+            SqlStatement rowStatement = parse(INSERT + statement);
+            List<Function<T, ?>> paramValueResolvers = toParamValueResolvers(rowStatement, batchCollection.get(0));
+            int paramsPerRow = paramValueResolvers.size();
+            int rowsPerStatement = Math.max(1, dialect.maxParametersPerStatement() / Math.max(1, paramsPerRow));
+            int[] result = new int[batchCollection.size()];
+            for (int i = 0; i < batchCollection.size(); ) {
+                int remainingRows = batchCollection.size() - i;
+                List<T> rows = batchCollection.subList(i, i + (remainingRows >= rowsPerStatement ? rowsPerStatement : Integer.highestOneBit(remainingRows)));
+                SqlStatement sqlStatement = parse(INSERT + intoClause + String.join(", ", nCopies(rows.size(), rowValues)));
+                if (insertRowsWithinSavepoint(sqlStatement, paramValueResolvers, rows)) {
+                    Arrays.fill(result, i, i + rows.size(), 1);
+                } else {
+                    for (int j = 0; j < rows.size(); j++) {
+                        result[i + j] = insertRowsWithinSavepoint(rowStatement, paramValueResolvers, singletonList(rows.get(j))) ? 1 : 0;
+                    }
+                }
+                i += rows.size();
+            }
+            if (stream(result).anyMatch(i -> i < 1)) {
+                throw concurrentDatabaseModificationException(batchCollection, result);
+            }
+        } finally {
+            params.clear();
+        }
+    }
+
+    /**
+     * Inserts the given rows using the given (multi-row) insert statement. If the statement fails because one of the rows already exists, the
+     * statement is rolled back to a savepoint if the {@link Dialect#abortsTransactionOnError() transaction would otherwise be aborted}.
+     *
+     * @return true if all rows are inserted, false if none of them is inserted
+     */
+    private boolean insertRowsWithinSavepoint(SqlStatement sqlStatement, List<Function<T, ?>> paramValueResolvers, List<T> rows) throws SQLException {
+        Savepoint savepoint = dialect.abortsTransactionOnError() && !connection.getAutoCommit() ? connection.setSavepoint() : null;
+        int paramsPerRow = paramValueResolvers.size();
+        try (PreparedStatement ps = prepareStatement(sqlStatement)) {
+            List<String> paramNames = sqlStatement.getParamNames();
+            for (int j = 0; j < paramNames.size(); j++) {
+                dialect.setParam(ps, j + 1, paramNames.get(j), paramValueResolvers.get(j % paramsPerRow).apply(rows.get(j / paramsPerRow)));
+            }
+            int inserted = ps.executeUpdate();
+            if (inserted != rows.size()) {
+                throw shouldNotHappenException("Could not insert all objects - inserted " + inserted + " rows instead of " + rows.size());
+            }
+            if (savepoint != null) connection.releaseSavepoint(savepoint);
+            return true;
+        } catch (SQLException e) {
+            if (!dialect.isUniqueConstraintException(e)) throw e;
+            if (savepoint != null) connection.rollback(savepoint);
+            return false;
+        }
+    }
+
     public void updateAll(List<T> batchCollection, String statement) throws SQLException {
         int[] result = insertOrUpdateAll(batchCollection, UPDATE + statement);
         if (result.length != batchCollection.size()) {
@@ -156,11 +320,15 @@ public class Sql<T> {
 
         SqlStatement sqlStatement = parse(statement);
         try (PreparedStatement ps = prepareStatement(sqlStatement)) {
+            // why: the params are resolved once for the whole batch instead of once per row (which needs reflection for fields and properties)
+            List<Function<T, ?>> paramValueResolvers = toParamValueResolvers(sqlStatement, batchCollection.get(0));
             for (T object : batchCollection) {
-                setParams(sqlStatement, ps, object);
+                setParams(sqlStatement, ps, paramValueResolvers, object);
                 ps.addBatch();
             }
             return ps.executeBatch();
+        } finally {
+            params.clear();
         }
     }
 
@@ -172,22 +340,27 @@ public class Sql<T> {
     }
 
     private PreparedStatement prepareStatement(SqlStatement sqlStatement) throws SQLException {
+        // why no statement cache: the prepared statements are closed after each call and reusing them per connection is left to the JDBC driver
+        // or connection pool (e.g. cachePrepStmts for MySQL or prepareThreshold for PostgreSQL), which already key them on the parsed sql
         return connection.prepareStatement(sqlStatement.getParsedSql(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
     }
 
     private void setParams(SqlStatement sqlStatement, PreparedStatement ps, T object) throws SQLException {
-        for (int i = 0; i < sqlStatement.getParamNames().size(); i++) {
-            String paramName = sqlStatement.getParamNames().get(i);
-            Object paramValue = getParamValue(paramName, object);
-            dialect.setParam(ps, i + 1, paramName, paramValue);
-        }
+        setParams(sqlStatement, ps, toParamValueResolvers(sqlStatement, object), object);
         params.clear();
     }
 
+    private void setParams(SqlStatement sqlStatement, PreparedStatement ps, List<Function<T, ?>> paramValueResolvers, T object) throws SQLException {
+        List<String> paramNames = sqlStatement.getParamNames();
+        for (int i = 0; i < paramNames.size(); i++) {
+            dialect.setParam(ps, i + 1, paramNames.get(i), paramValueResolvers.get(i).apply(object));
+        }
+    }
+
     final SqlStatement parse(String originalSql) {
         return parsedStatementCache.computeIfAbsent(
                 SqlStatement.statementKey(tablePrefix, originalSql),
-                hash -> parseStatement(originalSql));
+                key -> parseStatement(originalSql));
     }
 
     @VisibleFor("testing")
@@ -195,18 +368,44 @@ public class Sql<T> {
         return new SqlStatement(tablePrefix, tableName, dialect, originalSql);
     }
 
-    private Object getParamValue(String paramName, T object) {
+    /**
+     * Returns how the value of each parameter of the given statement is resolved for an item, in the order of the parameters in the statement.
+     * This allows to bind the items using other means than a {@link PreparedStatement} (e.g. the COPY command of PostgreSQL).
+     *
+     * @param statement the statement
+     * @param object    an item to resolve the parameters for
+     * @return the functions resolving the value of each parameter for an item
+     */
+    protected List<Function<T, ?>> getParamValueResolvers(String statement, T object) {
+        return toParamValueResolvers(parse(statement), object);
+    }
+
+    private List<Function<T, ?>> toParamValueResolvers(SqlStatement sqlStatement, T object) {
+        List<Function<T, ?>> paramValueResolvers = new ArrayList<>(sqlStatement.getParamNames().size());
+        for (String paramName : sqlStatement.getParamNames()) {
+            paramValueResolvers.add(toParamValueResolver(paramName, object));
+        }
+        return paramValueResolvers;
+    }
+
+    private Function<T, ?> toParamValueResolver(String paramName, T object) {
         if (params.containsKey(paramName)) {
-            return params.get(paramName);
+            Object paramValue = params.get(paramName);
+            return item -> paramValue;
         } else if (paramSuppliers.containsKey(paramName)) {
-            return paramSuppliers.get(paramName).apply(object);
+            return paramSuppliers.get(paramName);
         } else if (objectContainsFieldOrProperty(object, paramName)) {
-            return getValueFromFieldOrProperty(object, paramName);
+            Optional<Field> field = findField(object.getClass(), paramName);
+            if (field.isPresent()) return item -> getValueFromField(field.get(), item);
+            Method getter = findMethod(object.getClass(), "get" + capitalize(paramName)).orElseThrow(() -> new IllegalArgumentException(String.format("Parameter %s is not known.", paramName)));
+            return item -> getValueFromGetMethod(getter, item);
         } else if ("previousVersion".equals(paramName)) {
-            return ((int) paramSuppliers.get("version").apply(object)) - 1;
+            Function<T, ?> versionSupplier = paramSuppliers.get("version");
+            return item -> ((int) versionSupplier.apply(item)) - 1;
         } else if (paramName.contains("-") && params.containsKey(paramName.split("-", 0)[0])) {
             String[] splitParam = paramName.split("-", 0);
-            return ((List<?>) params.get(splitParam[0])).get(Integer.parseInt(splitParam[1]));
+            Object paramValue = ((List<?>) params.get(splitParam[0])).get(Integer.parseInt(splitParam[1]));
+            return item -> paramValue;
         } else {
             throw new IllegalArgumentException(String.format("Parameter %s is not known.", paramName));
         }
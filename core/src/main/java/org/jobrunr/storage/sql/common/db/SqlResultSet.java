@@ -2,6 +2,7 @@ package org.jobrunr.storage.sql.common.db;
 
 import org.jobrunr.storage.StorageException;
 
+import java.io.Reader;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
@@ -17,14 +18,20 @@ import static org.jobrunr.utils.reflection.ReflectionUtils.autobox;
 
 public class SqlResultSet {
 
+    private final Dialect dialect;
     private final List<String> columns;
     private final ResultSet rs;
 
-    public SqlResultSet(List<String> columns, ResultSet rs) {
+    public SqlResultSet(Dialect dialect, List<String> columns, ResultSet rs) {
+        this.dialect = dialect;
         this.columns = columns;
         this.rs = rs;
     }
 
+    public boolean hasColumn(String name) {
+        return columns.contains(name.toLowerCase());
+    }
+
     public boolean asBoolean(String name) {
         return autobox(val(name), Boolean.class);
     }
@@ -33,12 +40,31 @@ public class SqlResultSet {
         return autobox(val(name), String.class);
     }
 
+    /**
+     * Returns the character stream of the given column so that large values (e.g. the jobAsJson column) can be parsed without first reading them
+     * into a String. The reader is only valid as long as the result set is positioned on the current row.
+     *
+     * @param name the name of the column
+     * @return the character stream of the column
+     */
+    public Reader asReader(String name) {
+        try {
+            return rs.getCharacterStream(columns.indexOf(name.toLowerCase()));
+        } catch (SQLException e) {
+            throw new StorageException(e);
+        }
+    }
+
     public int asInt(String name) {
         return autobox(val(name), Integer.class);
     }
 
     public UUID asUUID(String name) {
-        return autobox(val(name), UUID.class);
+        try {
+            return dialect.getUUID(rs, columns.indexOf(name.toLowerCase()));
+        } catch (SQLException e) {
+            throw new StorageException(e);
+        }
     }
 
     public long asLong(String name) {
@@ -13,13 +13,15 @@ import java.util.function.Consumer;
 
 public class SqlSpliterator implements Spliterator<SqlResultSet>, AutoCloseable {
 
+    private final Dialect dialect;
     private final ThrowingSqlSupplier<PreparedStatement> preparedStatementCreator;
     private PreparedStatement ps;
     private ResultSet rs;
     private List<String> columns;
     private boolean hasMore;
 
-    public SqlSpliterator(ThrowingSqlSupplier<PreparedStatement> preparedStatementCreator) {
+    public SqlSpliterator(Dialect dialect, ThrowingSqlSupplier<PreparedStatement> preparedStatementCreator) {
+        this.dialect = dialect;
         this.preparedStatementCreator = preparedStatementCreator;
     }
 
@@ -36,7 +38,7 @@ public class SqlSpliterator implements Spliterator<SqlResultSet>, AutoCloseable
                 }
             }
             if (!hasMore) return false;
-            consumer.accept(new SqlResultSet(columns, rs));
+            consumer.accept(new SqlResultSet(dialect, columns, rs));
             hasMore = rs.next();
             if (!hasMore) {
                 close();
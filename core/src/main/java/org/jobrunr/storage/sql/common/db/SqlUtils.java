@@ -1,7 +1,9 @@
 package org.jobrunr.storage.sql.common.db;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 
 import static java.sql.Statement.SUCCESS_NO_INFO;
 import static java.util.stream.Collectors.toList;
@@ -26,6 +28,25 @@ public class SqlUtils {
         return result;
     }
 
+    /**
+     * Converts the given UUID to its 16 bytes in big-endian order, so that the binary values sort in the same order as the textual values.
+     *
+     * @param uuid the UUID to convert
+     * @return the 16 bytes of the UUID
+     */
+    public static byte[] uuidToBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    public static UUID uuidFromBytes(byte[] bytes) {
+        if (bytes == null) return null;
+        ByteBuffer byteBuffer = ByteBuffer.wrap(bytes);
+        return new UUID(byteBuffer.getLong(), byteBuffer.getLong());
+    }
+
     private static boolean hasBatchInsertOrUpdateSucceeded(int insertOrUpdateResult) {
         return insertOrUpdateResult == SUCCESS_NO_INFO || insertOrUpdateResult > 0;
     }
@@ -0,0 +1,36 @@
+package org.jobrunr.storage.sql.common.mapper;
+
+import org.jobrunr.storage.navigation.CursorBasedPageRequest;
+import org.jobrunr.storage.navigation.OrderTerm;
+import org.jobrunr.storage.sql.common.db.Dialect;
+import org.jobrunr.storage.sql.common.db.Sql;
+
+import java.util.Set;
+
+public class SqlCursorBasedPageRequestMapper extends SqlAmountRequestMapper {
+
+    public SqlCursorBasedPageRequestMapper(Dialect dialect, Set<String> allowedSortColumns) {
+        super(dialect, allowedSortColumns);
+    }
+
+    public <T> String mapToSqlQuery(CursorBasedPageRequest pageRequest, Sql<T> table) {
+        OrderTerm seekOrderTerm = pageRequest.getSeekOrderTerm();
+        table.with("limit", pageRequest.getLimit());
+        return " ORDER BY " + seekOrderTerm.getFieldName() + " " + seekOrderTerm.getOrder() + ", id " + seekOrderTerm.getOrder() + " " + dialect.limit();
+    }
+
+    /**
+     * Returns the condition that only selects the rows after the cursor of the given request. The condition first restricts the sort column
+     * to a range, so the existing (state, sort column) indices can be used to seek to the cursor. Returns an empty string if there is no cursor.
+     */
+    public <T> String mapToWhereClause(CursorBasedPageRequest pageRequest, Sql<T> table) {
+        if (!pageRequest.hasCursor()) return "";
+
+        String fieldName = pageRequest.getSeekOrderTerm().getFieldName();
+        boolean ascending = pageRequest.getSeekOrderTerm().getOrder() == OrderTerm.Order.ASC;
+        table.with("cursorValue", pageRequest.getCursorValue());
+        table.with("cursorId", pageRequest.getCursorId());
+        return " AND " + fieldName + (ascending ? " >= " : " <= ") + ":cursorValue"
+                + " AND (" + fieldName + (ascending ? " > " : " < ") + ":cursorValue OR id" + (ascending ? " > " : " < ") + ":cursorId)";
+    }
+}
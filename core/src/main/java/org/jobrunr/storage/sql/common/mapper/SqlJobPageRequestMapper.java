@@ -1,6 +1,7 @@
 package org.jobrunr.storage.sql.common.mapper;
 
 import org.jobrunr.storage.navigation.AmountRequest;
+import org.jobrunr.storage.navigation.CursorBasedPageRequest;
 import org.jobrunr.storage.navigation.OffsetBasedPageRequest;
 import org.jobrunr.storage.sql.common.JobTable;
 import org.jobrunr.storage.sql.common.db.Dialect;
@@ -12,15 +13,26 @@ public class SqlJobPageRequestMapper {
     private final JobTable jobTable;
     private final SqlAmountRequestMapper sqlAmountRequestMapper;
     private final SqlOffsetBasedPageRequestMapper sqlOffsetBasedPageRequestMapper;
+    private final SqlCursorBasedPageRequestMapper sqlCursorBasedPageRequestMapper;
 
     public SqlJobPageRequestMapper(JobTable jobTable, Dialect dialect) {
         this.jobTable = jobTable;
         this.sqlAmountRequestMapper = new SqlAmountRequestMapper(dialect, ALLOWED_SORT_COLUMNS.keySet());
         this.sqlOffsetBasedPageRequestMapper = new SqlOffsetBasedPageRequestMapper(dialect, ALLOWED_SORT_COLUMNS.keySet());
+        this.sqlCursorBasedPageRequestMapper = new SqlCursorBasedPageRequestMapper(dialect, ALLOWED_SORT_COLUMNS.keySet());
+    }
+
+    public String mapToWhereClause(AmountRequest request) {
+        if (request instanceof CursorBasedPageRequest) {
+            return sqlCursorBasedPageRequestMapper.mapToWhereClause((CursorBasedPageRequest) request, jobTable);
+        }
+        return "";
     }
 
     public String map(AmountRequest request) {
-        if (request instanceof OffsetBasedPageRequest && ((OffsetBasedPageRequest) request).getOffset() > 0L) {
+        if (request instanceof CursorBasedPageRequest) {
+            return sqlCursorBasedPageRequestMapper.mapToSqlQuery((CursorBasedPageRequest) request, jobTable);
+        } else if (request instanceof OffsetBasedPageRequest && ((OffsetBasedPageRequest) request).getOffset() > 0L) {
             return sqlOffsetBasedPageRequestMapper.mapToSqlQuery((OffsetBasedPageRequest) request, jobTable);
         } else {
             return sqlAmountRequestMapper.mapToSqlQuery(request, jobTable);
@@ -9,9 +9,9 @@ import static java.util.stream.Collectors.toList;
 public class DefaultSqlMigrationProvider implements SqlMigrationProvider {
 
     @Override
-    public List<SqlMigration> getMigrations(Class<?> clazz) {
+    public List<SqlMigration> getMigrations(Class<?> clazz, String migrationsDirectory) {
         try (ClassPathResourceProvider resourceProvider = new ClassPathResourceProvider()) {
-            return resourceProvider.listAllChildrenOnClasspath(clazz, "migrations")
+            return resourceProvider.listAllChildrenOnClasspath(clazz, migrationsDirectory)
                     .filter(path -> path.toString().endsWith(".sql"))
                     .map(SqlMigrationByPath::new)
                     .collect(toList());
@@ -13,23 +13,23 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 public class RunningOnJava11OrLowerWithinFatJarSqlMigrationProvider implements SqlMigrationProvider {
 
     @Override
-    public List<SqlMigration> getMigrations(Class<?> clazz) {
+    public List<SqlMigration> getMigrations(Class<?> clazz, String migrationsDirectory) {
         try {
             URL location = clazz.getProtectionDomain().getCodeSource().getLocation();
             URLConnection urlConnection = location.openConnection();
             try (ZipInputStream zipInputStream = new ZipInputStream(urlConnection.getInputStream())) {
-                return getMigrationsFromZipInputStream(zipInputStream, clazz);
+                return getMigrationsFromZipInputStream(zipInputStream, clazz, migrationsDirectory);
             }
         } catch (IOException e) {
             throw new UnsupportedOperationException("Unable to find migrations.");
         }
     }
 
-    private List<SqlMigration> getMigrationsFromZipInputStream(ZipInputStream zipInputStream, Class<?> clazz) throws IOException {
+    private List<SqlMigration> getMigrationsFromZipInputStream(ZipInputStream zipInputStream, Class<?> clazz, String migrationsDirectory) throws IOException {
         List<SqlMigration> result = new ArrayList<>();
         ZipEntry zipEntry = zipInputStream.getNextEntry();
         while (zipEntry != null) {
-            if (isSqlMigration(clazz, zipEntry)) {
+            if (isSqlMigration(clazz, migrationsDirectory, zipEntry)) {
                 result.add(getSqlMigrationFromZipEntry(zipInputStream, zipEntry));
             }
             zipEntry = zipInputStream.getNextEntry();
@@ -47,7 +47,7 @@ public class RunningOnJava11OrLowerWithinFatJarSqlMigrationProvider implements S
         return new SqlMigrationByZipEntry(zipEntry.getName(), s.toString());
     }
 
-    private boolean isSqlMigration(Class<?> clazz, ZipEntry zipEntry) {
-        return zipEntry.getName().startsWith(clazz.getPackage().getName().replace(".", "/") + "/migrations") && zipEntry.getName().endsWith(".sql");
+    private boolean isSqlMigration(Class<?> clazz, String migrationsDirectory, ZipEntry zipEntry) {
+        return zipEntry.getName().startsWith(clazz.getPackage().getName().replace(".", "/") + "/" + migrationsDirectory + "/") && zipEntry.getName().endsWith(".sql");
     }
 }
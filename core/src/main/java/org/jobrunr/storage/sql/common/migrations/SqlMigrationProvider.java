@@ -3,5 +3,9 @@ package org.jobrunr.storage.sql.common.migrations;
 import java.util.List;
 
 public interface SqlMigrationProvider {
-    List<SqlMigration> getMigrations(Class<?> clazz);
+    default List<SqlMigration> getMigrations(Class<?> clazz) {
+        return getMigrations(clazz, "migrations");
+    }
+
+    List<SqlMigration> getMigrations(Class<?> clazz, String migrationsDirectory);
 }
@@ -1,15 +1,35 @@
 package org.jobrunr.storage.sql.mariadb;
 
 import org.jobrunr.storage.sql.common.db.AnsiDialect;
+import org.jobrunr.storage.sql.common.db.Dialect;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.UUID;
+
+import static org.jobrunr.storage.sql.common.db.SqlUtils.uuidFromBytes;
+import static org.jobrunr.storage.sql.mysql.MySqlDialect.getEstimatedRowCountFromExplain;
+import static org.jobrunr.storage.sql.common.db.SqlUtils.uuidToBytes;
 import static org.jobrunr.utils.VersionNumber.v;
 
 public class MariaDbDialect extends AnsiDialect {
 
     private final boolean supportsSelectForUpdateSkipLocked;
+    private final boolean nativeUUIDs;
 
     public MariaDbDialect(String databaseName, String databaseVersion) {
-        this.supportsSelectForUpdateSkipLocked = isMariaDb("10.6", databaseName, databaseVersion);
+        this(isMariaDb("10.6", databaseName, databaseVersion), false);
+    }
+
+    private MariaDbDialect(boolean supportsSelectForUpdateSkipLocked, boolean nativeUUIDs) {
+        this.supportsSelectForUpdateSkipLocked = supportsSelectForUpdateSkipLocked;
+        this.nativeUUIDs = nativeUUIDs;
+    }
+
+    @Override
+    public Dialect withNativeUUIDs() {
+        return new MariaDbDialect(supportsSelectForUpdateSkipLocked, true);
     }
 
     @Override
@@ -17,7 +37,31 @@ public class MariaDbDialect extends AnsiDialect {
         return supportsSelectForUpdateSkipLocked ? " FOR UPDATE SKIP LOCKED" : "";
     }
 
-    private boolean isMariaDb(String expectedVersion, String databaseName, String databaseVersion) {
+    @Override
+    public String estimateRowCount(String selectStatement) {
+        return "explain " + selectStatement;
+    }
+
+    @Override
+    public long getEstimatedRowCount(ResultSet resultSet) throws SQLException {
+        return getEstimatedRowCountFromExplain(resultSet);
+    }
+
+    @Override
+    public void setUUID(PreparedStatement ps, int i, String paramName, UUID uuidValue) throws SQLException {
+        if (nativeUUIDs) {
+            ps.setBytes(i, uuidToBytes(uuidValue));
+        } else {
+            super.setUUID(ps, i, paramName, uuidValue);
+        }
+    }
+
+    @Override
+    public UUID getUUID(ResultSet rs, int columnIndex) throws SQLException {
+        return nativeUUIDs ? uuidFromBytes(rs.getBytes(columnIndex)) : super.getUUID(rs, columnIndex);
+    }
+
+    private static boolean isMariaDb(String expectedVersion, String databaseName, String databaseVersion) {
         return databaseName.equalsIgnoreCase("MariaDB") && v(databaseVersion).hasMajorAndMinorVersionHigherOrEqualTo(expectedVersion);
     }
 }
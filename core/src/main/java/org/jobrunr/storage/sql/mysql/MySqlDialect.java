@@ -1,15 +1,34 @@
 package org.jobrunr.storage.sql.mysql;
 
 import org.jobrunr.storage.sql.common.db.AnsiDialect;
+import org.jobrunr.storage.sql.common.db.Dialect;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.UUID;
+
+import static org.jobrunr.storage.sql.common.db.SqlUtils.uuidFromBytes;
+import static org.jobrunr.storage.sql.common.db.SqlUtils.uuidToBytes;
 import static org.jobrunr.utils.VersionNumber.v;
 
 public class MySqlDialect extends AnsiDialect {
 
     private final boolean supportsSelectForUpdateSkipLocked;
+    private final boolean nativeUUIDs;
 
     public MySqlDialect(String databaseName, String databaseVersion) {
-        this.supportsSelectForUpdateSkipLocked = isMySQL("8.0.1", databaseName, databaseVersion);
+        this(isMySQL("8.0.1", databaseName, databaseVersion), false);
+    }
+
+    private MySqlDialect(boolean supportsSelectForUpdateSkipLocked, boolean nativeUUIDs) {
+        this.supportsSelectForUpdateSkipLocked = supportsSelectForUpdateSkipLocked;
+        this.nativeUUIDs = nativeUUIDs;
+    }
+
+    @Override
+    public Dialect withNativeUUIDs() {
+        return new MySqlDialect(supportsSelectForUpdateSkipLocked, true);
     }
 
     @Override
@@ -17,7 +36,51 @@ public class MySqlDialect extends AnsiDialect {
         return supportsSelectForUpdateSkipLocked ? " FOR UPDATE SKIP LOCKED" : "";
     }
 
-    private boolean isMySQL(String expectedVersion, String databaseName, String databaseVersion) {
+    @Override
+    public String estimateRowCount(String selectStatement) {
+        return "explain " + selectStatement;
+    }
+
+    @Override
+    public long getEstimatedRowCount(ResultSet resultSet) throws SQLException {
+        return getEstimatedRowCountFromExplain(resultSet);
+    }
+
+    @Override
+    public void setUUID(PreparedStatement ps, int i, String paramName, UUID uuidValue) throws SQLException {
+        if (nativeUUIDs) {
+            ps.setBytes(i, uuidToBytes(uuidValue));
+        } else {
+            super.setUUID(ps, i, paramName, uuidValue);
+        }
+    }
+
+    @Override
+    public UUID getUUID(ResultSet rs, int columnIndex) throws SQLException {
+        return nativeUUIDs ? uuidFromBytes(rs.getBytes(columnIndex)) : super.getUUID(rs, columnIndex);
+    }
+
+    /**
+     * Returns the sum of the estimated rows of all tables in the result of an EXPLAIN statement, which has the same format for MySQL and MariaDB.
+     *
+     * @param explainResultSet the result of the EXPLAIN statement
+     * @return the estimated amount of rows
+     * @throws SQLException if the result cannot be read
+     */
+    public static long getEstimatedRowCountFromExplain(ResultSet explainResultSet) throws SQLException {
+        long estimatedRowCount = 0;
+        while (explainResultSet.next()) {
+            String table = explainResultSet.getString("table");
+            // why: derived tables and union results (e.g. '<derived2>') contain the rows of the tables that are already counted and steps
+            // without a table (e.g. 'Impossible WHERE') have no rows
+            if (table != null && !table.startsWith("<")) {
+                estimatedRowCount += explainResultSet.getLong("rows");
+            }
+        }
+        return estimatedRowCount;
+    }
+
+    private static boolean isMySQL(String expectedVersion, String databaseName, String databaseVersion) {
         return databaseName.equalsIgnoreCase("MySQL") && v(databaseVersion).hasMajorMinorAndPatchVersionHigherOrEqualTo(expectedVersion);
     }
 }
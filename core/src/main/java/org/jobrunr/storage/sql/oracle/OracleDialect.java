@@ -2,8 +2,31 @@ package org.jobrunr.storage.sql.oracle;
 
 import org.jobrunr.storage.sql.common.db.Dialect;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.UUID;
+
+import static org.jobrunr.storage.sql.common.db.SqlUtils.uuidFromBytes;
+import static org.jobrunr.storage.sql.common.db.SqlUtils.uuidToBytes;
+
 public class OracleDialect implements Dialect {
 
+    private final boolean nativeUUIDs;
+
+    public OracleDialect() {
+        this(false);
+    }
+
+    private OracleDialect(boolean nativeUUIDs) {
+        this.nativeUUIDs = nativeUUIDs;
+    }
+
+    @Override
+    public Dialect withNativeUUIDs() {
+        return new OracleDialect(true);
+    }
+
     @Override
     public String limit() {
         return "FETCH NEXT :limit ROWS ONLY";
@@ -21,6 +44,12 @@ public class OracleDialect implements Dialect {
         return " FOR UPDATE SKIP LOCKED";
     }
 
+    @Override
+    public boolean supportsMultiRowInsert() {
+        // why: multi-row VALUES are only supported as of Oracle 23ai
+        return false;
+    }
+
     @Override
     public String escape(String toEscape) {
         if (toEscape.endsWith(selectForUpdateSkipLocked())) {
@@ -30,4 +59,18 @@ public class OracleDialect implements Dialect {
         }
         return toEscape;
     }
+
+    @Override
+    public void setUUID(PreparedStatement ps, int i, String paramName, UUID uuidValue) throws SQLException {
+        if (nativeUUIDs) {
+            ps.setBytes(i, uuidToBytes(uuidValue));
+        } else {
+            Dialect.super.setUUID(ps, i, paramName, uuidValue);
+        }
+    }
+
+    @Override
+    public UUID getUUID(ResultSet rs, int columnIndex) throws SQLException {
+        return nativeUUIDs ? uuidFromBytes(rs.getBytes(columnIndex)) : Dialect.super.getUUID(rs, columnIndex);
+    }
 }
@@ -1,11 +1,63 @@
 package org.jobrunr.storage.sql.postgres;
 
 import org.jobrunr.storage.sql.common.db.AnsiDialect;
+import org.jobrunr.storage.sql.common.db.Dialect;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 public class PostgresDialect extends AnsiDialect {
 
+    private static final Pattern PLAN_ROWS_PATTERN = Pattern.compile(" rows=(\\d+) ");
+
+    private final boolean nativeUUIDs;
+
+    public PostgresDialect() {
+        this(false);
+    }
+
+    private PostgresDialect(boolean nativeUUIDs) {
+        this.nativeUUIDs = nativeUUIDs;
+    }
+
+    @Override
+    public Dialect withNativeUUIDs() {
+        return new PostgresDialect(true);
+    }
+
     @Override
     public String selectForUpdateSkipLocked() {
         return " FOR UPDATE SKIP LOCKED";
     }
+
+    @Override
+    public boolean abortsTransactionOnError() {
+        return true;
+    }
+
+    @Override
+    public String estimateRowCount(String selectStatement) {
+        return "explain " + selectStatement;
+    }
+
+    @Override
+    public long getEstimatedRowCount(ResultSet resultSet) throws SQLException {
+        // why: the first line of the plan is its top node, e.g. 'Seq Scan on jobrunr_jobs  (cost=0.00..1.05 rows=5 width=4)'
+        if (!resultSet.next()) return 0;
+        Matcher matcher = PLAN_ROWS_PATTERN.matcher(resultSet.getString(1));
+        return matcher.find() ? Long.parseLong(matcher.group(1)) : 0;
+    }
+
+    @Override
+    public void setUUID(PreparedStatement ps, int i, String paramName, UUID uuidValue) throws SQLException {
+        if (nativeUUIDs) {
+            ps.setObject(i, uuidValue);
+        } else {
+            super.setUUID(ps, i, paramName, uuidValue);
+        }
+    }
 }
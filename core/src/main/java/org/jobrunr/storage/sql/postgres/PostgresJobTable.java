@@ -0,0 +1,124 @@
+package org.jobrunr.storage.sql.postgres;
+
+import org.jobrunr.jobs.Job;
+import org.jobrunr.jobs.mappers.JobMapper;
+import org.jobrunr.storage.sql.common.JobTable;
+import org.jobrunr.storage.sql.common.db.Dialect;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.time.ZoneOffset.UTC;
+import static java.util.Collections.singletonList;
+import static org.jobrunr.JobRunrException.shouldNotHappenException;
+import static org.jobrunr.jobs.states.StateName.ENQUEUED;
+import static org.jobrunr.storage.StorageProviderUtils.elementPrefixer;
+
+/**
+ * A {@link JobTable} that sends a NOTIFY on the JobRunr channel whenever jobs are saved in the ENQUEUED state.
+ * As NOTIFY is transactional, listening BackgroundJobServers are only woken up once the transaction is committed.
+ * <p>
+ * Large amounts of new jobs (e.g. when enqueueing a stream of jobs) are inserted using the COPY command of PostgreSQL.
+ */
+public class PostgresJobTable extends JobTable {
+
+    // why: below this amount of jobs, the multi-row inserts are as fast as COPY
+    private static final int COPY_THRESHOLD = 1000;
+
+    private final Connection connection;
+    private final String jobsTableName;
+    private final String newWorkChannel;
+
+    public PostgresJobTable(Connection connection, Dialect dialect, String tablePrefix, JobMapper jobMapper, String newWorkChannel) {
+        super(connection, dialect, tablePrefix, jobMapper);
+        this.connection = connection;
+        this.jobsTableName = elementPrefixer(tablePrefix, "jobrunr_jobs");
+        this.newWorkChannel = newWorkChannel;
+    }
+
+    @Override
+    public Job save(Job jobToSave) throws SQLException {
+        Job savedJob = super.save(jobToSave);
+        notifyIfEnqueuedJobs(singletonList(savedJob));
+        return savedJob;
+    }
+
+    @Override
+    public List<Job> save(List<Job> jobs) throws SQLException {
+        List<Job> savedJobs = super.save(jobs);
+        notifyIfEnqueuedJobs(savedJobs);
+        return savedJobs;
+    }
+
+    @Override
+    protected void insertAllJobs(List<Job> jobs) throws SQLException {
+        if (jobs.size() < COPY_THRESHOLD || !connection.isWrapperFor(PGConnection.class)) {
+            super.insertAllJobs(jobs);
+            return;
+        }
+
+        // why: a COPY is all or nothing, if one of the jobs already exists the multi-row inserts report which ones
+        Savepoint savepoint = connection.getAutoCommit() ? null : connection.setSavepoint();
+        try {
+            copyJobs(jobs);
+            if (savepoint != null) connection.releaseSavepoint(savepoint);
+        } catch (SQLException e) {
+            if (!dialect.isUniqueConstraintException(e)) throw e;
+            if (savepoint != null) connection.rollback(savepoint);
+            super.insertAllJobs(jobs);
+        }
+    }
+
+    private void copyJobs(List<Job> jobs) throws SQLException {
+        List<Function<Job, ?>> columnValueResolvers = getParamValueResolvers(INSERT_STATEMENT, jobs.get(0));
+        CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn("COPY " + jobsTableName + " (" + JOB_COLUMNS + ") FROM STDIN WITH (FORMAT csv)");
+        try {
+            for (Job job : jobs) {
+                byte[] row = toCsvRow(columnValueResolvers, job).getBytes(UTF_8);
+                copyIn.writeToCopy(row, 0, row.length);
+            }
+            long inserted = copyIn.endCopy();
+            if (inserted != jobs.size()) {
+                throw shouldNotHappenException("Could not insert all jobs - inserted " + inserted + " rows instead of " + jobs.size());
+            }
+        } finally {
+            if (copyIn.isActive()) copyIn.cancelCopy();
+        }
+    }
+
+    private static String toCsvRow(List<Function<Job, ?>> columnValueResolvers, Job job) {
+        StringBuilder row = new StringBuilder();
+        for (int i = 0; i < columnValueResolvers.size(); i++) {
+            if (i > 0) row.append(',');
+            Object value = columnValueResolvers.get(i).apply(job);
+            if (value == null) {
+                continue; // why: an unquoted empty value is NULL in the csv format of COPY
+            } else if (value instanceof Instant) {
+                // why: timestamps are stored in UTC, see Dialect#setTimestamp
+                row.append(LocalDateTime.ofInstant((Instant) value, UTC));
+            } else if (value instanceof Enum) {
+                row.append(((Enum<?>) value).name());
+            } else {
+                row.append('"').append(value.toString().replace("\"", "\"\"")).append('"');
+            }
+        }
+        return row.append('\n').toString();
+    }
+
+    private void notifyIfEnqueuedJobs(List<Job> jobs) {
+        if (jobs.stream().noneMatch(job -> job.hasState(ENQUEUED))) return;
+
+        // why: pg_notify with a bound channel name as NOTIFY itself does not accept parameters
+        with("channel", newWorkChannel)
+                .select("pg_notify(:channel, '')")
+                .findFirst();
+    }
+}
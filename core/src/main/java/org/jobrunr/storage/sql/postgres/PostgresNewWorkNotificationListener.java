@@ -0,0 +1,106 @@
+package org.jobrunr.storage.sql.postgres;
+
+import org.jobrunr.utils.threadpool.NamedThreadFactory;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * Holds a dedicated connection on which it LISTENs to the JobRunr channel and runs the given callback each time
+ * one or more notifications arrive. If the connection is lost, it reconnects after a small delay; in the meantime
+ * the regular polling of the BackgroundJobServer acts as a safety net.
+ */
+class PostgresNewWorkNotificationListener implements Runnable, AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PostgresNewWorkNotificationListener.class);
+    private static final int NOTIFICATION_TIMEOUT_IN_MILLIS = 1000;
+    private static final Duration RECONNECT_DELAY = Duration.ofSeconds(5);
+    private static final Duration CLOSE_TIMEOUT = Duration.ofSeconds(5);
+
+    private final DataSource dataSource;
+    private final String channel;
+    private final Runnable onNewWorkAvailable;
+    private volatile Thread listenerThread;
+
+    PostgresNewWorkNotificationListener(DataSource dataSource, String channel, Runnable onNewWorkAvailable) {
+        this.dataSource = dataSource;
+        this.channel = channel;
+        this.onNewWorkAvailable = onNewWorkAvailable;
+    }
+
+    synchronized void start() {
+        if (listenerThread != null) return;
+
+        listenerThread = new NamedThreadFactory("jobrunr-postgres-notification-listener", true).newThread(this);
+        listenerThread.start();
+    }
+
+    @Override
+    public void close() {
+        Thread stoppedListenerThread;
+        synchronized (this) {
+            if (listenerThread == null) return;
+
+            stoppedListenerThread = listenerThread;
+            listenerThread = null;
+        }
+        stoppedListenerThread.interrupt();
+        try {
+            stoppedListenerThread.join(CLOSE_TIMEOUT.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    boolean isRunning() {
+        return listenerThread != null;
+    }
+
+    @Override
+    public void run() {
+        while (isCurrentListenerThread()) {
+            try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+                statement.execute("LISTEN \"" + channel.replace("\"", "\"\"") + "\"");
+                if (!connection.getAutoCommit()) {
+                    connection.commit(); // why: LISTEN only takes effect once the transaction is committed
+                }
+                LOGGER.debug("Listening for new work on channel {}", channel);
+                listenForNotifications(connection.unwrap(PGConnection.class));
+            } catch (SQLException e) {
+                if (!isCurrentListenerThread()) return;
+                LOGGER.warn("Lost connection listening for new work on channel {} - reconnecting in {}", channel, RECONNECT_DELAY, e);
+                waitBeforeReconnecting();
+            }
+        }
+    }
+
+    private void listenForNotifications(PGConnection pgConnection) throws SQLException {
+        while (isCurrentListenerThread()) {
+            PGNotification[] notifications = pgConnection.getNotifications(NOTIFICATION_TIMEOUT_IN_MILLIS);
+            if (notifications != null && notifications.length > 0) {
+                LOGGER.trace("Received {} notification(s) on channel {}", notifications.length, channel);
+                onNewWorkAvailable.run();
+            }
+        }
+    }
+
+    private void waitBeforeReconnecting() {
+        try {
+            Thread.sleep(RECONNECT_DELAY.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // why: a thread that is still stopping after close() must not keep listening once start() created a new listener thread
+    private boolean isCurrentListenerThread() {
+        return Thread.currentThread() == listenerThread;
+    }
+}
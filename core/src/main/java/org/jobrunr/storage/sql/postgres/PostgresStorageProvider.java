@@ -1,15 +1,25 @@
 package org.jobrunr.storage.sql.postgres;
 
 import org.jobrunr.storage.StorageProviderUtils.DatabaseOptions;
+import org.jobrunr.storage.listeners.NewWorkAvailableListener;
+import org.jobrunr.storage.listeners.StorageProviderChangeListener;
 import org.jobrunr.storage.sql.common.DefaultSqlStorageProvider;
+import org.jobrunr.storage.sql.common.JobTable;
 import org.jobrunr.utils.resilience.RateLimiter;
 
 import javax.sql.DataSource;
+import java.sql.Connection;
 
+import static org.jobrunr.storage.StorageProviderUtils.elementPrefixer;
 import static org.jobrunr.utils.resilience.RateLimiter.Builder.rateLimit;
 
 public class PostgresStorageProvider extends DefaultSqlStorageProvider {
 
+    private static final String NEW_WORK_CHANNEL = "jobrunr_jobs_enqueued";
+
+    private final String newWorkChannel;
+    private final PostgresNewWorkNotificationListener newWorkNotificationListener;
+
     public PostgresStorageProvider(DataSource dataSource) {
         this(dataSource, DatabaseOptions.CREATE);
     }
@@ -28,6 +38,34 @@ public class PostgresStorageProvider extends DefaultSqlStorageProvider {
 
     public PostgresStorageProvider(DataSource dataSource, String tablePrefix, DatabaseOptions databaseOptions, RateLimiter changeListenerNotificationRateLimit) {
         super(dataSource, new PostgresDialect(), tablePrefix, databaseOptions, changeListenerNotificationRateLimit);
+        this.newWorkChannel = elementPrefixer(tablePrefix, NEW_WORK_CHANNEL);
+        this.newWorkNotificationListener = new PostgresNewWorkNotificationListener(dataSource, newWorkChannel, this::notifyNewWorkAvailableListeners);
     }
 
+    @Override
+    public void addJobStorageOnChangeListener(StorageProviderChangeListener listener) {
+        super.addJobStorageOnChangeListener(listener);
+        if (listener instanceof NewWorkAvailableListener) {
+            newWorkNotificationListener.start();
+        }
+    }
+
+    @Override
+    public void removeJobStorageOnChangeListener(StorageProviderChangeListener listener) {
+        super.removeJobStorageOnChangeListener(listener);
+        if (!hasNewWorkAvailableListeners()) {
+            newWorkNotificationListener.close();
+        }
+    }
+
+    @Override
+    public void close() {
+        newWorkNotificationListener.close();
+        super.close();
+    }
+
+    @Override
+    protected JobTable jobTable(Connection connection) {
+        return withOptionalJobTables(connection, new PostgresJobTable(connection, dialect, tablePrefix, jobMapper, newWorkChannel));
+    }
 }
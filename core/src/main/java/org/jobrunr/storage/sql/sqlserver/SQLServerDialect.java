@@ -31,6 +31,12 @@ public class SQLServerDialect implements Dialect {
         return " SELECTFORUPDATE";
     }
 
+    @Override
+    public Dialect withNativeUUIDs() {
+        // why: UNIQUEIDENTIFIER columns are implicitly converted from and to the textual value of the UUID, so ids are bound and read as before
+        return this;
+    }
+
     @Override
     public void setNull(PreparedStatement ps, int i, String paramName) throws SQLException {
         ps.setObject(i, null);
@@ -21,4 +21,9 @@ public class DurationUtils {
         if (a.compareTo(b) < 0) return a;
         return b;
     }
+
+    public static Duration max(Duration a, Duration b) {
+        if (a.compareTo(b) > 0) return a;
+        return b;
+    }
 }
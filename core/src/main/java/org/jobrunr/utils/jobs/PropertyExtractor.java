@@ -16,6 +16,10 @@ public class PropertyExtractor<T, U extends Comparable<? super U>> {
         this.propertyExtractor = propertyExtractor;
     }
 
+    public U getValue(T object) {
+        return propertyExtractor.apply(object);
+    }
+
     public Comparator<T> asComparator(Order order) {
         if (order == Order.ASC) return Comparator.comparing(propertyExtractor, nullsLast(naturalOrder()));
         return Comparator.comparing(propertyExtractor).reversed();
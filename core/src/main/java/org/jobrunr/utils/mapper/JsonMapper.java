@@ -1,6 +1,10 @@
 package org.jobrunr.utils.mapper;
 
+import org.jobrunr.JobRunrException;
+
+import java.io.IOException;
 import java.io.OutputStream;
+import java.io.Reader;
 
 /**
  * JsonMapper that will transform Jobs (and their JobParameters) to Json and back for both storage in the database and
@@ -16,4 +20,26 @@ public interface JsonMapper {
 
     <T> T deserialize(String serializedObjectAsString, Class<T> clazz);
 
+    /**
+     * Deserializes the json read from the given {@link Reader} (e.g. the character stream of a database column) without first reading it into a String.
+     * The default implementation reads the json into a String and must be overridden by JsonMappers that can parse a {@link Reader} directly.
+     *
+     * @param serializedObjectReader the reader to read the json from
+     * @param clazz                  the class to deserialize the json to
+     * @param <T>                    the type to deserialize the json to
+     * @return the deserialized object
+     */
+    default <T> T deserialize(Reader serializedObjectReader, Class<T> clazz) {
+        try {
+            StringBuilder serializedObject = new StringBuilder();
+            char[] buffer = new char[4096];
+            for (int amountRead = serializedObjectReader.read(buffer); amountRead != -1; amountRead = serializedObjectReader.read(buffer)) {
+                serializedObject.append(buffer, 0, amountRead);
+            }
+            return deserialize(serializedObject.toString(), clazz);
+        } catch (IOException e) {
+            throw JobRunrException.shouldNotHappenException(e);
+        }
+    }
+
 }
@@ -16,6 +16,7 @@ import java.io.File;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
+import java.io.Reader;
 import java.nio.file.Path;
 import java.time.Duration;
 import java.time.Instant;
@@ -93,4 +94,9 @@ public class GsonJsonMapper implements JsonMapper {
     public <T> T deserialize(String serializedObjectAsString, Class<T> clazz) {
         return gson.fromJson(serializedObjectAsString, clazz);
     }
+
+    @Override
+    public <T> T deserialize(Reader serializedObjectReader, Class<T> clazz) {
+        return gson.fromJson(serializedObjectReader, clazz);
+    }
 }
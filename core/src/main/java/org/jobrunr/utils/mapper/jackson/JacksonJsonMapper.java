@@ -24,6 +24,7 @@ import org.jobrunr.utils.mapper.jackson.modules.JobStateMixin;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.io.Reader;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.List;
@@ -96,6 +97,17 @@ public class JacksonJsonMapper implements JsonMapper {
         }
     }
 
+    @Override
+    public <T> T deserialize(Reader serializedObjectReader, Class<T> clazz) {
+        try {
+            return objectMapper.readValue(serializedObjectReader, clazz);
+        } catch (InvalidDefinitionException e) {
+            throw JobRunrException.configurationException("Did you register all necessary Jackson Modules?", e);
+        } catch (IOException e) {
+            throw JobRunrException.shouldNotHappenException(e);
+        }
+    }
+
     private static List<Module> findModules(boolean moduleAutoDiscover) {
         List<Module> modules = moduleAutoDiscover ? ObjectMapper.findModules() : new ArrayList<>();
         if (modules.stream().noneMatch(JacksonJsonMapper::isJSR310JavaTimeModule)) {
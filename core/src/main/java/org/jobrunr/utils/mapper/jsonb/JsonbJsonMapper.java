@@ -10,6 +10,7 @@ import org.jobrunr.utils.mapper.jsonb.serializer.DurationTypeDeserializer;
 import org.jobrunr.utils.mapper.jsonb.serializer.DurationTypeSerializer;
 
 import java.io.OutputStream;
+import java.io.Reader;
 
 public class JsonbJsonMapper implements JsonMapper {
 
@@ -49,4 +50,9 @@ public class JsonbJsonMapper implements JsonMapper {
     public <T> T deserialize(String serializedObjectAsString, Class<T> clazz) {
         return jsonb.fromJson(serializedObjectAsString, clazz);
     }
+
+    @Override
+    public <T> T deserialize(Reader serializedObjectReader, Class<T> clazz) {
+        return jsonb.fromJson(serializedObjectReader, clazz);
+    }
 }
@@ -25,6 +25,7 @@ import tools.jackson.databind.exc.InvalidDefinitionException;
 import tools.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
 
 import java.io.OutputStream;
+import java.io.Reader;
 import java.nio.file.Path;
 import java.text.SimpleDateFormat;
 import java.util.TimeZone;
@@ -105,6 +106,15 @@ public class Jackson3JsonMapper implements JsonMapper {
         }
     }
 
+    @Override
+    public <T> T deserialize(Reader serializedObjectReader, Class<T> clazz) {
+        try {
+            return jsonMapper.readValue(serializedObjectReader, clazz);
+        } catch (InvalidDefinitionException e) {
+            throw JobRunrException.configurationException("Did you register all necessary Jackson Modules?", e);
+        }
+    }
+
     protected void extendWithCollectionTypes(BasicPolymorphicTypeValidator.Builder typeValidatorBuilder) {
         // Support deserialization of a select number of Java Collection types.
         // For example, this allows to deserialize into an ArrayList if base type is List but value type is ArrayList.
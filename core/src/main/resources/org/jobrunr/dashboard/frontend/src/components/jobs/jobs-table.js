@@ -58,6 +58,9 @@ const JobsTable = ({jobPage, jobState, isLoading}) => {
     const handleChangePage = (event, newPage) => {
         let urlSearchParams = new URLSearchParams(location.search);
         urlSearchParams.set("page", newPage);
+        const nextCursor = newPage === jobPage.currentPage + 1 && jobPage.nextPageRequest && new URLSearchParams(jobPage.nextPageRequest).get("cursor");
+        if (nextCursor) urlSearchParams.set("cursor", nextCursor);
+        else urlSearchParams.delete("cursor");
         navigate(`?${urlSearchParams.toString()}`);
     };
 
@@ -132,6 +135,7 @@ const JobsTable = ({jobPage, jobState, isLoading}) => {
                     count={jobPage.total}
                     rowsPerPage={jobPage.limit}
                     page={jobPage.currentPage}
+                    labelDisplayedRows={jobPage.totalApproximate ? ({from, to, count}) => `${from}–${to} of approximately ${count}` : undefined}
                     onPageChange={handleChangePage}
                 />
             </>
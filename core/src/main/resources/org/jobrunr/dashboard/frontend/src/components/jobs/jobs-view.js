@@ -15,6 +15,7 @@ const JobsView = () => {
 
     const urlSearchParams = new URLSearchParams(location.search);
     const page = urlSearchParams.get('page');
+    const cursor = urlSearchParams.get('cursor');
     const jobState = urlSearchParams.get('state') ?? 'ENQUEUED';
     const [currentFetchKey, setCurrentFetchKey] = useState(undefined);
     const [jobPage, setJobPage] = useState({total: 0, limit: 20, currentPage: 0, items: []});
@@ -30,17 +31,21 @@ const JobsView = () => {
         default:
     }
 
-    const fetchKey = `${page}-${jobState}-${sort}-${location.key}`;
+    const fetchKey = `${page}-${cursor}-${jobState}-${sort}-${location.key}`;
 
     useEffect(() => {
         const abortController = new AbortController();
-        const offset = (page) * 20;
+        const currentPage = Number(page ?? 0);
+        const offset = currentPage * 20;
         const limit = 20;
-        let url = `/api/jobs?state=${jobState.toUpperCase()}&offset=${offset}&limit=${limit}&order=${sort}`;
+        // the first page and the pages reached via the cursor of the previous page are fetched without an offset, so huge states are not skipped through
+        let url = `/api/jobs?state=${jobState.toUpperCase()}&limit=${limit}&order=${sort}`;
+        if (cursor) url += `&cursor=${cursor}`;
+        else if (currentPage > 0) url += `&offset=${offset}`;
         fetch(url, {signal: abortController.signal})
             .then(res => res.json())
             .then(response => {
-                setJobPage(response);
+                setJobPage({...response, currentPage: currentPage});
             })
             .catch(error => console.log(error))
             .finally(() => setCurrentFetchKey(fetchKey));
@@ -0,0 +1,7 @@
+CREATE TABLE jobrunr_recurring_job_tombstones
+(
+    id      NCHAR(128) PRIMARY KEY,
+    version BIGINT     NOT NULL
+);
+UPDATE jobrunr_recurring_jobs SET version = 0;
+CREATE INDEX jobrunr_recurring_job_version_idx ON jobrunr_recurring_jobs (version);
\ No newline at end of file
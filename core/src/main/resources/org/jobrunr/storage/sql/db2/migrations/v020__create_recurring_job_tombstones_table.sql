@@ -0,0 +1,8 @@
+CREATE TABLE jobrunr_recurring_job_tombstones
+(
+    id      nvarchar(128) NOT NULL,
+    version bigint        NOT NULL,
+    PRIMARY KEY (id)
+);
+UPDATE jobrunr_recurring_jobs SET version = 0;
+CREATE INDEX jobrunr_recurring_job_version_idx ON jobrunr_recurring_jobs (version);
\ No newline at end of file
@@ -0,0 +1,2 @@
+INSERT INTO jobrunr_metadata (id, name, owner, `value`, createdAt, updatedAt)
+VALUES ('recurring-jobs-version-cluster', 'recurring-jobs-version', 'cluster', '0', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
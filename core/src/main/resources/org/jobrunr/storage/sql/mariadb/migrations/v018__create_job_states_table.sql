@@ -0,0 +1,8 @@
+CREATE TABLE jobrunr_job_states
+(
+    jobId       NCHAR(36)    NOT NULL,
+    stateIndex  int          NOT NULL,
+    stateClass  VARCHAR(512) NOT NULL,
+    stateAsJson MEDIUMTEXT   NOT NULL,
+    PRIMARY KEY (jobId, stateIndex)
+);
\ No newline at end of file
@@ -0,0 +1,16 @@
+CREATE TABLE jobrunr_jobs_archive
+(
+    id             NCHAR(36) NOT NULL,
+    version        int NOT NULL,
+    jobAsJson      MEDIUMTEXT NOT NULL,
+    jobSignature   VARCHAR(512) NOT NULL,
+    state          VARCHAR(36) NOT NULL,
+    createdAt      DATETIME(6) NOT NULL,
+    updatedAt      DATETIME(6) NOT NULL,
+    scheduledAt    DATETIME(6),
+    recurringJobId VARCHAR(128),
+    PRIMARY KEY (id)
+);
+CREATE INDEX jobrunr_job_archive_state_idx ON jobrunr_jobs_archive (state, updatedAt);
+
+CREATE INDEX jobrunr_job_archive_rci_idx ON jobrunr_jobs_archive (recurringJobId);
\ No newline at end of file
@@ -0,0 +1,3 @@
+ALTER TABLE jobrunr_job_states ADD COLUMN jobIdAsBinary BINARY(16);
+UPDATE jobrunr_job_states SET jobIdAsBinary = UNHEX(REPLACE(jobId, '-', ''));
+ALTER TABLE jobrunr_job_states DROP PRIMARY KEY, DROP COLUMN jobId, CHANGE COLUMN jobIdAsBinary jobId BINARY(16) NOT NULL FIRST, ADD PRIMARY KEY (jobId, stateIndex);
\ No newline at end of file
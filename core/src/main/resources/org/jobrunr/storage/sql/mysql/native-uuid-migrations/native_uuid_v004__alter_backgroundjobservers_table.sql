@@ -0,0 +1,3 @@
+ALTER TABLE jobrunr_backgroundjobservers ADD COLUMN idAsBinary BINARY(16);
+UPDATE jobrunr_backgroundjobservers SET idAsBinary = UNHEX(REPLACE(id, '-', ''));
+ALTER TABLE jobrunr_backgroundjobservers DROP PRIMARY KEY, DROP COLUMN id, CHANGE COLUMN idAsBinary id BINARY(16) NOT NULL FIRST, ADD PRIMARY KEY (id);
\ No newline at end of file
@@ -0,0 +1,120 @@
+CREATE TABLE jobrunr_job_state_counters
+(
+    state  NVARCHAR2(36) NOT NULL,
+    stripe int           NOT NULL,
+    amount NUMBER(19)    NOT NULL,
+    PRIMARY KEY (state, stripe)
+);
+
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('AWAITING', 0, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('AWAITING', 1, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('AWAITING', 2, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('AWAITING', 3, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('AWAITING', 4, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('AWAITING', 5, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('AWAITING', 6, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('AWAITING', 7, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('AWAITING', 8, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('AWAITING', 9, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('AWAITING', 10, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('AWAITING', 11, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('AWAITING', 12, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('AWAITING', 13, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('AWAITING', 14, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('AWAITING', 15, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('SCHEDULED', 0, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('SCHEDULED', 1, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('SCHEDULED', 2, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('SCHEDULED', 3, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('SCHEDULED', 4, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('SCHEDULED', 5, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('SCHEDULED', 6, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('SCHEDULED', 7, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('SCHEDULED', 8, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('SCHEDULED', 9, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('SCHEDULED', 10, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('SCHEDULED', 11, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('SCHEDULED', 12, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('SCHEDULED', 13, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('SCHEDULED', 14, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('SCHEDULED', 15, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('ENQUEUED', 0, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('ENQUEUED', 1, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('ENQUEUED', 2, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('ENQUEUED', 3, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('ENQUEUED', 4, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('ENQUEUED', 5, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('ENQUEUED', 6, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('ENQUEUED', 7, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('ENQUEUED', 8, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('ENQUEUED', 9, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('ENQUEUED', 10, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('ENQUEUED', 11, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('ENQUEUED', 12, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('ENQUEUED', 13, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('ENQUEUED', 14, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('ENQUEUED', 15, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('PROCESSING', 0, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('PROCESSING', 1, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('PROCESSING', 2, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('PROCESSING', 3, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('PROCESSING', 4, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('PROCESSING', 5, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('PROCESSING', 6, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('PROCESSING', 7, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('PROCESSING', 8, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('PROCESSING', 9, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('PROCESSING', 10, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('PROCESSING', 11, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('PROCESSING', 12, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('PROCESSING', 13, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('PROCESSING', 14, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('PROCESSING', 15, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('FAILED', 0, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('FAILED', 1, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('FAILED', 2, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('FAILED', 3, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('FAILED', 4, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('FAILED', 5, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('FAILED', 6, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('FAILED', 7, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('FAILED', 8, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('FAILED', 9, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('FAILED', 10, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('FAILED', 11, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('FAILED', 12, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('FAILED', 13, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('FAILED', 14, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('FAILED', 15, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('SUCCEEDED', 0, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('SUCCEEDED', 1, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('SUCCEEDED', 2, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('SUCCEEDED', 3, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('SUCCEEDED', 4, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('SUCCEEDED', 5, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('SUCCEEDED', 6, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('SUCCEEDED', 7, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('SUCCEEDED', 8, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('SUCCEEDED', 9, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('SUCCEEDED', 10, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('SUCCEEDED', 11, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('SUCCEEDED', 12, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('SUCCEEDED', 13, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('SUCCEEDED', 14, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('SUCCEEDED', 15, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('DELETED', 0, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('DELETED', 1, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('DELETED', 2, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('DELETED', 3, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('DELETED', 4, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('DELETED', 5, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('DELETED', 6, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('DELETED', 7, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('DELETED', 8, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('DELETED', 9, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('DELETED', 10, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('DELETED', 11, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('DELETED', 12, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('DELETED', 13, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('DELETED', 14, 0);
+INSERT INTO jobrunr_job_state_counters (state, stripe, amount) VALUES ('DELETED', 15, 0);
\ No newline at end of file
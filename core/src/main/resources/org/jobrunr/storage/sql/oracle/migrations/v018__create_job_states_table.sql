@@ -0,0 +1,8 @@
+CREATE TABLE jobrunr_job_states
+(
+    jobId       NCHAR(36)    NOT NULL,
+    stateIndex  NUMBER(10)   NOT NULL,
+    stateClass  NVARCHAR2(512) NOT NULL,
+    stateAsJson clob         NOT NULL,
+    PRIMARY KEY (jobId, stateIndex)
+);
\ No newline at end of file
@@ -0,0 +1,16 @@
+CREATE TABLE jobrunr_jobs_archive
+(
+    id             nchar(36) NOT NULL,
+    version        number(10) NOT NULL,
+    jobAsJson      clob NOT NULL,
+    jobSignature   NVARCHAR2(512) NOT NULL,
+    state          NVARCHAR2(36) NOT NULL,
+    createdAt      TIMESTAMP(6) NOT NULL,
+    updatedAt      TIMESTAMP(6) NOT NULL,
+    scheduledAt    TIMESTAMP(6),
+    recurringJobId nvarchar2(128),
+    PRIMARY KEY (id)
+);
+CREATE INDEX jobrunr_job_archive_state_idx ON jobrunr_jobs_archive (state, updatedAt);
+
+CREATE INDEX jobrunr_job_archive_rci_idx ON jobrunr_jobs_archive (recurringJobId);
\ No newline at end of file
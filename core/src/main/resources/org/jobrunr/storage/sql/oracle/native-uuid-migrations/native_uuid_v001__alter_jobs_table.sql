@@ -0,0 +1,7 @@
+ALTER TABLE jobrunr_jobs ADD idAsRaw RAW(16);
+UPDATE jobrunr_jobs SET idAsRaw = HEXTORAW(REPLACE(id, '-', ''));
+ALTER TABLE jobrunr_jobs DROP PRIMARY KEY;
+ALTER TABLE jobrunr_jobs DROP COLUMN id;
+ALTER TABLE jobrunr_jobs RENAME COLUMN idAsRaw TO id;
+ALTER TABLE jobrunr_jobs MODIFY id NOT NULL;
+ALTER TABLE jobrunr_jobs ADD PRIMARY KEY (id);
\ No newline at end of file
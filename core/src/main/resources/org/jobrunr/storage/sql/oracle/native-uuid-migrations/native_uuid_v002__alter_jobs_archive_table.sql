@@ -0,0 +1,7 @@
+ALTER TABLE jobrunr_jobs_archive ADD idAsRaw RAW(16);
+UPDATE jobrunr_jobs_archive SET idAsRaw = HEXTORAW(REPLACE(id, '-', ''));
+ALTER TABLE jobrunr_jobs_archive DROP PRIMARY KEY;
+ALTER TABLE jobrunr_jobs_archive DROP COLUMN id;
+ALTER TABLE jobrunr_jobs_archive RENAME COLUMN idAsRaw TO id;
+ALTER TABLE jobrunr_jobs_archive MODIFY id NOT NULL;
+ALTER TABLE jobrunr_jobs_archive ADD PRIMARY KEY (id);
\ No newline at end of file
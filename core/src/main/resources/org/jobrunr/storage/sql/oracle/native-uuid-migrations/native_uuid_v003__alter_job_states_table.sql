@@ -0,0 +1,7 @@
+ALTER TABLE jobrunr_job_states ADD jobIdAsRaw RAW(16);
+UPDATE jobrunr_job_states SET jobIdAsRaw = HEXTORAW(REPLACE(jobId, '-', ''));
+ALTER TABLE jobrunr_job_states DROP PRIMARY KEY;
+ALTER TABLE jobrunr_job_states DROP COLUMN jobId;
+ALTER TABLE jobrunr_job_states RENAME COLUMN jobIdAsRaw TO jobId;
+ALTER TABLE jobrunr_job_states MODIFY jobId NOT NULL;
+ALTER TABLE jobrunr_job_states ADD PRIMARY KEY (jobId, stateIndex);
\ No newline at end of file
@@ -0,0 +1,7 @@
+ALTER TABLE jobrunr_backgroundjobservers ADD idAsRaw RAW(16);
+UPDATE jobrunr_backgroundjobservers SET idAsRaw = HEXTORAW(REPLACE(id, '-', ''));
+ALTER TABLE jobrunr_backgroundjobservers DROP PRIMARY KEY;
+ALTER TABLE jobrunr_backgroundjobservers DROP COLUMN id;
+ALTER TABLE jobrunr_backgroundjobservers RENAME COLUMN idAsRaw TO id;
+ALTER TABLE jobrunr_backgroundjobservers MODIFY id NOT NULL;
+ALTER TABLE jobrunr_backgroundjobservers ADD PRIMARY KEY (id);
\ No newline at end of file
@@ -0,0 +1 @@
+ALTER TABLE jobrunr_jobs_archive ALTER COLUMN id TYPE uuid USING id::uuid;
\ No newline at end of file
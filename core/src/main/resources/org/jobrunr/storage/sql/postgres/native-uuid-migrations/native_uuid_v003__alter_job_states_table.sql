@@ -0,0 +1 @@
+ALTER TABLE jobrunr_job_states ALTER COLUMN jobId TYPE uuid USING jobId::uuid;
\ No newline at end of file
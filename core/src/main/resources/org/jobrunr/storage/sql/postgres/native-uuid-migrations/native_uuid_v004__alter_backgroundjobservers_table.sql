@@ -0,0 +1 @@
+ALTER TABLE jobrunr_backgroundjobservers ALTER COLUMN id TYPE uuid USING id::uuid;
\ No newline at end of file
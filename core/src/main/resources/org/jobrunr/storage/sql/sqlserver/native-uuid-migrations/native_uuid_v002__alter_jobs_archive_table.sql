@@ -0,0 +1,3 @@
+DECLARE @pk NVARCHAR(256) SELECT @pk = name FROM sys.key_constraints WHERE type = 'PK' AND parent_object_id = OBJECT_ID('jobrunr_jobs_archive') EXEC('ALTER TABLE jobrunr_jobs_archive DROP CONSTRAINT ' + @pk);
+ALTER TABLE jobrunr_jobs_archive ALTER COLUMN id UNIQUEIDENTIFIER NOT NULL;
+ALTER TABLE jobrunr_jobs_archive ADD PRIMARY KEY (id);
\ No newline at end of file
@@ -0,0 +1,3 @@
+DECLARE @pk NVARCHAR(256) SELECT @pk = name FROM sys.key_constraints WHERE type = 'PK' AND parent_object_id = OBJECT_ID('jobrunr_job_states') EXEC('ALTER TABLE jobrunr_job_states DROP CONSTRAINT ' + @pk);
+ALTER TABLE jobrunr_job_states ALTER COLUMN jobId UNIQUEIDENTIFIER NOT NULL;
+ALTER TABLE jobrunr_job_states ADD PRIMARY KEY (jobId, stateIndex);
\ No newline at end of file
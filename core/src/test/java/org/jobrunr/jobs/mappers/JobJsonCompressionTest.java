@@ -0,0 +1,56 @@
+package org.jobrunr.jobs.mappers;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.jobrunr.jobs.mappers.JobJsonCompression.DEFLATE;
+import static org.jobrunr.jobs.mappers.JobJsonCompression.NONE;
+
+class JobJsonCompressionTest {
+
+    private static final String JSON = "{\"jobStateClass\":\"org.jobrunr.jobs.states.EnqueuedState\",\"jobStateClass\":\"org.jobrunr.jobs.states.ProcessingState\",\"name\":\"Ünicode ✓\"}";
+
+    @Test
+    void noneDoesNotCompress() {
+        assertThat(NONE.compress(JSON)).isEqualTo(JSON);
+        assertThat(JobJsonCompression.decompress(JSON)).isEqualTo(JSON);
+    }
+
+    @Test
+    void deflateCompressesWithHeader() {
+        String compressed = DEFLATE.compress(JSON);
+
+        assertThat(compressed).startsWith("#deflate:").isNotEqualTo(JSON);
+        assertThat(JobJsonCompression.decompress(compressed)).isEqualTo(JSON);
+    }
+
+    @Test
+    void readersAreDecompressedUsingTheirHeader() throws IOException {
+        assertThat(readFully(JobJsonCompression.decompress(new StringReader(JSON)))).isEqualTo(JSON);
+        assertThat(readFully(JobJsonCompression.decompress(new StringReader("{}")))).isEqualTo("{}");
+        assertThat(readFully(JobJsonCompression.decompress(new StringReader(DEFLATE.compress(JSON))))).isEqualTo(JSON);
+    }
+
+    @Test
+    void deflateReducesTheSizeOfRepetitiveJson() {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 100; i++) {
+            json.append("{\"@class\":\"org.jobrunr.jobs.states.ProcessingState\",\"createdAt\":\"2024-01-01T00:00:00Z\"},");
+        }
+        json.append("{}]");
+
+        assertThat(DEFLATE.compress(json.toString()).length()).isLessThan(json.length() / 4);
+    }
+
+    private static String readFully(Reader reader) throws IOException {
+        StringBuilder result = new StringBuilder();
+        for (int c = reader.read(); c != -1; c = reader.read()) {
+            result.append((char) c);
+        }
+        return result.toString();
+    }
+}
@@ -18,14 +18,17 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.slf4j.MDC;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
+import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.jobrunr.jobs.JobTestBuilder.anEnqueuedJob;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -94,6 +97,23 @@ class JobSchedulerTest {
         assertThat(jobClientLogFilter.onCreated).isTrue();
     }
 
+    @Test
+    void onStreamOfJobsWithBulkCreateParallelismJobsAreSavedInBatchesInOrder() {
+        List<Integer> savedJobParameters = new ArrayList<>();
+        when(storageProvider.save(anyList())).thenAnswer(invocation -> {
+            List<Job> jobs = invocation.getArgument(0);
+            jobs.forEach(job -> savedJobParameters.add((Integer) job.getJobDetails().getJobParameterValues()[0]));
+            return jobs;
+        });
+
+        jobScheduler.setBulkCreateParallelism(4);
+        jobScheduler.enqueue(IntStream.range(0, 12000).boxed(), (i) -> testService.doWork(i));
+
+        verify(storageProvider, times(3)).save(anyList());
+        assertThat(savedJobParameters).containsExactlyElementsOf(IntStream.range(0, 12000).boxed().collect(toList()));
+        assertThat(jobClientLogFilter.onCreated).isTrue();
+    }
+
     @Test
     void onRecurringJobCreatingAndCreatedAreCalled() {
         when(storageProvider.saveRecurringJob(any(RecurringJob.class))).thenAnswer(invocation -> invocation.getArgument(0));
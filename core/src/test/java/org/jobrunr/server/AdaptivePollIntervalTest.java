@@ -0,0 +1,47 @@
+package org.jobrunr.server;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static java.time.Duration.ofMillis;
+import static java.time.Duration.ofSeconds;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptivePollIntervalTest {
+
+    private final AdaptivePollInterval adaptivePollInterval = new AdaptivePollInterval(ofSeconds(15), ofMillis(500), ofSeconds(60));
+
+    @Test
+    void pollIntervalShrinksTowardsFloorWhileClaimsReturnFullPages() {
+        assertThat(adaptivePollInterval.next(10, 10)).isEqualTo(ofMillis(7500));
+        assertThat(adaptivePollInterval.next(20, 20)).isEqualTo(ofMillis(3750));
+
+        Duration pollInterval = Duration.ZERO;
+        for (int i = 3; i < 10; i++) {
+            pollInterval = adaptivePollInterval.next(i * 10L, i * 10L);
+        }
+        assertThat(pollInterval).isEqualTo(ofMillis(500));
+    }
+
+    @Test
+    void pollIntervalBacksOffTowardsCeilingWhileClaimsReturnNothing() {
+        assertThat(adaptivePollInterval.next(10, 0)).isEqualTo(ofSeconds(30));
+        assertThat(adaptivePollInterval.next(20, 0)).isEqualTo(ofSeconds(60));
+        assertThat(adaptivePollInterval.next(30, 0)).isEqualTo(ofSeconds(60));
+    }
+
+    @Test
+    void pollIntervalIsResetIfClaimsReturnPartialPages() {
+        adaptivePollInterval.next(10, 0);
+
+        assertThat(adaptivePollInterval.next(20, 5)).isEqualTo(ofSeconds(15));
+    }
+
+    @Test
+    void pollIntervalDoesNotChangeIfNoClaimsWereDone() {
+        adaptivePollInterval.next(10, 10);
+
+        assertThat(adaptivePollInterval.next(10, 10)).isEqualTo(ofMillis(7500));
+    }
+}
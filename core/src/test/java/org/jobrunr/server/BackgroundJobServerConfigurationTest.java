@@ -2,6 +2,8 @@ package org.jobrunr.server;
 
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.jobrunr.server.BackgroundJobServerConfiguration.usingStandardBackgroundJobServerConfiguration;
 
@@ -37,4 +39,45 @@ class BackgroundJobServerConfigurationTest {
                 .hasMessage("The smallest possible ServerTimeoutPollIntervalMultiplicand is 4 (4 is also the default)");
     }
 
-}
\ No newline at end of file
+    @Test
+    void ifJobStateChangesGroupCommitMaxBatchSizeIsSmallerThan2AnExceptionIsThrown() {
+        assertThatThrownBy(() -> backgroundJobServerConfiguration.andJobStateChangesGroupCommit(1, Duration.ofMillis(5)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("The maxBatchSize of the group commit must be greater than 1");
+    }
+
+    @Test
+    void ifJobStateChangesGroupCommitMaxDelayIsNotPositiveAnExceptionIsThrown() {
+        assertThatThrownBy(() -> backgroundJobServerConfiguration.andJobStateChangesGroupCommit(100, Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("The maxDelay of the group commit must be a positive duration");
+    }
+
+    @Test
+    void ifCoalescedOnboardingMinBatchSizeIsSmallerThan1AnExceptionIsThrown() {
+        assertThatThrownBy(() -> backgroundJobServerConfiguration.andCoalescedOnboarding(0, Duration.ofMillis(5)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("The minBatchSize of the coalesced onboarding must be greater than 0");
+    }
+
+    @Test
+    void ifCoalescedOnboardingMaxDelayIsNotPositiveAnExceptionIsThrown() {
+        assertThatThrownBy(() -> backgroundJobServerConfiguration.andCoalescedOnboarding(10, Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("The maxDelay of the coalesced onboarding must be a positive duration");
+    }
+
+    @Test
+    void ifAdaptivePollIntervalFloorIsNotPositiveAnExceptionIsThrown() {
+        assertThatThrownBy(() -> backgroundJobServerConfiguration.andAdaptivePollInterval(Duration.ZERO, Duration.ofSeconds(60)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("The floor of the adaptive pollInterval must be a positive duration");
+    }
+
+    @Test
+    void ifAdaptivePollIntervalCeilingIsSmallerThanFloorAnExceptionIsThrown() {
+        assertThatThrownBy(() -> backgroundJobServerConfiguration.andAdaptivePollInterval(Duration.ofSeconds(5), Duration.ofSeconds(1)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("The ceiling of the adaptive pollInterval must be greater than or equal to the floor");
+    }
+}
@@ -40,6 +40,7 @@ import java.time.Instant;
 import java.util.Arrays;
 
 import static java.time.Duration.ofMillis;
+import static java.time.Duration.ofSeconds;
 import static java.time.Instant.now;
 import static java.time.temporal.ChronoUnit.MILLIS;
 import static java.time.temporal.ChronoUnit.MINUTES;
@@ -145,6 +146,18 @@ class BackgroundJobServerTest {
                 .hasMessage("The smallest supported pollInterval is 5 seconds - otherwise it will cause to much load on your SQL/noSQL datastore.");
     }
 
+    @Test
+    void backgroundJobServerValidatesAdaptivePollIntervalFloorAndThrowsExceptionIfTooSmall() {
+        assertThatThrownBy(() -> {
+            JobRunr.configure()
+                    .useStorageProvider(new H2StorageProvider(null, NO_VALIDATE))
+                    .useBackgroundJobServer(usingStandardBackgroundJobServerConfiguration().andAdaptivePollInterval(ofMillis(500), ofSeconds(60)), false)
+                    .initialize();
+        })
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("The smallest supported pollInterval is 5 seconds - otherwise it will cause to much load on your SQL/noSQL datastore.");
+    }
+
     @Test
     void backgroundJobServerLogsErrorIfDatabaseVersionHigherThanJobRunrVersion() {
         lenient().doReturn(new JobRunrMetadata("database_version", "cluster", "9999.99"))
@@ -161,6 +174,26 @@ class BackgroundJobServerTest {
         assertThat(logger).hasErrorMessageContaining("JobRunr Pro Version number 6.0.0 is older than database version number 9999.99. BackgroundJobServer will not process any jobs.");
     }
 
+    @Test
+    void jobsEnqueuedWithinTheSameJvmAreDirectlyHandedToAnIdleWorkerIfEnabled() {
+        backgroundJobServer.stop();
+        JobRunr.configure()
+                .useJobActivator(jobActivator)
+                .useStorageProvider(storageProvider)
+                .useBackgroundJobServer(usingStandardBackgroundJobServerConfiguration().andPollInterval(ofMillis(500)).andProcessLocallyEnqueuedJobsDirectly(true), false)
+                .initialize();
+        backgroundJobServer = JobRunr.getBackgroundJobServer();
+        backgroundJobServer.start();
+        await().atMost(TWO_SECONDS).until(() -> !backgroundJobServer.isNotReadyToProcessJobs());
+
+        JobId jobId = BackgroundJob.enqueue(() -> testService.doWork());
+
+        // THEN the job is saved directly in state PROCESSING for this server
+        assertThat(storageProvider.getJobById(jobId)).doesNotHaveState(ENQUEUED);
+        await().atMost(FIVE_SECONDS).untilAsserted(() -> assertThat(storageProvider.getJobById(jobId)).hasStates(ENQUEUED, PROCESSING, SUCCEEDED));
+        await().atMost(TWO_SECONDS).untilAsserted(() -> assertThat(backgroundJobServer.getJobSteward().getOccupiedWorkerCount()).isZero());
+    }
+
     @Test
     void testStartAndStop() {
         // GIVEN server stopped and we enqueue a job
@@ -0,0 +1,86 @@
+package org.jobrunr.server;
+
+import org.jobrunr.jobs.Job;
+import org.jobrunr.storage.ConcurrentJobModificationException;
+import org.jobrunr.storage.StorageProvider;
+import org.jobrunr.storage.StorageException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.jobrunr.jobs.JobTestBuilder.aJobInProgress;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class GroupCommitJobSaverTest {
+
+    @Mock
+    private StorageProvider storageProvider;
+
+    @Test
+    void jobIsSavedAfterMaxDelayIfNoOtherJobsAreSaved() {
+        GroupCommitJobSaver groupCommitJobSaver = new GroupCommitJobSaver(storageProvider, 10, Duration.ofMillis(5));
+        Job job = aJobInProgress().withId().build();
+
+        Job savedJob = groupCommitJobSaver.save(job);
+
+        assertThat(savedJob).isSameAs(job);
+        verify(storageProvider).save(singletonList(job));
+    }
+
+    @Test
+    void jobsOfDifferentThreadsAreSavedTogether() {
+        GroupCommitJobSaver groupCommitJobSaver = new GroupCommitJobSaver(storageProvider, 2, Duration.ofSeconds(10));
+        Job job1 = aJobInProgress().withId().build();
+        Job job2 = aJobInProgress().withId().build();
+
+        CompletableFuture<Job> savedJob1 = CompletableFuture.supplyAsync(() -> groupCommitJobSaver.save(job1));
+        CompletableFuture<Job> savedJob2 = CompletableFuture.supplyAsync(() -> groupCommitJobSaver.save(job2));
+
+        assertThat(savedJob1.join()).isSameAs(job1);
+        assertThat(savedJob2.join()).isSameAs(job2);
+        verify(storageProvider, times(1)).save(anyList());
+    }
+
+    @Test
+    void concurrentJobModificationExceptionIsOnlyThrownForTheJobThatWasConcurrentlyModified() {
+        GroupCommitJobSaver groupCommitJobSaver = new GroupCommitJobSaver(storageProvider, 2, Duration.ofSeconds(10));
+        Job job1 = aJobInProgress().withId().build();
+        Job job2 = aJobInProgress().withId().build();
+        doThrow(new ConcurrentJobModificationException(job2)).when(storageProvider).save(anyList());
+
+        CompletableFuture<Job> savedJob1 = CompletableFuture.supplyAsync(() -> groupCommitJobSaver.save(job1));
+        CompletableFuture<Job> savedJob2 = CompletableFuture.supplyAsync(() -> groupCommitJobSaver.save(job2));
+
+        assertThatCode(savedJob1::join).doesNotThrowAnyException();
+        assertThatThrownBy(savedJob2::join)
+                .hasCauseInstanceOf(ConcurrentJobModificationException.class)
+                .satisfies(e -> assertThat(((ConcurrentJobModificationException) e.getCause()).getConcurrentUpdatedJobs()).containsExactly(job2));
+    }
+
+    @Test
+    void storageExceptionIsThrownForAllJobsOfTheGroup() {
+        GroupCommitJobSaver groupCommitJobSaver = new GroupCommitJobSaver(storageProvider, 2, Duration.ofSeconds(10));
+        List<Job> jobs = asList(aJobInProgress().withId().build(), aJobInProgress().withId().build());
+        doThrow(new StorageException("database is down")).when(storageProvider).save(anyList());
+
+        CompletableFuture<Job> savedJob1 = CompletableFuture.supplyAsync(() -> groupCommitJobSaver.save(jobs.get(0)));
+        CompletableFuture<Job> savedJob2 = CompletableFuture.supplyAsync(() -> groupCommitJobSaver.save(jobs.get(1)));
+
+        assertThatThrownBy(savedJob1::join).hasCauseInstanceOf(StorageException.class);
+        assertThatThrownBy(savedJob2::join).hasCauseInstanceOf(StorageException.class);
+    }
+}
@@ -27,12 +27,14 @@ import static ch.qos.logback.Logback.temporarilyChangeLogLevel;
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.jobrunr.jobs.JobTestBuilder.anEnqueuedJob;
+import static org.jobrunr.jobs.states.StateName.ENQUEUED;
 import static org.jobrunr.storage.Paging.AmountBasedList.ascOnUpdatedAt;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -79,6 +81,16 @@ class JobStewardTest {
         verify(backgroundJobServer).processJob(enqueuedJob);
     }
 
+    @Test
+    void onNewWorkAvailableNewWorkIsOnboarded() {
+        final Job enqueuedJob = anEnqueuedJob().build();
+        lenient().when(storageProvider.getJobsToProcess(eq(backgroundJobServer), any())).thenReturn(List.of(enqueuedJob));
+
+        jobSteward.onNewWorkAvailable();
+
+        verify(backgroundJobServer).processJob(enqueuedJob);
+    }
+
     @Test
     void onThreadIdleNewWorkIsOnboardedAndThreadSafe() throws InterruptedException {
         final Job enqueuedJob = anEnqueuedJob().build();
@@ -114,6 +126,69 @@ class JobStewardTest {
         verify(backgroundJobServer, atLeast(1)).processJob(enqueuedJob); // due to ReentrantLock
     }
 
+    @Test
+    void aWorkerCanOnlyBeReservedIfNotAllWorkersAreOccupied() {
+        when(workDistributionStrategy.getWorkerCount()).thenReturn(1);
+        final Job job1 = anEnqueuedJob().withId().build();
+        final Job job2 = anEnqueuedJob().withId().build();
+
+        assertThat(jobSteward.tryToReserveWorker(job1)).isTrue();
+        assertThat(jobSteward.tryToReserveWorker(job2)).isFalse();
+        assertThat(jobSteward.getOccupiedWorkerCount()).isEqualTo(1);
+    }
+
+    @Test
+    void aReservedWorkerIsNotCountedTwiceWhenItStartsProcessingTheJob() {
+        when(workDistributionStrategy.getWorkerCount()).thenReturn(2);
+        final Job job = anEnqueuedJob().withId().build();
+
+        jobSteward.tryToReserveWorker(job);
+        jobSteward.notifyThreadOccupied(job);
+
+        assertThat(jobSteward.getOccupiedWorkerCount()).isEqualTo(1);
+    }
+
+    @Test
+    void aReservedWorkerCanBeReleased() {
+        when(workDistributionStrategy.getWorkerCount()).thenReturn(2);
+        final Job job = anEnqueuedJob().withId().build();
+
+        jobSteward.tryToReserveWorker(job);
+        jobSteward.releaseReservedWorker(job);
+        jobSteward.releaseReservedWorker(job);
+
+        assertThat(jobSteward.getOccupiedWorkerCount()).isZero();
+    }
+
+    @Test
+    void prefetchedJobsAreHandedToIdleWorkersAndTheRestRemainsBuffered() {
+        when(workDistributionStrategy.getWorkerCount()).thenReturn(1);
+        final Job job1 = anEnqueuedJob().withId().build();
+        final Job job2 = anEnqueuedJob().withId().build();
+        job1.startProcessingOn(backgroundJobServer);
+        job2.startProcessingOn(backgroundJobServer);
+
+        jobSteward.addPrefetchedJobs(List.of(job1, job2));
+        jobSteward.processPrefetchedJobs();
+
+        verify(backgroundJobServer).processJob(job1);
+        verify(backgroundJobServer, never()).processJob(job2);
+        assertThat(jobSteward.getPrefetchedJobs()).containsExactly(job2);
+    }
+
+    @Test
+    void prefetchedJobsAreEnqueuedAgainWhenReleased() {
+        final Job job = anEnqueuedJob().withId().build();
+        job.startProcessingOn(backgroundJobServer);
+
+        jobSteward.addPrefetchedJobs(List.of(job));
+        jobSteward.releasePrefetchedJobs();
+
+        verify(storageProvider).save(List.of(job));
+        assertThat(job.getState()).isEqualTo(ENQUEUED);
+        assertThat(jobSteward.getPrefetchedJobCount()).isZero();
+    }
+
     private JobSteward initializeBackgroundJobServerWithJobSteward() {
         when(backgroundJobServer.isRunning()).thenReturn(true);
         when(backgroundJobServer.getStorageProvider()).thenReturn(storageProvider);
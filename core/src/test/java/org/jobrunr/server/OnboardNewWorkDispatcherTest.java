@@ -0,0 +1,54 @@
+package org.jobrunr.server;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class OnboardNewWorkDispatcherTest {
+
+    private final AtomicInteger amountOfOnboardings = new AtomicInteger();
+    private OnboardNewWorkDispatcher onboardNewWorkDispatcher;
+
+    @AfterEach
+    void stopDispatcher() {
+        onboardNewWorkDispatcher.stop();
+    }
+
+    @Test
+    void newWorkIsOnboardedAfterMaxDelayIfNotEnoughSignalsAreReceived() {
+        onboardNewWorkDispatcher = new OnboardNewWorkDispatcher(amountOfOnboardings::incrementAndGet, 10, Duration.ofMillis(50));
+        onboardNewWorkDispatcher.start();
+
+        onboardNewWorkDispatcher.signal();
+
+        await().atMost(1, SECONDS).untilAsserted(() -> assertThat(amountOfOnboardings).hasValue(1));
+    }
+
+    @Test
+    void signalsAreCoalescedIntoASingleOnboarding() {
+        onboardNewWorkDispatcher = new OnboardNewWorkDispatcher(amountOfOnboardings::incrementAndGet, 5, Duration.ofSeconds(10));
+        onboardNewWorkDispatcher.start();
+
+        for (int i = 0; i < 5; i++) {
+            onboardNewWorkDispatcher.signal();
+        }
+
+        await().atMost(1, SECONDS).untilAsserted(() -> assertThat(amountOfOnboardings).hasValue(1));
+        await().during(200, MILLISECONDS).untilAsserted(() -> assertThat(amountOfOnboardings).hasValue(1));
+    }
+
+    @Test
+    void noNewWorkIsOnboardedWithoutSignals() {
+        onboardNewWorkDispatcher = new OnboardNewWorkDispatcher(amountOfOnboardings::incrementAndGet, 1, Duration.ofMillis(10));
+        onboardNewWorkDispatcher.start();
+
+        await().during(200, MILLISECONDS).untilAsserted(() -> assertThat(amountOfOnboardings).hasValue(0));
+    }
+}
@@ -7,6 +7,7 @@ import io.micrometer.core.instrument.internal.DefaultGauge;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.jobrunr.JobRunrAssertions;
 import org.jobrunr.server.BackgroundJobServer;
+import org.jobrunr.server.JobSteward;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -30,10 +31,12 @@ class BackgroundJobServerMetricsBinderTest {
 
     BackgroundJobServer backgroundJobServer = ofBackgroundJobServer();
     SimpleMeterRegistry simpleMeterRegistry = Mockito.spy(new SimpleMeterRegistry());
+    JobSteward jobSteward = Mockito.mock(JobSteward.class);
 
     @BeforeEach
     void setUp() {
         when(backgroundJobServer.getId()).thenReturn(randomUUID());
+        when(backgroundJobServer.getJobSteward()).thenReturn(jobSteward);
     }
 
     @Test
@@ -42,7 +45,7 @@ class BackgroundJobServerMetricsBinderTest {
             verify(simpleMeterRegistry, times(2)).more();
 
             List<Meter> meters = simpleMeterRegistry.getMeters();
-            assertThat(meters).hasSize(10);
+            assertThat(meters).hasSize(13);
         }
     }
 
@@ -57,7 +60,7 @@ class BackgroundJobServerMetricsBinderTest {
                     .collect(toList());
 
             assertThat(gauges)
-                    .hasSize(8)
+                    .hasSize(9)
                     .allSatisfy(gauge -> {
                         Double value1 = gauge.value();
                         Double value2 = gauge.value();
@@ -77,13 +80,15 @@ class BackgroundJobServerMetricsBinderTest {
                 .withRunning(true)
                 .build();
         when(backgroundJobServer.getServerStatus()).thenReturn(serverStatus);
+        when(jobSteward.getAmountOfOnboardingClaims()).thenReturn(4L);
+        when(jobSteward.getAmountOfOnboardedJobs()).thenReturn(10L);
         try (var ignored1 = new BackgroundJobServerMetricsBinder(backgroundJobServer, simpleMeterRegistry)) {
 
             // WHEN
             List<Meter> meters = simpleMeterRegistry.getMeters();
 
             // THEN
-            assertThat(meters).hasSize(10);
+            assertThat(meters).hasSize(13);
 
             meters.forEach(meter -> JobRunrAssertions.assertThat(meter).hasIdWithTag("id", serverStatus.getId().toString()));
 
@@ -97,6 +102,9 @@ class BackgroundJobServerMetricsBinderTest {
             assertThat(getGauge(meters, "jobrunr.background-job-server.last-heartbeat").value()).isEqualTo((double) lastHeartBeat.getEpochSecond());
             assertThat(getGauge(meters, "jobrunr.background-job-server.system-cpu-load").value()).isEqualTo((double) serverStatus.getSystemCpuLoad());
             assertThat(getGauge(meters, "jobrunr.background-job-server.process-cpu-load").value()).isEqualTo((double) serverStatus.getProcessCpuLoad());
+            assertThat(getCounter(meters, "jobrunr.background-job-server.onboarding-claims").count()).isEqualTo(4);
+            assertThat(getCounter(meters, "jobrunr.background-job-server.onboarded-jobs").count()).isEqualTo(10);
+            assertThat(getGauge(meters, "jobrunr.background-job-server.onboarding-average-batch-size").value()).isEqualTo(2.5);
         }
     }
 
@@ -114,7 +122,7 @@ class BackgroundJobServerMetricsBinderTest {
             List<Meter> meters = simpleMeterRegistry.getMeters();
 
             // THEN
-            assertThat(meters).hasSize(10);
+            assertThat(meters).hasSize(13);
 
             meters.forEach(meter -> JobRunrAssertions.assertThat(meter).hasIdWithTag("id", serverStatus.getId().toString()));
 
@@ -0,0 +1,69 @@
+package org.jobrunr.server.strategy;
+
+import org.jobrunr.server.BackgroundJobServer;
+import org.jobrunr.server.JobSteward;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PrefetchingWorkDistributionStrategyTest {
+
+    @Mock
+    private BackgroundJobServer backgroundJobServer;
+    @Mock
+    private JobSteward jobSteward;
+    private PrefetchingWorkDistributionStrategy workDistributionStrategy;
+
+    @BeforeEach
+    void setUpWorkDistributionStrategy() {
+        lenient().when(backgroundJobServer.getJobSteward()).thenReturn(jobSteward);
+        workDistributionStrategy = new PrefetchingWorkDistributionStrategy(backgroundJobServer, 100, 1.5);
+    }
+
+    @Test
+    void onboardsWorkForAllWorkersAndTheBufferIfNothingIsOccupied() {
+        when(jobSteward.getOccupiedWorkerCount()).thenReturn(0);
+        when(jobSteward.getPrefetchedJobCount()).thenReturn(0);
+
+        assertThat(workDistributionStrategy.getWorkPageRequest().getLimit()).isEqualTo(150);
+    }
+
+    @Test
+    void doesNotOnboardWorkIfBufferIsMoreThanHalfFull() {
+        when(jobSteward.getOccupiedWorkerCount()).thenReturn(100);
+        when(jobSteward.getPrefetchedJobCount()).thenReturn(30);
+
+        assertThat(workDistributionStrategy.getWorkPageRequest().getLimit()).isEqualTo(0);
+    }
+
+    @Test
+    void refillsBufferIfItIsHalfEmpty() {
+        when(jobSteward.getOccupiedWorkerCount()).thenReturn(100);
+        when(jobSteward.getPrefetchedJobCount()).thenReturn(25);
+
+        assertThat(workDistributionStrategy.getWorkPageRequest().getLimit()).isEqualTo(25);
+    }
+
+    @Test
+    void onboardsWorkForIdleWorkersIfBufferIsEmpty() {
+        when(jobSteward.getOccupiedWorkerCount()).thenReturn(149);
+        when(jobSteward.getPrefetchedJobCount()).thenReturn(0);
+
+        assertThat(workDistributionStrategy.getWorkPageRequest().getLimit()).isEqualTo(1);
+    }
+
+    @Test
+    void prefetchFactorMustBeAtLeast1() {
+        assertThatThrownBy(() -> new PrefetchingWorkDistributionStrategy(backgroundJobServer, 100, 0.5))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("The prefetchFactor must be greater than or equal to 1");
+    }
+}
@@ -9,6 +9,7 @@ import org.jobrunr.storage.JobNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Instant;
 import java.util.Set;
 
 import static java.util.Collections.singletonList;
@@ -16,12 +17,15 @@ import static org.jobrunr.JobRunrAssertions.assertThat;
 import static org.jobrunr.jobs.JobTestBuilder.aCopyOf;
 import static org.jobrunr.jobs.JobTestBuilder.anEnqueuedJob;
 import static org.jobrunr.jobs.states.StateName.DELETED;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.anyList;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 class UpdateJobsInProgressTaskTest extends AbstractTaskTest {
@@ -48,6 +52,52 @@ class UpdateJobsInProgressTaskTest extends AbstractTaskTest {
         assertThat(processingState.getUpdatedAt()).isAfter(processingState.getCreatedAt());
     }
 
+    @Test
+    void jobsThatAreProcessedAreOnlyTouchedIfTheirMetadataDidNotChange() {
+        // GIVEN
+        final Job job = anEnqueuedJob().withId().build();
+        startProcessingJob(job);
+        runTask(task);
+
+        // WHEN
+        runTask(task);
+
+        // THEN
+        verify(storageProvider, times(1)).save(singletonList(job));
+        verify(storageProvider).touchProcessingJobs(eq(singletonList(job)), any(Instant.class));
+    }
+
+    @Test
+    void jobsThatAreProcessedAreSavedIfTheirMetadataChanged() {
+        // GIVEN
+        final Job job = anEnqueuedJob().withId().build();
+        startProcessingJob(job);
+        runTask(task);
+
+        // WHEN
+        job.getMetadata().put("some-key", "some-value");
+        runTask(task);
+
+        // THEN
+        verify(storageProvider, times(2)).save(singletonList(job));
+        verify(storageProvider, never()).touchProcessingJobs(anyList(), any(Instant.class));
+    }
+
+    @Test
+    void jobsThatAreProcessedAreSavedIfTheyCouldNotBeTouched() {
+        // GIVEN
+        final Job job = anEnqueuedJob().withId().build();
+        startProcessingJob(job);
+        runTask(task);
+        doReturn(0).when(storageProvider).touchProcessingJobs(anyList(), any(Instant.class));
+
+        // WHEN
+        runTask(task);
+
+        // THEN
+        verify(storageProvider, times(2)).save(singletonList(job));
+    }
+
     @Test
     void noExceptionIsThrownIfAJobHasSucceededWhileUpdateProcessingIsCalled() {
         // GIVEN
@@ -0,0 +1,55 @@
+package org.jobrunr.server.tasks.zookeeper;
+
+import org.jobrunr.server.tasks.AbstractTaskTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static java.time.Instant.now;
+import static java.time.temporal.ChronoUnit.SECONDS;
+import static org.assertj.core.api.Assertions.within;
+import static org.jobrunr.JobRunrAssertions.assertThat;
+import static org.jobrunr.jobs.states.StateName.DELETED;
+import static org.jobrunr.jobs.states.StateName.FAILED;
+import static org.jobrunr.jobs.states.StateName.SUCCEEDED;
+import static org.jobrunr.server.tasks.zookeeper.ArchiveJobsTask.ARCHIVE_JOBS_AFTER;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.assertArg;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class ArchiveJobsTaskTest extends AbstractTaskTest {
+
+    ArchiveJobsTask task;
+
+    @BeforeEach
+    void setUpTask() {
+        task = new ArchiveJobsTask(backgroundJobServer);
+    }
+
+    @Test
+    void testTask() {
+        runTask(task);
+
+        verify(storageProvider).archiveJobs(eq(SUCCEEDED), assertArg(x -> assertThat(x).isCloseTo(now().minus(ARCHIVE_JOBS_AFTER), within(5, SECONDS))), anyInt());
+        verify(storageProvider).archiveJobs(eq(FAILED), any(Instant.class), anyInt());
+        verify(storageProvider).archiveJobs(eq(DELETED), any(Instant.class), anyInt());
+    }
+
+    @Test
+    void taskArchivesJobsUntilLessThanAPageOfJobsIsArchived() {
+        int pageRequestSize = backgroundJobServer.getConfiguration().getSucceededJobsRequestSize();
+        doReturn(pageRequestSize, 5)
+                .when(storageProvider)
+                .archiveJobs(eq(SUCCEEDED), any(Instant.class), eq(pageRequestSize));
+
+        runTask(task);
+
+        verify(storageProvider, times(2)).archiveJobs(eq(SUCCEEDED), any(Instant.class), eq(pageRequestSize));
+        verify(storageProvider, times(1)).archiveJobs(eq(FAILED), any(Instant.class), eq(pageRequestSize));
+    }
+}
@@ -2,6 +2,7 @@ package org.jobrunr.server.tasks.zookeeper;
 
 import org.jobrunr.jobs.Job;
 import org.jobrunr.server.BackgroundJobServerConfiguration;
+import org.jobrunr.server.BackgroundJobServerConfigurationReader;
 import org.jobrunr.server.tasks.AbstractTaskTest;
 import org.jobrunr.stubs.TestServiceInterface;
 import org.jobrunr.utils.annotations.Because;
@@ -22,11 +23,15 @@ import static org.jobrunr.jobs.JobDetailsTestBuilder.jobDetails;
 import static org.jobrunr.jobs.JobDetailsTestBuilder.methodThatDoesNotExistJobDetails;
 import static org.jobrunr.jobs.JobTestBuilder.aSucceededJob;
 import static org.jobrunr.jobs.states.StateName.SUCCEEDED;
+import static org.jobrunr.server.BackgroundJobServerConfiguration.usingStandardBackgroundJobServerConfiguration;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.assertArg;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 class DeleteSucceededJobsTaskTest extends AbstractTaskTest {
@@ -104,6 +109,22 @@ class DeleteSucceededJobsTaskTest extends AbstractTaskTest {
         verify(storageProvider).publishTotalAmountOfSucceededJobs(1);
     }
 
+    @Test
+    void taskMovesSucceededJobsToDeletedStateInBulkIfEnabled() {
+        int pageRequestSize = backgroundJobServer.getConfiguration().getSucceededJobsRequestSize();
+        doReturn(pageRequestSize, 5)
+                .when(storageProvider)
+                .deleteSucceededJobs(any(Instant.class), eq(pageRequestSize));
+
+        runTask(task, new BackgroundJobServerConfigurationReader(usingStandardBackgroundJobServerConfiguration()
+                .andDeleteSucceededJobsAfter(Duration.ofDays(2))
+                .andDeleteSucceededJobsInBulk(true)));
+
+        verify(storageProvider, times(2)).deleteSucceededJobs(assertArg(x -> assertThat(x).isCloseTo(now().minus(Duration.ofDays(2)), within(5, SECONDS))), anyInt());
+        verify(storageProvider, never()).getJobList(eq(SUCCEEDED), any(Instant.class), any());
+        verify(storageProvider).publishTotalAmountOfSucceededJobs(pageRequestSize + 5);
+    }
+
     private void whenGetJobsToDeleteThenReturn(List<Job> jobs) {
         doReturn(jobs, Collections.<Job>emptyList())
                 .when(storageProvider)
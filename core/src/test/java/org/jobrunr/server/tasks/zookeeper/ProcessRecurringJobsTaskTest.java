@@ -32,6 +32,7 @@ import static org.jobrunr.jobs.states.StateName.ENQUEUED;
 import static org.jobrunr.jobs.states.StateName.PROCESSING;
 import static org.jobrunr.jobs.states.StateName.SCHEDULED;
 import static org.jobrunr.utils.SleepUtils.sleep;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -45,6 +46,7 @@ import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -89,9 +91,10 @@ class ProcessRecurringJobsTaskTest extends AbstractTaskTest {
         RecurringJob recurringJob2 = aDefaultRecurringJob().withCronExpression("*/5 * * * * *").build();
         storageProvider.saveRecurringJob(recurringJob2);
 
-        runTask(task); // reload as recurring jobs updated
+        runTask(task); // only load the changes as recurring jobs updated
         verify(storageProvider, times(3)).recurringJobsUpdated(anyLong());
-        verify(storageProvider, times(2)).getRecurringJobs();
+        verify(storageProvider, times(2)).getRecurringJobsChangedSince(any());
+        verify(storageProvider, times(1)).getRecurringJobs();
     }
 
     @Test
@@ -295,6 +298,29 @@ class ProcessRecurringJobsTaskTest extends AbstractTaskTest {
         }
     }
 
+    @Test
+    void taskOnlyEvaluatesRecurringJobsThatAreDue() {
+        RecurringJob minutelyRecurringJob = spy(aDefaultRecurringJob().withId("minutely").withCronExpression(Cron.minutely()).build());
+        RecurringJob dailyRecurringJob = spy(aDefaultRecurringJob().withId("daily").withCronExpression(Cron.daily()).build());
+
+        when(storageProvider.recurringJobsUpdated(anyLong())).thenReturn(true, false);
+        when(storageProvider.getRecurringJobs()).thenReturn(new RecurringJobsResult(List.of(minutelyRecurringJob, dailyRecurringJob)));
+
+        try (MockedStatic<Instant> ignored = mockTime(FIXED_INSTANT_RIGHT_BEFORE_THE_MINUTE.minus(pollInterval()))) {
+            runTask(task);
+
+            verify(minutelyRecurringJob, times(1)).toScheduledJobs(any(), any());
+            verify(dailyRecurringJob, times(1)).toScheduledJobs(any(), any());
+        }
+
+        try (MockedStatic<Instant> ignored = mockTime(FIXED_INSTANT_RIGHT_BEFORE_THE_MINUTE.plusSeconds(60))) {
+            runTask(task);
+
+            verify(minutelyRecurringJob, times(2)).toScheduledJobs(any(), any());
+            verify(dailyRecurringJob, times(1)).toScheduledJobs(any(), any());
+        }
+    }
+
     @Test
     void taskDoesNotLogInfoMessageIfJobIsScheduledButYetToPassTheNextScheduledInstant() {
         RecurringJob recurringJob = aDefaultRecurringJob().withCronExpression(Cron.minutely()).build();
@@ -0,0 +1,42 @@
+package org.jobrunr.server.tasks.zookeeper;
+
+import org.jobrunr.server.tasks.AbstractTaskTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.jobrunr.server.tasks.zookeeper.ReconcileJobStatsTask.RECONCILE_INTERVAL;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.internal.util.reflection.Whitebox.setInternalState;
+
+class ReconcileJobStatsTaskTest extends AbstractTaskTest {
+
+    ReconcileJobStatsTask task;
+
+    @BeforeEach
+    void setUpTask() {
+        task = new ReconcileJobStatsTask(backgroundJobServer);
+    }
+
+    @Test
+    void testTask() {
+        runTask(task);
+
+        verify(storageProvider).reconcileJobStats();
+    }
+
+    @Test
+    void taskOnlyReconcilesOncePerReconcileInterval() {
+        runTask(task);
+        runTask(task);
+
+        verify(storageProvider, times(1)).reconcileJobStats();
+
+        setInternalState(task, "lastReconciliation", Instant.now().minus(RECONCILE_INTERVAL).minusSeconds(1));
+        runTask(task);
+
+        verify(storageProvider, times(2)).reconcileJobStats();
+    }
+}
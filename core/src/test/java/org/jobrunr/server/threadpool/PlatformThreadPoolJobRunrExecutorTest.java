@@ -7,6 +7,7 @@ import org.junit.jupiter.api.Test;
 import java.time.Duration;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
@@ -55,6 +56,26 @@ class PlatformThreadPoolJobRunrExecutorTest {
         assertThat(platformThreadPoolJobRunrExecutor).hasExecutorWithCorePoolSize(2);
     }
 
+    @Test
+    void testPlatformThreadPoolJobRunrExecutorCanScheduleTasksWithAdaptiveDelay() {
+        // GIVEN
+        MyRunnable myRunnable = new MyRunnable(1);
+        AtomicInteger delayRequests = new AtomicInteger();
+
+        // WHEN
+        platformThreadPoolJobRunrExecutor.scheduleWithAdaptiveDelay(myRunnable, Duration.ZERO, () -> delayRequests.incrementAndGet() < 3 ? Duration.ofMillis(10) : Duration.ofHours(1));
+
+        // THEN
+        await().atMost(2, TimeUnit.SECONDS).until(() -> myRunnable.invocationCount == 3);
+        await().during(1, TimeUnit.SECONDS).until(() -> myRunnable.invocationCount == 3);
+
+        // WHEN
+        platformThreadPoolJobRunrExecutor.cancelScheduledFuturesOfType(MyRunnable.class);
+
+        // THEN
+        assertThat(platformThreadPoolJobRunrExecutor).hasExecutorWithCorePoolSize(2);
+    }
+
     @Test
     void testPlatformThreadPoolJobRunrExecutorCanCancelTasksAndReducePoolSize() {
         // GIVEN
@@ -8,6 +8,7 @@ import org.jobrunr.storage.listeners.BackgroundJobServerStatusChangeListener;
 import org.jobrunr.storage.listeners.JobChangeListener;
 import org.jobrunr.storage.listeners.JobStatsChangeListener;
 import org.jobrunr.storage.listeners.MetadataChangeListener;
+import org.jobrunr.storage.listeners.NewWorkAvailableListener;
 import org.jobrunr.utils.SleepUtils;
 import org.jobrunr.utils.mapper.jackson.JacksonJsonMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -23,6 +24,7 @@ import java.util.UUID;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.time.Instant.now;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -192,6 +194,19 @@ class AbstractStorageProviderTest {
         assertThat(schedulerAfterClosingStorageProvider.isShutdown()).isTrue();
     }
 
+    @Test
+    void newWorkAvailableListenersDoNotStartTheSchedulerAndAreNotifiedOnDemand() {
+        final AtomicInteger notificationCounter = new AtomicInteger();
+        final NewWorkAvailableListener changeListener = notificationCounter::incrementAndGet;
+
+        storageProvider.addJobStorageOnChangeListener(changeListener);
+        final ScheduledThreadPoolExecutor schedulerAfterAddingChangeListener = getInternalState(storageProvider, "scheduler");
+        assertThat(schedulerAfterAddingChangeListener).isNull();
+
+        storageProvider.notifyNewWorkAvailableListeners();
+        assertThat(notificationCounter).hasValue(1);
+    }
+
     private static class BackgroundJobServerStatusChangeListenerForTest implements BackgroundJobServerStatusChangeListener {
 
         private List<BackgroundJobServerStatus> changedServerStates;
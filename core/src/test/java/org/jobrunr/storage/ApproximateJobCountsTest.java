@@ -0,0 +1,51 @@
+package org.jobrunr.storage;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.jobrunr.jobs.states.StateName.ENQUEUED;
+import static org.jobrunr.jobs.states.StateName.SUCCEEDED;
+import static org.jobrunr.storage.CountPrecision.APPROXIMATE_COUNT_THRESHOLD;
+
+class ApproximateJobCountsTest {
+
+    @Test
+    void amountsBelowTheThresholdAreAlwaysCountedAgain() {
+        ApproximateJobCounts approximateJobCounts = new ApproximateJobCounts(Duration.ofMinutes(1));
+        AtomicLong amountOfJobs = new AtomicLong(5);
+
+        assertThat(approximateJobCounts.countJobs(ENQUEUED, state -> JobCount.exactly(amountOfJobs.get())).getAmount()).isEqualTo(5);
+        amountOfJobs.set(6);
+        assertThat(approximateJobCounts.countJobs(ENQUEUED, state -> JobCount.exactly(amountOfJobs.get())).getAmount()).isEqualTo(6);
+    }
+
+    @Test
+    void amountsAboveTheThresholdAreKeptUntilTheyExpire() {
+        ApproximateJobCounts approximateJobCounts = new ApproximateJobCounts(Duration.ofMinutes(1));
+        AtomicLong amountOfCounts = new AtomicLong();
+
+        assertThat(approximateJobCounts.countJobs(SUCCEEDED, state -> JobCount.exactly(APPROXIMATE_COUNT_THRESHOLD + amountOfCounts.incrementAndGet())).getAmount()).isEqualTo(APPROXIMATE_COUNT_THRESHOLD + 1);
+        assertThat(approximateJobCounts.countJobs(SUCCEEDED, state -> JobCount.exactly(APPROXIMATE_COUNT_THRESHOLD + amountOfCounts.incrementAndGet())).getAmount()).isEqualTo(APPROXIMATE_COUNT_THRESHOLD + 1);
+        assertThat(amountOfCounts).hasValue(1);
+    }
+
+    @Test
+    void expiredAmountsAreCountedAgain() {
+        ApproximateJobCounts approximateJobCounts = new ApproximateJobCounts(Duration.ZERO);
+        AtomicLong amountOfCounts = new AtomicLong();
+
+        approximateJobCounts.countJobs(SUCCEEDED, state -> JobCount.exactly(APPROXIMATE_COUNT_THRESHOLD + amountOfCounts.incrementAndGet()));
+        assertThat(approximateJobCounts.countJobs(SUCCEEDED, state -> JobCount.exactly(APPROXIMATE_COUNT_THRESHOLD + amountOfCounts.incrementAndGet())).getAmount()).isEqualTo(APPROXIMATE_COUNT_THRESHOLD + 2);
+    }
+
+    @Test
+    void keptAmountsAreApproximations() {
+        ApproximateJobCounts approximateJobCounts = new ApproximateJobCounts(Duration.ofMinutes(1));
+
+        assertThat(approximateJobCounts.countJobs(SUCCEEDED, state -> JobCount.exactly(APPROXIMATE_COUNT_THRESHOLD)).isApproximate()).isFalse();
+        assertThat(approximateJobCounts.countJobs(SUCCEEDED, state -> JobCount.exactly(APPROXIMATE_COUNT_THRESHOLD)).isApproximate()).isTrue();
+    }
+}
@@ -0,0 +1,92 @@
+package org.jobrunr.storage.navigation;
+
+import org.jobrunr.jobs.Job;
+import org.jobrunr.storage.Page;
+import org.jobrunr.storage.Paging;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.jobrunr.jobs.JobTestBuilder.aJob;
+import static org.jobrunr.jobs.JobTestBuilder.aSucceededJob;
+
+class CursorBasedPageRequestTest {
+
+    @Test
+    void testCursorBasedPageRequestWithEmptyString() {
+        CursorBasedPageRequest cursorBasedPageRequest = CursorBasedPageRequest.fromString("");
+
+        assertThat(cursorBasedPageRequest).isNull();
+    }
+
+    @Test
+    void testCursorBasedPageRequestWithoutCursorFromAndToString() {
+        CursorBasedPageRequest cursorBasedPageRequest = CursorBasedPageRequest.fromString("order=updatedAt:DESC&limit=10");
+
+        assertThat(cursorBasedPageRequest)
+                .hasFieldOrPropertyWithValue("order", "updatedAt:DESC")
+                .hasFieldOrPropertyWithValue("limit", 10)
+                .hasFieldOrPropertyWithValue("cursor", null);
+        assertThat(cursorBasedPageRequest.getSeekOrderTerm())
+                .hasFieldOrPropertyWithValue("fieldName", "updatedAt")
+                .hasFieldOrPropertyWithValue("order", OrderTerm.Order.DESC);
+
+        assertThat(cursorBasedPageRequest.asString()).isEqualTo("order=updatedAt:DESC&limit=10");
+    }
+
+    @Test
+    void testCursorBasedPageRequestUsesUpdatedAtAscIfNoAllowedOrderIsGiven() {
+        CursorBasedPageRequest cursorBasedPageRequest = new CursorBasedPageRequest("jobName:DESC", null, 10);
+
+        assertThat(cursorBasedPageRequest.getSeekOrderTerm())
+                .hasFieldOrPropertyWithValue("fieldName", "updatedAt")
+                .hasFieldOrPropertyWithValue("order", OrderTerm.Order.ASC);
+    }
+
+    @Test
+    void testCursorBasedPageRequestNextPageWorks() {
+        CursorBasedPageRequest cursorBasedPageRequest = Paging.CursorBasedPage.ascOnUpdatedAt(2);
+        Job job1 = aJob().withEnqueuedState(Instant.parse("2024-01-01T10:00:00Z")).build();
+        Job job2 = aJob().withEnqueuedState(Instant.parse("2024-01-01T10:00:05.123456Z")).build();
+
+        Page<Job> jobPage1 = cursorBasedPageRequest.mapToNewPage(50, asList(job1, job2));
+        CursorBasedPageRequest page2CursorBasedPageRequest = Paging.CursorBasedPage.next(jobPage1);
+
+        assertThat(jobPage1.hasPreviousPage()).isFalse();
+        assertThat(page2CursorBasedPageRequest)
+                .hasFieldOrPropertyWithValue("order", "updatedAt:ASC")
+                .hasFieldOrPropertyWithValue("limit", 2)
+                .hasFieldOrPropertyWithValue("cursorValue", Instant.parse("2024-01-01T10:00:05.123456Z"))
+                .hasFieldOrPropertyWithValue("cursorId", job2.getId());
+        assertThat(page2CursorBasedPageRequest.isAfterCursor(job1)).isFalse();
+        assertThat(page2CursorBasedPageRequest.isAfterCursor(job2)).isFalse();
+        assertThat(page2CursorBasedPageRequest.isAfterCursor(aJob().withEnqueuedState(Instant.parse("2024-01-01T10:00:06Z")).build())).isTrue();
+    }
+
+    @Test
+    void testCursorBasedPageRequestHasNoNextPageIfPageIsNotFull() {
+        Page<Job> jobPage = Paging.CursorBasedPage.ascOnUpdatedAt(2).mapToNewPage(50, singletonList(aJob().withEnqueuedState(Instant.now()).build()));
+
+        assertThat(jobPage.hasNextPage()).isFalse();
+    }
+
+    @Test
+    void testCursorBasedPageRequestHasNoNextPageIfOrderTermHasNoValue() {
+        Page<Job> jobPage = Paging.CursorBasedPage.ascOnScheduledAt(1).mapToNewPage(50, singletonList(aSucceededJob().build()));
+
+        assertThat(jobPage.hasNextPage()).isFalse();
+    }
+
+    @Test
+    void testCursorBasedPageRequestWithInvalidCursor() {
+        assertThatThrownBy(() -> new CursorBasedPageRequest("updatedAt:ASC", "not-a-cursor", 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new CursorBasedPageRequest("updatedAt:ASC", "bm90LWFuLWluc3RhbnR8bm90LWFuLWlk", 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Invalid cursor");
+    }
+}
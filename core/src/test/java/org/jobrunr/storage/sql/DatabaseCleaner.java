@@ -25,8 +25,12 @@ public class DatabaseCleaner {
         boolean exceptionExpected = testMethodIndex == 0;
         drop("view " + tableNamePrefix + "jobrunr_jobs_stats", exceptionExpected);
         drop("table " + tableNamePrefix + "jobrunr_recurring_jobs", exceptionExpected);
+        drop("table " + tableNamePrefix + "jobrunr_recurring_job_tombstones", exceptionExpected);
         drop("table " + tableNamePrefix + "jobrunr_job_counters", true);
+        drop("table " + tableNamePrefix + "jobrunr_job_state_counters", exceptionExpected);
+        drop("table " + tableNamePrefix + "jobrunr_job_states", exceptionExpected);
         drop("table " + tableNamePrefix + "jobrunr_jobs", exceptionExpected);
+        drop("table " + tableNamePrefix + "jobrunr_jobs_archive", exceptionExpected);
         drop("table " + tableNamePrefix + "jobrunr_backgroundjobservers", exceptionExpected);
         drop("table " + tableNamePrefix + "jobrunr_metadata", exceptionExpected);
         drop("table " + tableNamePrefix + "jobrunr_migrations", exceptionExpected);
@@ -34,8 +38,12 @@ public class DatabaseCleaner {
 
     public void deleteAllDataInTables() {
         delete("from " + tableNamePrefix + "jobrunr_recurring_jobs");
+        delete("from " + tableNamePrefix + "jobrunr_recurring_job_tombstones");
         delete("from " + tableNamePrefix + "jobrunr_job_counters", true);
+        update(tableNamePrefix + "jobrunr_job_state_counters set amount = 0");
+        delete("from " + tableNamePrefix + "jobrunr_job_states");
         delete("from " + tableNamePrefix + "jobrunr_jobs");
+        delete("from " + tableNamePrefix + "jobrunr_jobs_archive");
         delete("from " + tableNamePrefix + "jobrunr_backgroundjobservers");
         delete("from " + tableNamePrefix + "jobrunr_metadata");
         insertInitialData();
@@ -49,6 +57,10 @@ public class DatabaseCleaner {
         doInTransaction(statement -> statement.executeUpdate("delete " + name), exceptionExpected, "Error deleting from " + name);
     }
 
+    private void update(String name) {
+        doInTransaction(statement -> statement.executeUpdate("update " + name), false, "Error updating " + name);
+    }
+
     private void drop(String name, boolean exceptionExpected) {
         doInTransaction(statement -> statement.executeUpdate("drop " + name), exceptionExpected, "Error dropping " + name);
     }
@@ -57,6 +69,9 @@ public class DatabaseCleaner {
         doInTransaction(statement -> statement
                         .executeUpdate("insert into " + tableNamePrefix + "jobrunr_metadata values ('succeeded-jobs-counter-cluster', 'succeeded-jobs-counter', 'cluster', '0', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)"),
                 false, "Error inserting initial data");
+        doInTransaction(statement -> statement
+                        .executeUpdate("insert into " + tableNamePrefix + "jobrunr_metadata values ('recurring-jobs-version-cluster', 'recurring-jobs-version', 'cluster', '0', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)"),
+                false, "Error inserting initial data");
     }
 
     private void doInTransaction(Exceptions.ThrowingConsumer<Statement> inTransaction, boolean exceptionExpected, String errorMsg) {
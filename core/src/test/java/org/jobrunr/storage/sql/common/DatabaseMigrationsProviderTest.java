@@ -60,6 +60,16 @@ class DatabaseMigrationsProviderTest {
         assertThat(databaseSpecificMigrations).anyMatch(migration -> contains(migration, "DATETIME(6)"));
     }
 
+    @Test
+    void testNativeUUIDMigrationsAreOnlyReturnedForTheOptInMigrationsDirectory() {
+        final DatabaseMigrationsProvider databaseMigrationsProvider = new DatabaseMigrationsProvider(MariaDbStorageProviderStub.class);
+
+        assertThat(databaseMigrationsProvider.getMigrations()).noneMatch(migration -> migration.getFileName().startsWith("native_uuid_"));
+        assertThat(databaseMigrationsProvider.getMigrations("native-uuid-migrations"))
+                .isNotEmpty()
+                .allMatch(migration -> contains(migration, "BINARY(16)"));
+    }
+
     private boolean contains(SqlMigration migration, String toContain) {
         try {
             return migration.getMigrationSql().contains(toContain);
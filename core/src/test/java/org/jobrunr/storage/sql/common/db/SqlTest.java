@@ -10,8 +10,14 @@ import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.List;
+import java.util.stream.IntStream;
 
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.jobrunr.jobs.JobTestBuilder.anEnqueuedJob;
 
 class SqlTest {
 
@@ -47,6 +53,66 @@ class SqlTest {
         }
     }
 
+    @Test
+    void statementsWithInClauseAreCachedForDifferentValuesAndAmountsOfValues() throws SQLException {
+        DataSource dataSource = getH2DataSource("with-in-clause");
+        Dialect dialect = new H2Dialect();
+
+        try (Connection connection = dataSource.getConnection()) {
+            TestSql testSql = new TestSql(connection, dialect, null);
+            assertThat(testSql.aCachedSelectStatementWithAnInClauseThatReturnsTheCount(asList(1, 2))).isEqualTo(1L);
+            assertThat(testSql.aCachedSelectStatementWithAnInClauseThatReturnsTheCount(asList(3, 4))).isEqualTo(0L);
+            assertThat(testSql.aCachedSelectStatementWithAnInClauseThatReturnsTheCount(asList(1, 5, 6))).isEqualTo(1L);
+            assertThat(testSql.parseStatementCounter).isEqualTo(1L);
+        }
+    }
+
+    @Test
+    void batchStatementsResolveTheParamsOfEveryRow() throws SQLException {
+        DataSource dataSource = getH2DataSource("batch");
+        Dialect dialect = new H2Dialect();
+
+        try (Connection connection = dataSource.getConnection()) {
+            TestSql testSql = new TestSql(connection, dialect, null);
+            testSql.insertAllUsingVersionAsId(asList(anEnqueuedJob().withVersion(2).build(), anEnqueuedJob().withVersion(3).build()));
+
+            assertThat(testSql.selectCount("from jobrunr_jobs where jobSignature = 'batch'")).isEqualTo(2L);
+            assertThat(testSql.selectCount("from jobrunr_jobs where ID in (2, 3)")).isEqualTo(2L);
+        }
+    }
+
+    @Test
+    void multiRowInsertsInsertAllRowsInChunks() throws SQLException {
+        DataSource dataSource = getH2DataSource("multi-row-insert");
+        Dialect dialect = new H2Dialect();
+
+        try (Connection connection = dataSource.getConnection()) {
+            TestSql testSql = new TestSql(connection, dialect, null);
+            List<Job> jobs = IntStream.rangeClosed(2, 1001).mapToObj(version -> anEnqueuedJob().withVersion(version).build()).collect(toList());
+            testSql.insertAllUsingMultiRowInsertsUsingVersionAsId(jobs);
+
+            assertThat(testSql.selectCount("from jobrunr_jobs")).isEqualTo(1001L);
+            assertThat(testSql.selectCount("from jobrunr_jobs where jobSignature = 'multi-row'")).isEqualTo(1000L);
+        }
+    }
+
+    @Test
+    void multiRowInsertsInsertAllRowsExceptTheExistingOnesAndThrowConcurrentSqlModificationExceptionWithTheExistingOnes() throws SQLException {
+        DataSource dataSource = getH2DataSource("multi-row-insert-duplicate");
+        Dialect dialect = new H2Dialect();
+
+        try (Connection connection = dataSource.getConnection()) {
+            TestSql testSql = new TestSql(connection, dialect, null);
+            List<Job> jobs = IntStream.rangeClosed(2, 600).mapToObj(version -> anEnqueuedJob().withVersion(version).build()).collect(toList());
+            jobs.add(anEnqueuedJob().withVersion(1).build());
+
+            assertThatThrownBy(() -> testSql.insertAllUsingMultiRowInsertsUsingVersionAsId(jobs))
+                    .isInstanceOf(ConcurrentSqlModificationException.class)
+                    .satisfies(e -> assertThat(((ConcurrentSqlModificationException) e).getFailedItems()).containsExactly(jobs.get(599)));
+            assertThat(testSql.selectCount("from jobrunr_jobs where jobSignature = 'multi-row'")).isEqualTo(599L);
+        }
+    }
+
     static class TestSql extends Sql<Job> {
 
         int parseStatementCounter = 0;
@@ -59,6 +125,18 @@ class SqlTest {
             return selectCount("from jobrunr_jobs");
         }
 
+        void insertAllUsingVersionAsId(List<Job> jobs) throws SQLException {
+            with("jobSignature", "batch").insertAll(jobs, "into jobrunr_jobs (ID, jobSignature) values (:version, :jobSignature)");
+        }
+
+        void insertAllUsingMultiRowInsertsUsingVersionAsId(List<Job> jobs) throws SQLException {
+            with("jobSignature", "multi-row").insertAllUsingMultiRowInserts(jobs, "into jobrunr_jobs (ID, jobSignature) values (:version, :jobSignature)");
+        }
+
+        long aCachedSelectStatementWithAnInClauseThatReturnsTheCount(List<Integer> ids) throws SQLException {
+            return selectCount("from jobrunr_jobs where ID in (" + withInClause("id", ids) + ")");
+        }
+
         @Override
         protected SqlStatement parseStatement(String query) {
             parseStatementCounter++;
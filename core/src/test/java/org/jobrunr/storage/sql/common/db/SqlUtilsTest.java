@@ -4,10 +4,12 @@ import org.jobrunr.jobs.Job;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.UUID;
 
 import static java.sql.Statement.EXECUTE_FAILED;
 import static java.sql.Statement.SUCCESS_NO_INFO;
 import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.jobrunr.JobRunrAssertions.assertThatJobs;
 import static org.jobrunr.jobs.JobTestBuilder.aJobInProgress;
 
@@ -79,4 +81,15 @@ class SqlUtilsTest {
                 .hasSize(2)
                 .contains(job5, job6);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testUUIDToBytesAndBack() {
+        UUID uuid = UUID.fromString("0192f1d2-7b3c-7e4f-8a5b-6c7d8e9fa0b1");
+
+        byte[] bytes = SqlUtils.uuidToBytes(uuid);
+
+        assertThat(bytes).hasSize(16).startsWith((byte) 0x01, (byte) 0x92).endsWith((byte) 0xa0, (byte) 0xb1);
+        assertThat(SqlUtils.uuidFromBytes(bytes)).isEqualTo(uuid);
+        assertThat(SqlUtils.uuidFromBytes(null)).isNull();
+    }
+}
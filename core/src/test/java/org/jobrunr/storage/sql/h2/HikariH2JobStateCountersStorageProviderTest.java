@@ -0,0 +1,53 @@
+package org.jobrunr.storage.sql.h2;
+
+import org.jobrunr.JobRunrException;
+import org.jobrunr.jobs.mappers.JobMapper;
+import org.jobrunr.storage.StorageProvider;
+import org.jobrunr.storage.StorageProviderUtils.DatabaseOptions;
+import org.jobrunr.storage.sql.common.DefaultSqlStorageProvider;
+import org.jobrunr.storage.sql.common.SqlStorageProviderFactory;
+import org.jobrunr.utils.mapper.jackson.JacksonJsonMapper;
+import org.junit.jupiter.api.Test;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.jobrunr.jobs.JobTestBuilder.aSucceededJob;
+import static org.jobrunr.jobs.JobTestBuilder.anEnqueuedJob;
+import static org.jobrunr.storage.sql.SqlTestUtils.doInTransaction;
+import static org.jobrunr.utils.resilience.RateLimiter.Builder.rateLimit;
+
+class HikariH2JobStateCountersStorageProviderTest extends HikariH2StorageProviderTest {
+
+    @Override
+    protected StorageProvider getStorageProvider() {
+        final DefaultSqlStorageProvider storageProvider = (DefaultSqlStorageProvider) SqlStorageProviderFactory.using(getDataSource(), null, DatabaseOptions.CREATE, rateLimit().withoutLimits());
+        storageProvider.setJobStateCountersEnabled(true);
+        storageProvider.setJobMapper(new JobMapper(new JacksonJsonMapper()));
+        return storageProvider;
+    }
+
+    @Test
+    void jobStateCountersAreReconciledWithTheActualJobs() throws Exception {
+        storageProvider.save(asList(anEnqueuedJob().build(), anEnqueuedJob().build(), aSucceededJob().build()));
+        doInTransaction(getDataSource(), statement -> statement.executeUpdate("update jobrunr_job_state_counters set amount = 0"));
+        assertThat(storageProvider.getJobStats().getEnqueued()).isZero();
+
+        storageProvider.reconcileJobStats();
+
+        assertThat(storageProvider.getJobStats().getEnqueued()).isEqualTo(2);
+        assertThat(storageProvider.getJobStats().getSucceeded()).isEqualTo(1);
+        assertThat(storageProvider.getJobStats().getTotal()).isEqualTo(3);
+    }
+
+    @Test
+    void storageProviderIsRejectedIfTheJobStateCountersAreEnabledByOtherApplications() {
+        final DefaultSqlStorageProvider storageProviderWithoutJobStateCounters = (DefaultSqlStorageProvider) SqlStorageProviderFactory.using(getDataSource(), null, DatabaseOptions.CREATE, rateLimit().withoutLimits());
+
+        assertThatThrownBy(() -> storageProviderWithoutJobStateCounters.setJobMapper(new JobMapper(new JacksonJsonMapper())))
+                .isInstanceOf(JobRunrException.class)
+                .hasMessageContaining("[job-state-counters]");
+        assertThatThrownBy(() -> storageProviderWithoutJobStateCounters.setJobStateCountersEnabled(false))
+                .isInstanceOf(JobRunrException.class);
+    }
+}
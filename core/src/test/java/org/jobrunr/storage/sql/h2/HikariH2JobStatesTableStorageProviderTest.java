@@ -0,0 +1,86 @@
+package org.jobrunr.storage.sql.h2;
+
+import org.jobrunr.jobs.Job;
+import org.jobrunr.jobs.mappers.JobMapper;
+import org.jobrunr.storage.StorageProvider;
+import org.jobrunr.storage.StorageProviderUtils.DatabaseOptions;
+import org.jobrunr.storage.sql.common.DefaultSqlStorageProvider;
+import org.jobrunr.storage.sql.common.SqlStorageProviderFactory;
+import org.jobrunr.utils.mapper.jackson.JacksonJsonMapper;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.jobrunr.JobRunrAssertions.assertThat;
+import static org.jobrunr.jobs.JobTestBuilder.aJobInProgress;
+import static org.jobrunr.jobs.states.StateName.ENQUEUED;
+import static org.jobrunr.jobs.states.StateName.PROCESSING;
+import static org.jobrunr.jobs.states.StateName.SUCCEEDED;
+import static org.jobrunr.utils.resilience.RateLimiter.Builder.rateLimit;
+
+class HikariH2JobStatesTableStorageProviderTest extends HikariH2StorageProviderTest {
+
+    @Override
+    protected StorageProvider getStorageProvider() {
+        final DefaultSqlStorageProvider storageProvider = (DefaultSqlStorageProvider) SqlStorageProviderFactory.using(getDataSource(), null, DatabaseOptions.CREATE, rateLimit().withoutLimits());
+        storageProvider.setJobStatesTableEnabled(true);
+        storageProvider.setJobMapper(new JobMapper(new JacksonJsonMapper()));
+        return storageProvider;
+    }
+
+    @Test
+    void jobStatesAreAppendedToTheJobStatesTable() throws SQLException {
+        Job job = storageProvider.save(aJobInProgress().build());
+        assertThat(countJobStates()).isEqualTo(2);
+
+        job.succeeded();
+        storageProvider.save(job);
+
+        assertThat(countJobStates()).isEqualTo(3);
+        assertThat(selectJobAsJson(job)).doesNotContain("ENQUEUED");
+        assertThat(storageProvider.getJobById(job.getId())).hasStates(ENQUEUED, PROCESSING, SUCCEEDED);
+    }
+
+    @Test
+    void currentStateOfLoadedJobIsTakenFromJobAsJson() throws SQLException {
+        Job job = storageProvider.save(aJobInProgress().build());
+        job.updateProcessing();
+        storageProvider.save(job);
+
+        Job loadedJob = storageProvider.getJobById(job.getId());
+        assertThat(loadedJob).hasStates(ENQUEUED, PROCESSING);
+        assertThat(loadedJob.getUpdatedAt()).isEqualTo(job.getUpdatedAt());
+
+        loadedJob.succeeded();
+        storageProvider.save(loadedJob);
+
+        assertThat(countJobStates()).isEqualTo(3);
+        assertThat(storageProvider.getJobById(job.getId())).hasStates(ENQUEUED, PROCESSING, SUCCEEDED);
+    }
+
+    @Test
+    void jobStatesAreDeletedWhenJobIsDeletedPermanently() throws SQLException {
+        Job job = storageProvider.save(aJobInProgress().build());
+
+        storageProvider.deletePermanently(job.getId());
+
+        assertThat(countJobStates()).isZero();
+    }
+
+    private long countJobStates() throws SQLException {
+        try (Connection connection = getDataSource().getConnection(); Statement statement = connection.createStatement(); ResultSet resultSet = statement.executeQuery("select count(*) from jobrunr_job_states")) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private String selectJobAsJson(Job job) throws SQLException {
+        try (Connection connection = getDataSource().getConnection(); Statement statement = connection.createStatement(); ResultSet resultSet = statement.executeQuery("select jobAsJson from jobrunr_jobs where id = '" + job.getId() + "'")) {
+            resultSet.next();
+            return resultSet.getString(1);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package org.jobrunr.storage.sql.h2;
+
+import org.jobrunr.jobs.Job;
+import org.jobrunr.jobs.mappers.JobMapper;
+import org.jobrunr.storage.ConcurrentJobModificationException;
+import org.jobrunr.storage.StorageProvider;
+import org.jobrunr.storage.StorageProviderUtils.DatabaseOptions;
+import org.jobrunr.storage.sql.common.DefaultSqlStorageProvider;
+import org.jobrunr.storage.sql.common.SqlStorageProviderFactory;
+import org.jobrunr.utils.mapper.jackson.JacksonJsonMapper;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static java.time.Instant.now;
+import static org.jobrunr.JobRunrAssertions.assertThat;
+import static org.jobrunr.JobRunrAssertions.assertThatJobs;
+import static org.jobrunr.JobRunrAssertions.assertThatThrownBy;
+import static org.jobrunr.jobs.JobTestBuilder.aFailedJob;
+import static org.jobrunr.jobs.JobTestBuilder.aSucceededJob;
+import static org.jobrunr.jobs.JobTestBuilder.anEnqueuedJob;
+import static org.jobrunr.jobs.states.StateName.DELETED;
+import static org.jobrunr.jobs.states.StateName.ENQUEUED;
+import static org.jobrunr.jobs.states.StateName.FAILED;
+import static org.jobrunr.jobs.states.StateName.PROCESSING;
+import static org.jobrunr.jobs.states.StateName.SUCCEEDED;
+import static org.jobrunr.storage.Paging.AmountBasedList.ascOnUpdatedAt;
+import static org.jobrunr.utils.resilience.RateLimiter.Builder.rateLimit;
+
+class HikariH2JobsArchiveStorageProviderTest extends HikariH2StorageProviderTest {
+
+    @Override
+    protected StorageProvider getStorageProvider() {
+        final DefaultSqlStorageProvider storageProvider = (DefaultSqlStorageProvider) SqlStorageProviderFactory.using(getDataSource(), null, DatabaseOptions.CREATE, rateLimit().withoutLimits());
+        storageProvider.setJobsArchiveEnabled(true);
+        storageProvider.setJobMapper(new JobMapper(new JacksonJsonMapper()));
+        return storageProvider;
+    }
+
+    @Test
+    void archivedJobsAreReadFromTheJobsArchiveTable() throws SQLException {
+        Job succeededJob = storageProvider.save(aSucceededJob().build());
+        Job failedJob = storageProvider.save(aFailedJob().build());
+        Job enqueuedJob = storageProvider.save(anEnqueuedJob().build());
+
+        assertThat(storageProvider.archiveJobs(SUCCEEDED, now().plusSeconds(1), 100)).isEqualTo(1);
+        assertThat(storageProvider.archiveJobs(FAILED, now().plusSeconds(1), 100)).isEqualTo(1);
+
+        assertThat(count("jobrunr_jobs")).isEqualTo(1);
+        assertThat(count("jobrunr_jobs_archive")).isEqualTo(2);
+        assertThat(storageProvider.getJobById(succeededJob.getId())).hasStates(ENQUEUED, PROCESSING, SUCCEEDED);
+        assertThatJobs(storageProvider.getJobList(FAILED, ascOnUpdatedAt(100))).containsExactly(failedJob);
+        assertThatJobs(storageProvider.getJobList(ENQUEUED, ascOnUpdatedAt(100))).containsExactly(enqueuedJob);
+        assertThat(storageProvider.countJobs(SUCCEEDED)).isEqualTo(1);
+        assertThat(storageProvider.getJobStats().getSucceeded()).isEqualTo(1);
+        assertThat(storageProvider.getJobStats().getFailed()).isEqualTo(1);
+    }
+
+    @Test
+    void archivedJobThatIsRequeuedIsMovedBackToTheJobsTable() throws SQLException {
+        Job failedJob = storageProvider.save(aFailedJob().build());
+        storageProvider.archiveJobs(FAILED, now().plusSeconds(1), 100);
+
+        Job archivedJob = storageProvider.getJobById(failedJob.getId());
+        archivedJob.enqueue();
+        storageProvider.save(archivedJob);
+
+        assertThat(count("jobrunr_jobs")).isEqualTo(1);
+        assertThat(count("jobrunr_jobs_archive")).isZero();
+        assertThatJobs(storageProvider.getJobList(ENQUEUED, ascOnUpdatedAt(100))).containsExactly(archivedJob);
+        assertThat(storageProvider.countJobs(FAILED)).isZero();
+    }
+
+    @Test
+    void archivedJobThatIsDeletedStaysInTheJobsArchiveTable() throws SQLException {
+        Job succeededJob = storageProvider.save(aSucceededJob().build());
+        storageProvider.archiveJobs(SUCCEEDED, now().plusSeconds(1), 100);
+
+        Job archivedJob = storageProvider.getJobById(succeededJob.getId());
+        archivedJob.delete("deleted via test");
+        storageProvider.save(archivedJob);
+
+        assertThat(count("jobrunr_jobs")).isZero();
+        assertThat(count("jobrunr_jobs_archive")).isEqualTo(1);
+        assertThat(storageProvider.getJobById(succeededJob.getId())).hasState(DELETED);
+        assertThat(storageProvider.deleteJobsPermanently(DELETED, now().plusSeconds(1))).isEqualTo(1);
+        assertThat(count("jobrunr_jobs_archive")).isZero();
+    }
+
+    @Test
+    void concurrentModificationsOfArchivedJobsAreDetected() {
+        Job failedJob = storageProvider.save(aFailedJob().build());
+        storageProvider.archiveJobs(FAILED, now().plusSeconds(1), 100);
+
+        Job archivedJob1 = storageProvider.getJobById(failedJob.getId());
+        Job archivedJob2 = storageProvider.getJobById(failedJob.getId());
+        archivedJob1.delete("deleted via test");
+        storageProvider.save(archivedJob1);
+        archivedJob2.enqueue();
+
+        assertThatThrownBy(() -> storageProvider.save(archivedJob2)).isInstanceOf(ConcurrentJobModificationException.class);
+    }
+
+    private long count(String tableName) throws SQLException {
+        try (Connection connection = getDataSource().getConnection(); Statement statement = connection.createStatement(); ResultSet resultSet = statement.executeQuery("select count(*) from " + tableName)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+}
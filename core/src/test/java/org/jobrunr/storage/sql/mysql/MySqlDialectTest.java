@@ -2,7 +2,16 @@ package org.jobrunr.storage.sql.mysql;
 
 import org.junit.jupiter.api.Test;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.UUID;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.jobrunr.storage.sql.common.db.SqlUtils.uuidToBytes;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 class MySqlDialectTest {
 
@@ -32,4 +41,29 @@ class MySqlDialectTest {
         assertThat(new MySqlDialect("MySQL", "8.3.0").selectForUpdateSkipLocked())
                 .isEqualTo(" FOR UPDATE SKIP LOCKED");
     }
-}
\ No newline at end of file
+
+    @Test
+    void estimatedRowCountIsTheSumOfTheRowsOfTheTables() throws SQLException {
+        ResultSet explainResult = mock(ResultSet.class);
+        when(explainResult.next()).thenReturn(true, true, true, true, false);
+        when(explainResult.getString("table")).thenReturn("<derived2>", "jobrunr_jobs", null, "jobrunr_jobs_archive");
+        when(explainResult.getLong("rows")).thenReturn(1500L, 1000L);
+
+        assertThat(new MySqlDialect("MySQL", "8.3.0").getEstimatedRowCount(explainResult)).isEqualTo(2500L);
+    }
+
+    @Test
+    void nativeUUIDsAreBoundAndReadAsBinary() throws SQLException {
+        UUID uuid = UUID.randomUUID();
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getBytes(1)).thenReturn(uuidToBytes(uuid));
+
+        MySqlDialect dialect = (MySqlDialect) new MySqlDialect("MySQL", "8.3.0").withNativeUUIDs();
+        dialect.setParam(preparedStatement, 1, "id", uuid);
+
+        verify(preparedStatement).setBytes(1, uuidToBytes(uuid));
+        assertThat(dialect.getUUID(resultSet, 1)).isEqualTo(uuid);
+        assertThat(dialect.selectForUpdateSkipLocked()).isEqualTo(" FOR UPDATE SKIP LOCKED");
+    }
+}
@@ -1,8 +1,10 @@
 package org.jobrunr.storage.sql.postgres;
 
 import com.zaxxer.hikari.HikariDataSource;
+import org.jobrunr.storage.listeners.NewWorkAvailableListener;
 import org.jobrunr.storage.sql.SqlStorageProviderTest;
 import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.extension.AfterAllSubclasses;
 import org.junit.jupiter.extension.BeforeAllSubclasses;
@@ -12,8 +14,14 @@ import org.testcontainers.containers.PostgreSQLContainer;
 import javax.sql.DataSource;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.time.Instant.now;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.jobrunr.jobs.JobTestBuilder.aScheduledJob;
+import static org.jobrunr.jobs.JobTestBuilder.anEnqueuedJob;
+import static org.jobrunr.utils.SleepUtils.sleep;
 import static org.jobrunr.storage.sql.SqlTestUtils.toHikariDataSource;
 
 @ExtendWith(ForAllSubclassesExtension.class)
@@ -31,6 +39,23 @@ public abstract class AbstractPostgresStorageProviderTest extends SqlStorageProv
         return dataSource;
     }
 
+    @Test
+    void newWorkAvailableListenersAreNotifiedWhenJobsAreEnqueued() {
+        final AtomicInteger notificationCounter = new AtomicInteger();
+        final NewWorkAvailableListener newWorkAvailableListener = notificationCounter::incrementAndGet;
+        storageProvider.addJobStorageOnChangeListener(newWorkAvailableListener);
+        sleep(500); // why: LISTEN is done asynchronously
+
+        storageProvider.save(aScheduledJob().build());
+        sleep(1500);
+        assertThat(notificationCounter).hasValue(0);
+
+        storageProvider.save(anEnqueuedJob().build());
+        await().untilAsserted(() -> assertThat(notificationCounter).hasPositiveValue());
+
+        storageProvider.removeJobStorageOnChangeListener(newWorkAvailableListener);
+    }
+
     @AfterAll
     public static void destroyDatasource() {
         dataSource.close();
@@ -170,12 +170,38 @@ abstract class JobRunrDashboardWebServerTest {
     void testFindJobsByState() {
         storageProvider.save(anEnqueuedJob().build());
 
-        HttpResponse<String> getResponse = http.get("/api/jobs?state=ENQUEUED");
+        HttpResponse<String> getResponse = http.get("/api/jobs?state=ENQUEUED&offset=0&limit=20");
         assertThat(getResponse)
                 .hasStatusCode(200)
                 .hasSameJsonBodyAsResource("/dashboard/api/findJobsByState.json");
     }
 
+    @Test
+    void testFindJobsByStateUsingCursor() {
+        storageProvider.save(List.of(anEnqueuedJob().build(), anEnqueuedJob().build(), anEnqueuedJob().build()));
+        String nextPageRequest = storageProvider.getJobs(StateName.ENQUEUED, Paging.CursorBasedPage.ascOnUpdatedAt(2)).getNextPageRequest();
+
+        HttpResponse<String> firstPageResponse = http.get("/api/jobs?state=ENQUEUED&limit=2&order=updatedAt:ASC");
+        assertThat(firstPageResponse)
+                .hasStatusCode(200)
+                .hasJsonBody(
+                        json -> json.inPath("items").isArray().hasSize(2),
+                        json -> json.inPath("nextPageRequest").isEqualTo(nextPageRequest));
+
+        HttpResponse<String> nextPageResponse = http.get("/api/jobs?state=ENQUEUED&" + nextPageRequest);
+        assertThat(nextPageResponse)
+                .hasStatusCode(200)
+                .hasJsonBody(
+                        json -> json.inPath("items").isArray().hasSize(1),
+                        json -> json.inPath("hasNext").isEqualTo(false));
+    }
+
+    @Test
+    void testFindJobsByStateWithInvalidCursorReturns400() {
+        HttpResponse<String> getResponse = http.get("/api/jobs?state=ENQUEUED&cursor=not-a-cursor");
+        assertThat(getResponse).hasStatusCode(400);
+    }
+
     @Test
     void testGetProblems() {
         storageProvider.save(aJob().withJobDetails(methodThatDoesNotExistJobDetails()).withState(new ScheduledState(now().plus(1, DAYS))).build());
@@ -19,6 +19,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.io.File;
+import java.io.StringReader;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.Instant;
@@ -69,6 +70,30 @@ public abstract class JobMapperTest {
         assertThat(actualJob).isEqualTo(job);
     }
 
+    @Test
+    void testSerializeAndDeserializeJobWithCompression() {
+        JobMapper compressingJobMapper = new JobMapper(getJsonMapper(), JobJsonCompression.DEFLATE);
+        Job job = anEnqueuedJob()
+                .withVersion(2)
+                .build();
+
+        String jobAsString = compressingJobMapper.serializeJob(job);
+
+        assertThat(jobAsString).startsWith("#deflate:");
+        assertThat(compressingJobMapper.deserializeJob(jobAsString)).isEqualTo(job);
+        assertThat(jobMapper.deserializeJob(jobAsString)).isEqualTo(job);
+        assertThat(compressingJobMapper.deserializeJob(jobMapper.serializeJob(job))).isEqualTo(job);
+    }
+
+    @Test
+    void testDeserializeJobFromReader() {
+        JobMapper compressingJobMapper = new JobMapper(getJsonMapper(), JobJsonCompression.DEFLATE);
+        Job job = anEnqueuedJob().build();
+
+        assertThat(jobMapper.deserializeJob(new StringReader(jobMapper.serializeJob(job)))).isEqualTo(job);
+        assertThat(jobMapper.deserializeJob(new StringReader(compressingJobMapper.serializeJob(job)))).isEqualTo(job);
+    }
+
     @Test
     void testSerializeAndDeserializeProcessingJobWithLogs() {
         Job job = anEnqueuedJob().withState(new ProcessingState(UUID.randomUUID(), "not important")).build();
@@ -13,6 +13,7 @@ import org.jobrunr.server.BackgroundJobServer;
 import org.jobrunr.server.BackgroundJobServerConfigurationReader;
 import org.jobrunr.server.LogAllStateChangesFilter;
 import org.jobrunr.storage.Paging.AmountBasedList;
+import org.jobrunr.storage.Paging.CursorBasedPage;
 import org.jobrunr.storage.Paging.OffsetBasedPage;
 import org.jobrunr.storage.listeners.JobStatsChangeListener;
 import org.jobrunr.storage.listeners.MetadataChangeListener;
@@ -44,6 +45,8 @@ import static java.time.temporal.ChronoUnit.MICROS;
 import static java.time.temporal.ChronoUnit.SECONDS;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.within;
 import static org.awaitility.Awaitility.await;
@@ -600,6 +603,33 @@ public abstract class StorageProviderTest {
         assertThat(storageProvider.getRecurringJobLatestScheduledInstant(recurringJob.getId())).isNull();
     }
 
+    @Test
+    void testGetRecurringJobsLatestScheduledInstants() {
+        Instant now = Instant.now();
+        RecurringJob recurringJob1 = aDefaultRecurringJob().withId("recurring-job-1").build();
+        RecurringJob recurringJob2 = aDefaultRecurringJob().withId("recurring-job-2").build();
+        RecurringJob recurringJobWithoutJobs = aDefaultRecurringJob().withId("recurring-job-3").build();
+        Job succeededJob = recurringJob1.toScheduledJobs(now.minus(ofHours(26)), now.minus(ofHours(26)).plusSeconds(15)).get(0);
+        Job scheduledJob1 = recurringJob1.toScheduledJobs(now, now.plusSeconds(15)).get(0);
+        Job scheduledJob2 = recurringJob2.toScheduledJobs(now, now.plusSeconds(15)).get(0);
+        storageProvider.save(asList(succeededJob, scheduledJob1, scheduledJob2));
+
+        succeededJob.enqueue();
+        succeededJob.startProcessingOn(backgroundJobServer);
+        succeededJob.succeeded();
+        storageProvider.save(succeededJob);
+
+        List<String> recurringJobIds = asList(recurringJob1.getId(), recurringJob2.getId(), recurringJobWithoutJobs.getId());
+        assertThat(storageProvider.getRecurringJobsLatestScheduledInstants(recurringJobIds))
+                .hasSize(2)
+                .containsEntry(recurringJob1.getId(), ((ScheduledState) scheduledJob1.getJobState()).getScheduledAt())
+                .containsEntry(recurringJob2.getId(), ((ScheduledState) scheduledJob2.getJobState()).getScheduledAt());
+        assertThat(storageProvider.getRecurringJobsLatestScheduledInstants(recurringJobIds, SUCCEEDED))
+                .hasSize(1)
+                .containsEntry(recurringJob1.getId(), ((ScheduledState) succeededJob.getJobState(0)).getScheduledAt());
+        assertThat(storageProvider.getRecurringJobsLatestScheduledInstants(recurringJobIds, ENQUEUED, PROCESSING)).isEmpty();
+    }
+
     @Test
     void testSaveListUpdateListAndGetListOfJobs() {
         final List<Job> jobs = asList(
@@ -696,6 +726,53 @@ public abstract class StorageProviderTest {
                 .containsExactly(jobs.get(2), jobs.get(1));
     }
 
+    @Test
+    void testJobPageCanUseCursor() {
+        Instant sameUpdatedAt = now().minusSeconds(6);
+        final List<Job> jobs = asList(
+                aJob().withEnqueuedState(now().minusSeconds(10)).build(),
+                aJob().withEnqueuedState(now().minusSeconds(8)).build(),
+                aJob().withEnqueuedState(sameUpdatedAt).build(),
+                aJob().withEnqueuedState(sameUpdatedAt).build(),
+                aJob().withEnqueuedState(now().minusSeconds(2)).build()
+        );
+        storageProvider.save(jobs);
+        // jobs with the same updatedAt are ordered on their id
+        Job firstJobWithSameUpdatedAt = jobs.get(2).getId().toString().compareTo(jobs.get(3).getId().toString()) < 0 ? jobs.get(2) : jobs.get(3);
+        Job secondJobWithSameUpdatedAt = firstJobWithSameUpdatedAt == jobs.get(2) ? jobs.get(3) : jobs.get(2);
+
+        Page<Job> page1 = storageProvider.getJobs(ENQUEUED, CursorBasedPage.ascOnUpdatedAt(2));
+        assertThatJobs(page1.getItems()).containsExactly(jobs.get(0), jobs.get(1));
+        assertThat(page1.getTotal()).isEqualTo(5);
+
+        Page<Job> page2 = storageProvider.getJobs(ENQUEUED, CursorBasedPage.next(page1));
+        assertThatJobs(page2.getItems()).containsExactly(firstJobWithSameUpdatedAt, secondJobWithSameUpdatedAt);
+
+        Page<Job> page3 = storageProvider.getJobs(ENQUEUED, CursorBasedPage.next(page2));
+        assertThatJobs(page3.getItems()).containsExactly(jobs.get(4));
+        assertThat(page3.hasNextPage()).isFalse();
+
+        Page<Job> page1Desc = storageProvider.getJobs(ENQUEUED, CursorBasedPage.descOnUpdatedAt(3));
+        assertThatJobs(page1Desc.getItems()).containsExactly(jobs.get(4), secondJobWithSameUpdatedAt, firstJobWithSameUpdatedAt);
+
+        Page<Job> page2Desc = storageProvider.getJobs(ENQUEUED, CursorBasedPage.next(page1Desc));
+        assertThatJobs(page2Desc.getItems()).containsExactly(jobs.get(1), jobs.get(0));
+    }
+
+    @Test
+    void testJobPageWithApproximateCountCountsSmallAmountsExactly() {
+        storageProvider.save(asList(anEnqueuedJob().build(), anEnqueuedJob().build(), anEnqueuedJob().build()));
+
+        JobCount jobCount = storageProvider.countJobs(ENQUEUED, CountPrecision.APPROXIMATE);
+        assertThat(jobCount.getAmount()).isEqualTo(3);
+        assertThat(jobCount.isApproximate()).isFalse();
+
+        Page<Job> jobPage = storageProvider.getJobs(ENQUEUED, OffsetBasedPage.ascOnUpdatedAt(2), CountPrecision.APPROXIMATE);
+        assertThat(jobPage.getTotal()).isEqualTo(3);
+        assertThat(jobPage.isTotalApproximate()).isFalse();
+        assertThatJobs(jobPage.getItems()).hasSize(2);
+    }
+
     @Test
     void testGetListOfJobsUpdatedBefore() {
         final List<Job> jobs = asList(
@@ -740,6 +817,76 @@ public abstract class StorageProviderTest {
         assertThat(fetchedJobs).hasSize(1);
     }
 
+    @Test
+    void testDeleteJobsDeletesAllJobsEvenIfMoreThanOneBatch() {
+        storageProvider.save(IntStream.range(0, 1250)
+                .mapToObj(i -> aJob().withEnqueuedState(now().minus(2, HOURS)).build())
+                .collect(toList()));
+        storageProvider.save(aJob().withEnqueuedState(now()).build());
+
+        int amountDeleted = storageProvider.deleteJobsPermanently(ENQUEUED, now().minus(1, HOURS));
+
+        assertThat(amountDeleted).isEqualTo(1250);
+        assertThat(storageProvider.countJobs(ENQUEUED)).isEqualTo(1);
+    }
+
+    @Test
+    void testTouchProcessingJobs() {
+        final List<Job> jobs = asList(
+                aJob().withEnqueuedState(now().minus(3, HOURS)).withProcessingState(now().minus(2, HOURS)).build(),
+                aJob().withEnqueuedState(now().minus(3, HOURS)).withProcessingState(now().minus(2, HOURS)).build(),
+                aJob().withEnqueuedState(now().minus(3, HOURS)).build()
+        );
+        storageProvider.save(jobs);
+
+        int amountTouched = storageProvider.touchProcessingJobs(asList(jobs.get(0), jobs.get(2)), now());
+
+        assertThat(amountTouched).isEqualTo(1);
+        assertThatJobs(storageProvider.getJobList(PROCESSING, now().minus(1, HOURS), AmountBasedList.ascOnUpdatedAt(100)))
+                .hasSize(1)
+                .containsExactly(jobs.get(1));
+        assertThat(storageProvider.getJobById(jobs.get(0).getId()).getUpdatedAt()).isAfter(now().minus(1, HOURS));
+        assertThatCode(() -> storageProvider.save(jobs.get(0).succeeded())).doesNotThrowAnyException();
+    }
+
+    @Test
+    void testTouchProcessingJobsDoesNotTouchConcurrentlyModifiedJobs() {
+        final Job job = storageProvider.save(aJob().withEnqueuedState(now().minus(3, HOURS)).withProcessingState(now().minus(2, HOURS)).build());
+        final Job jobWithStaleVersion = storageProvider.getJobById(job.getId());
+        storageProvider.save(job);
+
+        int amountTouched = storageProvider.touchProcessingJobs(singletonList(jobWithStaleVersion), now());
+
+        assertThat(amountTouched).isZero();
+        assertThatJobs(storageProvider.getJobList(PROCESSING, now().minus(1, HOURS), AmountBasedList.ascOnUpdatedAt(100)))
+                .containsExactly(job);
+    }
+
+    @Test
+    void testDeleteSucceededJobs() {
+        final List<Job> jobs = storageProvider.save(asList(
+                aJob().withEnqueuedState(now().minus(3, HOURS)).withProcessingState(now().minus(3, HOURS)).withSucceededState(now().minus(3, HOURS)).build(),
+                aJob().withEnqueuedState(now().minus(3, HOURS)).withProcessingState(now().minus(3, HOURS)).withSucceededState(now().minus(2, HOURS)).build(),
+                aJob().withEnqueuedState(now().minus(3, HOURS)).withProcessingState(now().minus(3, HOURS)).withSucceededState(now()).build()
+        ));
+
+        assertThat(storageProvider.deleteSucceededJobs(now().minus(1, HOURS), 1)).isEqualTo(1);
+        assertThat(storageProvider.deleteSucceededJobs(now().minus(1, HOURS), 10)).isEqualTo(1);
+        assertThat(storageProvider.deleteSucceededJobs(now().minus(1, HOURS), 10)).isZero();
+
+        assertThat(storageProvider.getJobById(jobs.get(0).getId())).hasStates(ENQUEUED, PROCESSING, SUCCEEDED, DELETED);
+        assertThat(storageProvider.getJobById(jobs.get(2).getId())).hasStates(ENQUEUED, PROCESSING, SUCCEEDED);
+        assertThat(storageProvider.countJobs(DELETED)).isEqualTo(2);
+        assertThatJobs(storageProvider.getJobList(DELETED, AmountBasedList.ascOnUpdatedAt(100)))
+                .extracting(Job::getId)
+                .containsExactlyInAnyOrder(jobs.get(0).getId(), jobs.get(1).getId());
+
+        Job deletedJob = storageProvider.getJobById(jobs.get(1).getId());
+        deletedJob.enqueue();
+        assertThatCode(() -> storageProvider.save(deletedJob)).doesNotThrowAnyException();
+        assertThat(storageProvider.getJobById(deletedJob.getId())).hasStates(ENQUEUED, PROCESSING, SUCCEEDED, DELETED, ENQUEUED);
+    }
+
     @Test
     void testGetCarbonAwareJobsList() {
         final List<Job> jobs = storageProvider.save(asList(
@@ -846,6 +993,47 @@ public abstract class StorageProviderTest {
         assertThat(deletedForNonExistingJob).isEqualTo(0);
     }
 
+    @Test
+    void testGetRecurringJobsChangedSince() {
+        RecurringJob recurringJobToUpdate = aDefaultRecurringJob().withId("job-to-update").withCronExpression(Cron.daily()).build();
+        RecurringJob recurringJobToDelete = aDefaultRecurringJob().withId("job-to-delete").withCronExpression(Cron.daily()).build();
+        storageProvider.saveRecurringJob(recurringJobToUpdate);
+        storageProvider.saveRecurringJob(recurringJobToDelete);
+        RecurringJobsResult recurringJobsResult = storageProvider.getRecurringJobs();
+
+        storageProvider.saveRecurringJob(aDefaultRecurringJob().withId("job-to-update").withCronExpression(Cron.hourly()).build());
+        storageProvider.deleteRecurringJob("job-to-delete");
+        storageProvider.saveRecurringJob(aDefaultRecurringJob().withId("new-job").withCronExpression(Cron.minutely()).build());
+
+        RecurringJobsResult changedRecurringJobsResult = storageProvider.getRecurringJobsChangedSince(recurringJobsResult);
+        assertThat(changedRecurringJobsResult)
+                .extracting(RecurringJob::getId)
+                .containsExactlyInAnyOrder("job-to-update", "new-job");
+        assertThat(changedRecurringJobsResult)
+                .filteredOn(recurringJob -> "job-to-update".equals(recurringJob.getId()))
+                .singleElement()
+                .extracting(RecurringJob::getScheduleExpression)
+                .isEqualTo(Cron.hourly());
+        assertThat(storageProvider.recurringJobsUpdated(changedRecurringJobsResult.getLastModifiedHash())).isFalse();
+
+        storageProvider.saveRecurringJob(recurringJobToDelete);
+        assertThat(storageProvider.getRecurringJobsChangedSince(changedRecurringJobsResult))
+                .extracting(RecurringJob::getId)
+                .containsExactlyInAnyOrder("job-to-update", "new-job", "job-to-delete");
+    }
+
+    @Test
+    void recurringJobsUpdatedDetectsUpdatesThatKeepTheCreatedAtOfTheRecurringJob() {
+        RecurringJob recurringJob = aDefaultRecurringJob().withId("my-job").withCronExpression(Cron.daily()).build();
+        storageProvider.saveRecurringJob(recurringJob);
+        RecurringJobsResult recurringJobsResult = storageProvider.getRecurringJobs();
+        assertThat(storageProvider.recurringJobsUpdated(recurringJobsResult.getLastModifiedHash())).isFalse();
+
+        storageProvider.saveRecurringJob(recurringJob);
+
+        assertThat(storageProvider.recurringJobsUpdated(recurringJobsResult.getLastModifiedHash())).isTrue();
+    }
+
     @RepeatedIfExceptionsTest(repeats = 3)
     void testOnChangeListenerForSaveAndDeleteJob() {
         final SimpleJobStorageOnChangeListener onChangeListener = new SimpleJobStorageOnChangeListener();
@@ -23,12 +23,15 @@ import org.mockito.Mockito;
 import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Spliterator;
 
 import static org.jobrunr.server.BackgroundJobServerConfiguration.usingStandardBackgroundJobServerConfiguration;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -60,6 +63,10 @@ public class Mocks {
         when(resultSetMock.next()).thenReturn(true, true, true, true, false);
         when(resultSetMock.getString("TABLE_NAME")).thenReturn("jobrunr_jobs", "jobrunr_recurring_jobs", "jobrunr_backgroundjobservers", "jobrunr_metadata");
 
+        PreparedStatement preparedStatementMock = mock(PreparedStatement.class);
+        when(connectionMock.prepareStatement(anyString(), anyInt(), anyInt())).thenReturn(preparedStatementMock);
+        when(preparedStatementMock.executeQuery()).thenReturn(mock(ResultSet.class));
+
         return dataSourceMock;
     }
 
@@ -4,6 +4,7 @@ import io.micronaut.context.annotation.ConfigurationProperties;
 import io.micronaut.context.annotation.Context;
 import io.micronaut.core.bind.annotation.Bindable;
 import jakarta.validation.constraints.NotNull;
+import org.jobrunr.jobs.mappers.JobJsonCompression;
 import org.jobrunr.server.configuration.BackgroundJobServerThreadType;
 
 import java.time.Duration;
@@ -81,6 +82,40 @@ public interface JobRunrConfiguration {
          * Valid values are 'sql' and 'mongodb' and 'mem'.
          */
         Optional<String> getType();
+
+        /**
+         * Allows to compress the json of the jobs in the database. Valid values are 'none' and 'deflate'. Jobs that were stored without
+         * compression can still be read when it is enabled. By default, the jobs are not compressed.
+         */
+        Optional<JobJsonCompression> getJobJsonCompression();
+
+        /**
+         * Enables the job state counters (only used by SQL databases), so that the job stats need not count all jobs. Once enabled, this must be
+         * enabled for all applications that use the same database.
+         */
+        @Bindable(defaultValue = "false")
+        boolean isJobStateCountersEnabled();
+
+        /**
+         * Enables the append-only jobrunr_job_states table (only used by SQL databases), so that a state change does not rewrite the complete job
+         * history. Once enabled, this must be enabled for all applications that use the same database.
+         */
+        @Bindable(defaultValue = "false")
+        boolean isJobStatesTableEnabled();
+
+        /**
+         * Enables the jobrunr_jobs_archive table (only used by SQL databases) to which finished jobs are moved. This also enables the job state
+         * counters. Once enabled, this must be enabled for all applications that use the same database.
+         */
+        @Bindable(defaultValue = "false")
+        boolean isJobsArchiveEnabled();
+
+        /**
+         * Enables the native UUID column type for the id columns (only used by SQL databases). Once enabled, this must be enabled for all
+         * applications that use the same database.
+         */
+        @Bindable(defaultValue = "false")
+        boolean isNativeUuidsEnabled();
     }
 
     @ConfigurationProperties("jobScheduler")
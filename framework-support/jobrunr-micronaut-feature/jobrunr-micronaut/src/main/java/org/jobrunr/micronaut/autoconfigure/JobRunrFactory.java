@@ -10,6 +10,7 @@ import org.jobrunr.dashboard.JobRunrDashboardWebServerConfiguration;
 import org.jobrunr.jobs.details.CachingJobDetailsGenerator;
 import org.jobrunr.jobs.details.JobDetailsGenerator;
 import org.jobrunr.jobs.filters.RetryFilter;
+import org.jobrunr.jobs.mappers.JobJsonCompression;
 import org.jobrunr.jobs.mappers.JobMapper;
 import org.jobrunr.scheduling.JobRequestScheduler;
 import org.jobrunr.scheduling.JobScheduler;
@@ -133,7 +134,7 @@ public class JobRunrFactory {
 
     @Singleton
     public JobMapper jobMapper(JsonMapper jobRunrJsonMapper) {
-        return new JobMapper(jobRunrJsonMapper);
+        return new JobMapper(jobRunrJsonMapper, configuration.getDatabase().getJobJsonCompression().orElse(JobJsonCompression.NONE));
     }
 
     @Singleton
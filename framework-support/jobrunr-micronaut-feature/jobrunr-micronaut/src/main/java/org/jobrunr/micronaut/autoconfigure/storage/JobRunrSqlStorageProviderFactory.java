@@ -12,6 +12,7 @@ import org.jobrunr.micronaut.autoconfigure.JobRunrConfiguration;
 import org.jobrunr.micronaut.autoconfigure.storage.sql.DelegatingDatasourceExtractor;
 import org.jobrunr.storage.StorageProvider;
 import org.jobrunr.storage.StorageProviderUtils;
+import org.jobrunr.storage.sql.common.DefaultSqlStorageProvider;
 
 import javax.sql.DataSource;
 
@@ -30,10 +31,20 @@ public class JobRunrSqlStorageProviderFactory {
         String tablePrefix = configuration.getDatabase().getTablePrefix().orElse(null);
         StorageProviderUtils.DatabaseOptions databaseOptions = configuration.getDatabase().isSkipCreate() ? StorageProviderUtils.DatabaseOptions.SKIP_CREATE : StorageProviderUtils.DatabaseOptions.CREATE;
         StorageProvider storageProvider = org.jobrunr.storage.sql.common.SqlStorageProviderFactory.using(dataSource, tablePrefix, databaseOptions);
+        if (storageProvider instanceof DefaultSqlStorageProvider sqlStorageProvider) {
+            enableOptInFeatures(sqlStorageProvider, configuration.getDatabase());
+        }
         storageProvider.setJobMapper(jobMapper);
         return storageProvider;
     }
 
+    private void enableOptInFeatures(DefaultSqlStorageProvider storageProvider, JobRunrConfiguration.DatabaseConfiguration database) {
+        if (database.isJobStateCountersEnabled()) storageProvider.setJobStateCountersEnabled(true);
+        if (database.isJobStatesTableEnabled()) storageProvider.setJobStatesTableEnabled(true);
+        if (database.isJobsArchiveEnabled()) storageProvider.setJobsArchiveEnabled(true);
+        if (database.isNativeUuidsEnabled()) storageProvider.setNativeUUIDsEnabled(true);
+    }
+
     private DataSource getDataSource(BeanContext beanContext) {
         DataSource dataSource = configuration.getDatabase().getDatasource()
                 .map(datasourceName -> beanContext.getBean(DataSource.class, Qualifiers.byName(datasourceName)))
@@ -55,7 +55,7 @@ public class JobRunrProducer {
     @DefaultBean
     @Singleton
     public JobMapper jobMapper(JsonMapper jobRunrJsonMapper) {
-        return new JobMapper(jobRunrJsonMapper);
+        return new JobMapper(jobRunrJsonMapper, jobRunrRuntimeConfiguration.database().jobJsonCompression());
     }
 
 
@@ -4,6 +4,7 @@ import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
 import io.smallrye.config.ConfigMapping;
 import io.smallrye.config.WithDefault;
+import org.jobrunr.jobs.mappers.JobJsonCompression;
 import org.jobrunr.server.configuration.BackgroundJobServerThreadType;
 
 import java.time.Duration;
@@ -71,6 +72,41 @@ public interface JobRunrRuntimeConfiguration {
          * Valid values are 'sql', 'mongodb' and 'documentdb'.
          */
         Optional<String> type();
+
+        /**
+         * Allows to compress the json of the jobs in the database. Valid values are 'none' and 'deflate'. Jobs that were stored without
+         * compression can still be read when it is enabled. By default, the jobs are not compressed.
+         */
+        @WithDefault("none")
+        JobJsonCompression jobJsonCompression();
+
+        /**
+         * Enables the job state counters (only used by SQL databases), so that the job stats need not count all jobs. Once enabled, this must be
+         * enabled for all applications that use the same database.
+         */
+        @WithDefault("false")
+        boolean jobStateCountersEnabled();
+
+        /**
+         * Enables the append-only jobrunr_job_states table (only used by SQL databases), so that a state change does not rewrite the complete job
+         * history. Once enabled, this must be enabled for all applications that use the same database.
+         */
+        @WithDefault("false")
+        boolean jobStatesTableEnabled();
+
+        /**
+         * Enables the jobrunr_jobs_archive table (only used by SQL databases) to which finished jobs are moved. This also enables the job state
+         * counters. Once enabled, this must be enabled for all applications that use the same database.
+         */
+        @WithDefault("false")
+        boolean jobsArchiveEnabled();
+
+        /**
+         * Enables the native UUID column type for the id columns (only used by SQL databases). Once enabled, this must be enabled for all
+         * applications that use the same database.
+         */
+        @WithDefault("false")
+        boolean nativeUuidsEnabled();
     }
 
     interface JobsConfiguration {
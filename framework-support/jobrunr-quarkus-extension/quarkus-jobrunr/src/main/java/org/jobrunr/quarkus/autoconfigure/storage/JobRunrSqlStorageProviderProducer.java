@@ -11,6 +11,7 @@ import org.jobrunr.jobs.mappers.JobMapper;
 import org.jobrunr.quarkus.autoconfigure.JobRunrRuntimeConfiguration;
 import org.jobrunr.storage.StorageProvider;
 import org.jobrunr.storage.StorageProviderUtils.DatabaseOptions;
+import org.jobrunr.storage.sql.common.DefaultSqlStorageProvider;
 import org.jobrunr.storage.sql.common.SqlStorageProviderFactory;
 
 import javax.sql.DataSource;
@@ -28,10 +29,20 @@ public class JobRunrSqlStorageProviderProducer {
         String tablePrefix = configuration.database().tablePrefix().orElse(null);
         DatabaseOptions databaseOptions = configuration.database().skipCreate() ? DatabaseOptions.SKIP_CREATE : DatabaseOptions.CREATE;
         StorageProvider storageProvider = SqlStorageProviderFactory.using(getDataSource(dataSources, configuration), tablePrefix, databaseOptions);
+        if (storageProvider instanceof DefaultSqlStorageProvider sqlStorageProvider) {
+            enableOptInFeatures(sqlStorageProvider, configuration.database());
+        }
         storageProvider.setJobMapper(jobMapper);
         return storageProvider;
     }
 
+    private void enableOptInFeatures(DefaultSqlStorageProvider storageProvider, JobRunrRuntimeConfiguration.DatabaseConfiguration database) {
+        if (database.jobStateCountersEnabled()) storageProvider.setJobStateCountersEnabled(true);
+        if (database.jobStatesTableEnabled()) storageProvider.setJobStatesTableEnabled(true);
+        if (database.jobsArchiveEnabled()) storageProvider.setJobsArchiveEnabled(true);
+        if (database.nativeUuidsEnabled()) storageProvider.setNativeUUIDsEnabled(true);
+    }
+
     private DataSource getDataSource(Instance<DataSource> dataSources, JobRunrRuntimeConfiguration configuration) {
         return dataSources.select(DataSource.class, toAnnotationQualifier(configuration.database().datasource())).get();
     }
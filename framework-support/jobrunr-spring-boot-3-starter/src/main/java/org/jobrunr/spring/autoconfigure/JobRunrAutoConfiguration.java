@@ -166,8 +166,8 @@ public class JobRunrAutoConfiguration {
 
     @Bean
     @ConditionalOnMissingBean
-    public JobMapper jobMapper(JsonMapper jobRunrJsonMapper) {
-        return new JobMapper(jobRunrJsonMapper);
+    public JobMapper jobMapper(JsonMapper jobRunrJsonMapper, JobRunrProperties properties) {
+        return new JobMapper(jobRunrJsonMapper, properties.getDatabase().getJobJsonCompression());
     }
 
     @Bean
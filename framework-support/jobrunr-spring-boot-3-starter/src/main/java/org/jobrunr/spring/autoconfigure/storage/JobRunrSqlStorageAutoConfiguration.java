@@ -5,6 +5,7 @@ import org.jobrunr.spring.autoconfigure.JobRunrAutoConfiguration;
 import org.jobrunr.spring.autoconfigure.JobRunrProperties;
 import org.jobrunr.storage.StorageProvider;
 import org.jobrunr.storage.StorageProviderUtils.DatabaseOptions;
+import org.jobrunr.storage.sql.common.DefaultSqlStorageProvider;
 import org.jobrunr.storage.sql.common.SqlStorageProviderFactory;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
@@ -31,10 +32,20 @@ public class JobRunrSqlStorageAutoConfiguration {
         String tablePrefix = properties.getDatabase().getTablePrefix();
         DatabaseOptions databaseOptions = properties.getDatabase().isSkipCreate() ? DatabaseOptions.SKIP_CREATE : DatabaseOptions.CREATE;
         StorageProvider storageProvider = SqlStorageProviderFactory.using(getDataSource(beanFactory, properties), tablePrefix, databaseOptions);
+        if (storageProvider instanceof DefaultSqlStorageProvider sqlStorageProvider) {
+            enableOptInFeatures(sqlStorageProvider, properties.getDatabase());
+        }
         storageProvider.setJobMapper(jobMapper);
         return storageProvider;
     }
 
+    private void enableOptInFeatures(DefaultSqlStorageProvider storageProvider, JobRunrProperties.Database database) {
+        if (database.isJobStateCountersEnabled()) storageProvider.setJobStateCountersEnabled(true);
+        if (database.isJobStatesTableEnabled()) storageProvider.setJobStatesTableEnabled(true);
+        if (database.isJobsArchiveEnabled()) storageProvider.setJobsArchiveEnabled(true);
+        if (database.isNativeUuidsEnabled()) storageProvider.setNativeUUIDsEnabled(true);
+    }
+
     private DataSource getDataSource(BeanFactory beanFactory, JobRunrProperties properties) {
         if (isNotNullOrEmpty(properties.getDatabase().getDatasource())) {
             return beanFactory.getBean(properties.getDatabase().getDatasource(), DataSource.class);
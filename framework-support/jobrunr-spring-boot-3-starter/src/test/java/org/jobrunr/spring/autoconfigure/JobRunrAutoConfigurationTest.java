@@ -4,6 +4,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.gson.Gson;
 import com.mongodb.client.MongoClient;
 import org.jobrunr.dashboard.JobRunrDashboardWebServer;
+import org.jobrunr.jobs.mappers.JobJsonCompression;
+import org.jobrunr.jobs.mappers.JobMapper;
 import org.jobrunr.kotlin.utils.mapper.KotlinxSerializationJsonMapper;
 import org.jobrunr.scheduling.JobRequestScheduler;
 import org.jobrunr.scheduling.JobScheduler;
@@ -296,6 +298,24 @@ public class JobRunrAutoConfigurationTest {
         });
     }
 
+    @Test
+    void jobJsonCompressionCanBeConfigured() {
+        this.contextRunner.withPropertyValues("jobrunr.database.job-json-compression=deflate").withUserConfiguration(InMemoryStorageProvider.class).run((context) -> {
+            assertThat(context.getBean(JobMapper.class)).extracting("jobJsonCompression").isEqualTo(JobJsonCompression.DEFLATE);
+        });
+    }
+
+    @Test
+    void sqlOptInFeaturesCanBeConfigured() {
+        this.contextRunner.withPropertyValues("jobrunr.database.job-states-table-enabled=true", "jobrunr.database.jobs-archive-enabled=true", "jobrunr.database.native-uuids-enabled=true").withUserConfiguration(InMemoryStorageProvider.class).run((context) -> {
+            JobRunrProperties.Database database = context.getBean(JobRunrProperties.class).getDatabase();
+            assertThat(database.isJobStatesTableEnabled()).isTrue();
+            assertThat(database.isJobsArchiveEnabled()).isTrue();
+            assertThat(database.isJobStateCountersEnabled()).isFalse();
+            assertThat(database.isNativeUuidsEnabled()).isTrue();
+        });
+    }
+
     @Test
     void mongoDBStorageProviderAutoConfiguration() {
         this.contextRunner.withUserConfiguration(MongoDBStorageProviderConfiguration.class).run((context) -> {
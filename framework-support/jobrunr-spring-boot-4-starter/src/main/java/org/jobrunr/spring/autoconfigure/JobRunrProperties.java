@@ -2,6 +2,7 @@ package org.jobrunr.spring.autoconfigure;
 
 import org.jobrunr.jobs.details.CachingJobDetailsGenerator;
 import org.jobrunr.jobs.filters.RetryFilter;
+import org.jobrunr.jobs.mappers.JobJsonCompression;
 import org.jobrunr.server.configuration.BackgroundJobServerThreadType;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.convert.DurationUnit;
@@ -101,6 +102,36 @@ public class JobRunrProperties {
          */
         private String type;
 
+        /**
+         * Allows to compress the json of the jobs in the database. Valid values are 'none' and 'deflate'. Jobs that were stored without
+         * compression can still be read when it is enabled. By default, the jobs are not compressed.
+         */
+        private JobJsonCompression jobJsonCompression = JobJsonCompression.NONE;
+
+        /**
+         * Enables the job state counters (only used by SQL databases), so that the job stats need not count all jobs. Once enabled, this must be
+         * enabled for all applications that use the same database.
+         */
+        private boolean jobStateCountersEnabled = false;
+
+        /**
+         * Enables the append-only jobrunr_job_states table (only used by SQL databases), so that a state change does not rewrite the complete job
+         * history. Once enabled, this must be enabled for all applications that use the same database.
+         */
+        private boolean jobStatesTableEnabled = false;
+
+        /**
+         * Enables the jobrunr_jobs_archive table (only used by SQL databases) to which finished jobs are moved. This also enables the job state
+         * counters. Once enabled, this must be enabled for all applications that use the same database.
+         */
+        private boolean jobsArchiveEnabled = false;
+
+        /**
+         * Enables the native UUID column type for the id columns (only used by SQL databases). Once enabled, this must be enabled for all
+         * applications that use the same database.
+         */
+        private boolean nativeUuidsEnabled = false;
+
         public void setSkipCreate(boolean skipCreate) {
             this.skipCreate = skipCreate;
         }
@@ -140,6 +171,46 @@ public class JobRunrProperties {
         public void setType(String type) {
             this.type = type;
         }
+
+        public JobJsonCompression getJobJsonCompression() {
+            return jobJsonCompression;
+        }
+
+        public void setJobJsonCompression(JobJsonCompression jobJsonCompression) {
+            this.jobJsonCompression = jobJsonCompression;
+        }
+
+        public boolean isJobStateCountersEnabled() {
+            return jobStateCountersEnabled;
+        }
+
+        public void setJobStateCountersEnabled(boolean jobStateCountersEnabled) {
+            this.jobStateCountersEnabled = jobStateCountersEnabled;
+        }
+
+        public boolean isJobStatesTableEnabled() {
+            return jobStatesTableEnabled;
+        }
+
+        public void setJobStatesTableEnabled(boolean jobStatesTableEnabled) {
+            this.jobStatesTableEnabled = jobStatesTableEnabled;
+        }
+
+        public boolean isJobsArchiveEnabled() {
+            return jobsArchiveEnabled;
+        }
+
+        public void setJobsArchiveEnabled(boolean jobsArchiveEnabled) {
+            this.jobsArchiveEnabled = jobsArchiveEnabled;
+        }
+
+        public boolean isNativeUuidsEnabled() {
+            return nativeUuidsEnabled;
+        }
+
+        public void setNativeUuidsEnabled(boolean nativeUuidsEnabled) {
+            this.nativeUuidsEnabled = nativeUuidsEnabled;
+        }
     }
 
     /**